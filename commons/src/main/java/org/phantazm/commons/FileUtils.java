@@ -139,4 +139,20 @@ public final class FileUtils {
          */
         void accept(TType object) throws IOException;
     }
+
+    /**
+     * A {@link Supplier}-like interface that can throw an {@link IOException}.
+     *
+     * @param <TType> the type of object to supply
+     */
+    @FunctionalInterface
+    public interface IOSupplier<TType> {
+        /**
+         * Supplies an object.
+         *
+         * @return the supplied object
+         * @throws IOException if an IOException occurs
+         */
+        TType get() throws IOException;
+    }
 }
@@ -0,0 +1,106 @@
+package org.phantazm.commons;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe histogram of non-negative {@code long} values, using power-of-two buckets. Recording a value never
+ * allocates and never blocks. Percentiles are approximate: they report the upper bound of the bucket the percentile
+ * falls into.
+ */
+public class Histogram {
+    private static final int BUCKETS = Long.SIZE + 1;
+
+    /**
+     * An immutable view of a {@link Histogram} at some point in time.
+     *
+     * @param count the number of recorded values
+     * @param sum   the sum of all recorded values
+     * @param max   the largest recorded value, or 0 if no values have been recorded
+     * @param p50   the approximate median
+     * @param p99   the approximate 99th percentile
+     */
+    public record Snapshot(long count, long sum, long max, long p50, long p99) {
+        /**
+         * The mean of all recorded values.
+         *
+         * @return the mean, or 0 if no values have been recorded
+         */
+        public double mean() {
+            return count == 0 ? 0 : (double)sum / count;
+        }
+    }
+
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final LongAdder sum;
+    private final LongAccumulator max;
+
+    public Histogram() {
+        this.buckets = new AtomicLongArray(BUCKETS);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new LongAccumulator(Math::max, 0);
+    }
+
+    private static int bucket(long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket == 0 ? 0 : bucket == Long.SIZE ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+
+        buckets.incrementAndGet(bucket(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Creates a snapshot of this histogram. Values recorded concurrently with this call may or may not be included.
+     *
+     * @return a new snapshot
+     */
+    public @NotNull Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts[i] = buckets.get(i);
+        }
+
+        long maxValue = max.get();
+        return new Snapshot(total, sum.sum(), maxValue, Math.min(percentile(counts, total, 0.5), maxValue),
+                Math.min(percentile(counts, total, 0.99), maxValue));
+    }
+
+    private static long percentile(long[] counts, long total, double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+
+        long threshold = (long)Math.ceil(total * percentile);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= threshold) {
+                return upperBound(i);
+            }
+        }
+
+        return upperBound(counts.length - 1);
+    }
+}
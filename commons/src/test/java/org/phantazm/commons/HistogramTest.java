@@ -0,0 +1,43 @@
+package org.phantazm.commons;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class HistogramTest {
+    @Test
+    public void emptySnapshot() {
+        Histogram.Snapshot snapshot = new Histogram().snapshot();
+
+        assertEquals(0, snapshot.count());
+        assertEquals(0, snapshot.max());
+        assertEquals(0, snapshot.p99());
+        assertEquals(0, snapshot.mean());
+    }
+
+    @Test
+    public void percentilesAreBucketUpperBounds() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.count());
+        assertEquals(5050, snapshot.sum());
+        assertEquals(100, snapshot.max());
+        assertEquals(63, snapshot.p50());
+        assertEquals(100, snapshot.p99());
+    }
+
+    @Test
+    public void negativeValuesRecordedAsZero() {
+        Histogram histogram = new Histogram();
+        histogram.record(-10);
+
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1, snapshot.count());
+        assertEquals(0, snapshot.sum());
+        assertEquals(0, snapshot.p50());
+    }
+}
@@ -2,6 +2,9 @@ package org.phantazm.core;
 
 import com.github.steanky.vector.HashVec3I2ObjectMap;
 import com.github.steanky.vector.Vec3I2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minestom.server.coordinate.Point;
@@ -19,19 +22,25 @@ import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.listener.PlayerDiggingListener;
+import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import org.jetbrains.annotations.NotNull;
+import org.phantazm.core.instance.MultiBlockChangeBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 
 /**
- * Supports instance-wide client blocks.
+ * <p>Supports instance-wide client blocks.</p>
+ *
+ * <p>In buffered mode, client block changes are not sent immediately. Instead, every position changed during a tick is
+ * sent on the next instance tick, using one {@link MultiBlockChangePacket} per chunk section.</p>
  *
  * @see ClientBlockHandlerSource
  */
@@ -42,6 +51,11 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
     private final Long2ObjectMap<Vec3I2ObjectMap<PositionedBlock>> clientBlocks;
     private final int chunkFloor;
     private final int chunkHeight;
+    private final boolean buffered;
+
+    private final Long2ObjectMap<IntSet> pendingUpdates;
+    private final Long2ObjectMap<CachedPacket[]> replayPackets;
+    private boolean flushScheduled;
 
     private final EventNode<InstanceEvent> childNode;
 
@@ -53,14 +67,18 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
      *
      * @param instance   the instance this handler is bound to
      * @param globalNode the node to add block event listeners to
+     * @param buffered   whether client block changes should be buffered and sent once per tick
      */
     public InstanceClientBlockHandler(@NotNull Instance instance, @NotNull EventNode<Event> globalNode, int chunkFloor,
-            int chunkHeight) {
+            int chunkHeight, boolean buffered) {
         //weakref necessary as instance field will be captured by the expiration predicate
         this.instance = new WeakReference<>(Objects.requireNonNull(instance, "instance"));
         this.clientBlocks = new Long2ObjectOpenHashMap<>();
         this.chunkFloor = chunkFloor;
         this.chunkHeight = chunkHeight;
+        this.buffered = buffered;
+        this.pendingUpdates = new Long2ObjectOpenHashMap<>();
+        this.replayPackets = new Long2ObjectOpenHashMap<>();
 
         this.childNode = EventNode.event("instance_client_block_handler{" + instance.getUniqueId() + "}",
                 EventFilter.from(InstanceEvent.class, Instance.class, InstanceEvent::getInstance), instanceEvent -> {
@@ -77,6 +95,18 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
         globalNode.addChild(childNode);
     }
 
+    /**
+     * Constructs a new, unbuffered instance of this class bound to the provided {@link Instance}.
+     *
+     * @param instance   the instance this handler is bound to
+     * @param globalNode the node to add block event listeners to
+     * @see InstanceClientBlockHandler#InstanceClientBlockHandler(Instance, EventNode, int, int, boolean)
+     */
+    public InstanceClientBlockHandler(@NotNull Instance instance, @NotNull EventNode<Event> globalNode, int chunkFloor,
+            int chunkHeight) {
+        this(instance, globalNode, chunkFloor, chunkHeight, false);
+    }
+
     @Override
     public void setClientBlock(@NotNull Block type, int x, int y, int z) {
         Instance instance = this.instance.get();
@@ -103,10 +133,7 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
                 block.block = type;
             }
 
-            Chunk chunk = instance.getChunk(cx, cz);
-            if (chunk != null) {
-                chunk.sendPacketToViewers(new BlockChangePacket(new Vec(x, y, z), type));
-            }
+            update(instance, index, x, y, z);
         }
     }
 
@@ -123,13 +150,16 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
                 int x = ChunkUtils.getChunkCoordX(index);
                 int z = ChunkUtils.getChunkCoordZ(index);
 
-                Chunk chunk = instance.getChunkAt(x, z);
+                Chunk chunk = instance.getChunk(x, z);
                 Vec3I2ObjectMap<PositionedBlock> blocks = entry.getValue();
                 if (chunk != null) {
+                    MultiBlockChangeBuilder builder = new MultiBlockChangeBuilder(x, z);
                     for (PositionedBlock block : blocks.values()) {
-                        Block serverBlock = chunk.getBlock(block.x, block.y, block.z);
-                        chunk.sendPacketToViewers(
-                                new BlockChangePacket(new Vec(block.x, block.y, block.z), serverBlock));
+                        builder.add(block.x, block.y, block.z, chunk.getBlock(block.x, block.y, block.z));
+                    }
+
+                    for (MultiBlockChangePacket packet : builder.build()) {
+                        chunk.sendPacketToViewers(packet);
                     }
                 }
 
@@ -137,6 +167,8 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
             }
 
             clientBlocks.clear();
+            pendingUpdates.clear();
+            replayPackets.clear();
         }
     }
 
@@ -155,27 +187,98 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
 
             if (blocks != null) {
                 if (blocks.remove(x, y, z) != null) {
-                    Chunk chunk = instance.getChunk(cx, cz);
-
-                    if (chunk != null) {
-                        Block serverBlock = chunk.getBlock(x, y, z);
-
-                        //make sure player gets the actual block
-                        chunk.sendPacketToViewers(new BlockChangePacket(new Vec(x, y, z), serverBlock));
-                    }
-
                     if (blocks.isEmpty()) {
                         clientBlocks.remove(index);
                     }
+
+                    //make sure player gets the actual block
+                    update(instance, index, x, y, z);
                 }
             }
         }
     }
 
+    private void update(Instance instance, long index, int x, int y, int z) {
+        replayPackets.remove(index);
+
+        if (buffered) {
+            pendingUpdates.computeIfAbsent(index, ignored -> new IntOpenHashSet()).add(packLocal(x, y, z));
+            if (!flushScheduled) {
+                flushScheduled = true;
+                instance.scheduleNextTick(ignored -> flush());
+            }
+
+            return;
+        }
+
+        Chunk chunk = instance.getChunk(ChunkUtils.getChunkCoordinate(x), ChunkUtils.getChunkCoordinate(z));
+        if (chunk != null) {
+            chunk.sendPacketToViewers(new BlockChangePacket(new Vec(x, y, z), visibleBlock(chunk, index, x, y, z)));
+        }
+    }
+
+    private void flush() {
+        Instance instance = this.instance.get();
+        if (instance == null) {
+            return;
+        }
+
+        synchronized (clientBlocks) {
+            flushScheduled = false;
+
+            for (Long2ObjectMap.Entry<IntSet> entry : pendingUpdates.long2ObjectEntrySet()) {
+                long index = entry.getLongKey();
+                int cx = ChunkUtils.getChunkCoordX(index);
+                int cz = ChunkUtils.getChunkCoordZ(index);
+
+                Chunk chunk = instance.getChunk(cx, cz);
+                if (chunk == null) {
+                    //viewers will get the current client blocks when the chunk loads
+                    continue;
+                }
+
+                MultiBlockChangeBuilder builder = new MultiBlockChangeBuilder(cx, cz);
+                IntIterator iterator = entry.getValue().iterator();
+                while (iterator.hasNext()) {
+                    int packed = iterator.nextInt();
+                    int x = (cx << 4) | ((packed >> 4) & 15);
+                    int y = (packed >>> 8) + chunkFloor;
+                    int z = (cz << 4) | (packed & 15);
+
+                    builder.add(x, y, z, visibleBlock(chunk, index, x, y, z));
+                }
+
+                for (MultiBlockChangePacket packet : builder.build()) {
+                    chunk.sendPacketToViewers(packet);
+                }
+            }
+
+            pendingUpdates.clear();
+        }
+    }
+
+    private Block visibleBlock(Chunk chunk, long index, int x, int y, int z) {
+        Vec3I2ObjectMap<PositionedBlock> blocks = clientBlocks.get(index);
+        if (blocks != null) {
+            PositionedBlock block = blocks.get(x, y, z);
+            if (block != null) {
+                return block.block;
+            }
+        }
+
+        return chunk.getBlock(x, y, z);
+    }
+
+    private int packLocal(int x, int y, int z) {
+        return (y - chunkFloor) << 8 | (x & 15) << 4 | (z & 15);
+    }
+
     private void onInstanceUnregister(InstanceUnregisterEvent event) {
         this.instance.clear();
         synchronized (clientBlocks) {
             this.clientBlocks.clear();
+            this.pendingUpdates.clear();
+            this.replayPackets.clear();
         }
 
         EventNode<? super InstanceEvent> parent = childNode.getParent();
@@ -216,9 +319,11 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
 
             if (blocks != null) {
                 //remove the client block; no need to send something else as it will be updated soon
-                if (blocks.remove(blockPosition.blockX(), blockPosition.blockY(), blockPosition.blockZ()) != null &&
-                        blocks.isEmpty()) {
-                    clientBlocks.remove(index);
+                if (blocks.remove(blockPosition.blockX(), blockPosition.blockY(), blockPosition.blockZ()) != null) {
+                    replayPackets.remove(index);
+                    if (blocks.isEmpty()) {
+                        clientBlocks.remove(index);
+                    }
                 }
             }
         }
@@ -243,24 +348,34 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
         int cx = event.getChunkX();
         int cz = event.getChunkZ();
 
-        BlockChangePacket[] packets = null;
+        CachedPacket[] packets;
         long index = ChunkUtils.getChunkIndex(cx, cz);
         synchronized (clientBlocks) {
-            Vec3I2ObjectMap<PositionedBlock> blocks = clientBlocks.get(index);
+            packets = replayPackets.get(index);
 
-            if (blocks != null) {
-                Iterator<PositionedBlock> blockIterator = blocks.values().iterator();
-                packets = new BlockChangePacket[blocks.size()];
+            if (packets == null) {
+                Vec3I2ObjectMap<PositionedBlock> blocks = clientBlocks.get(index);
+                if (blocks == null) {
+                    return;
+                }
+
+                //cache the encoded packets until this chunk's client blocks change
+                MultiBlockChangeBuilder builder = new MultiBlockChangeBuilder(cx, cz);
+                for (PositionedBlock block : blocks.values()) {
+                    builder.add(block.x, block.y, block.z, block.block);
+                }
+
+                List<MultiBlockChangePacket> sectionPackets = builder.build();
+                packets = new CachedPacket[sectionPackets.size()];
                 for (int i = 0; i < packets.length; i++) {
-                    PositionedBlock block = blockIterator.next();
-                    packets[i] = new BlockChangePacket(new Vec(block.x, block.y, block.z), block.block);
+                    packets[i] = new CachedPacket(sectionPackets.get(i));
                 }
+
+                replayPackets.put(index, packets);
             }
         }
 
-        if (packets != null) {
-            event.getPlayer().sendPackets(packets);
-        }
+        event.getPlayer().sendPackets(packets);
     }
 
     private static class PositionedBlock {
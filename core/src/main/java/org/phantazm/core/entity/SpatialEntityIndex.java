@@ -0,0 +1,404 @@
+package org.phantazm.core.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMaps;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.commons.Tickable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * <p>A uniform grid of the entities in a single {@link Instance}, keyed by section. Entities are added and removed
+ * explicitly, and moved between cells when the index is ticked; distances are always measured using an entity's
+ * current position, so an entity that moved since the last tick is still found as long as it has not left the padding
+ * around the queried cells.</p>
+ *
+ * <p>An index is made available to code that only has access to the instance by setting {@link SpatialEntityIndex#TAG}
+ * on it. Queries copy candidates out of the grid before returning, so callers may freely add, remove or kill entities
+ * while handling the results.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class SpatialEntityIndex implements Tickable {
+    /**
+     * The tag under which an instance's index is stored.
+     */
+    public static final Tag<SpatialEntityIndex> TAG = Tag.Transient("phantazm_spatial_entity_index");
+
+    private static final int CELL_SHIFT = 4;
+    private static final double PADDING = 2;
+
+    private final Instance instance;
+    private final Long2ObjectMap<List<Entity>> cells;
+    private final Reference2LongMap<Entity> entityCells;
+
+    /**
+     * Creates a new, empty index.
+     *
+     * @param instance the instance whose entities will be indexed
+     */
+    public SpatialEntityIndex(@NotNull Instance instance) {
+        this.instance = Objects.requireNonNull(instance, "instance");
+        this.cells = new Long2ObjectOpenHashMap<>();
+        this.entityCells = new Reference2LongOpenHashMap<>();
+    }
+
+    /**
+     * Gets the index stored on an instance, if any.
+     *
+     * @param instance the instance
+     * @return an {@link Optional} containing the instance's index, or an empty Optional if it has none
+     */
+    public static @NotNull Optional<SpatialEntityIndex> of(@NotNull Instance instance) {
+        return Optional.ofNullable(instance.getTag(TAG));
+    }
+
+    /**
+     * Finds every entity of a given type whose position is within range of a point in an instance. The instance's
+     * index is used if it has one; otherwise, the instance's own entity tracker is queried.
+     *
+     * @param instance the instance to search in
+     * @param center   the point to search around
+     * @param range    the euclidean distance range
+     * @param type     the type of entity to find
+     * @param <T>      the type of entity to find
+     * @return a new list of entities in range, in no particular order
+     */
+    public static <T extends Entity> @NotNull List<T> nearby(@NotNull Instance instance, @NotNull Point center,
+            double range, @NotNull Class<T> type) {
+        SpatialEntityIndex index = instance.getTag(TAG);
+        if (index != null) {
+            return index.nearby(center, range, type);
+        }
+
+        List<T> result = new ArrayList<>();
+        for (Entity entity : instance.getNearbyEntities(center, range)) {
+            if (type.isInstance(entity)) {
+                result.add(type.cast(entity));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds an entity to this index. Does nothing if the entity is already indexed.
+     *
+     * @param entity the entity to add
+     */
+    public synchronized void add(@NotNull Entity entity) {
+        Objects.requireNonNull(entity, "entity");
+        if (entityCells.containsKey(entity)) {
+            return;
+        }
+
+        long cell = cellKey(entity.getPosition());
+        entityCells.put(entity, cell);
+        cells.computeIfAbsent(cell, ignored -> new ArrayList<>(4)).add(entity);
+    }
+
+    /**
+     * Removes an entity from this index. Does nothing if the entity is not indexed.
+     *
+     * @param entity the entity to remove
+     */
+    public synchronized void remove(@NotNull Entity entity) {
+        Objects.requireNonNull(entity, "entity");
+        if (!entityCells.containsKey(entity)) {
+            return;
+        }
+
+        removeFromCell(entity, entityCells.removeLong(entity));
+    }
+
+    /**
+     * Gets the number of indexed entities.
+     *
+     * @return the number of indexed entities
+     */
+    public synchronized int size() {
+        return entityCells.size();
+    }
+
+    /**
+     * Moves every indexed entity to the cell of its current position. Entities that were removed, or that are no
+     * longer in this index's instance, are dropped.
+     *
+     * @param time the number of milliseconds that have elapsed
+     */
+    @Override
+    public synchronized void tick(long time) {
+        ObjectIterator<Reference2LongMap.Entry<Entity>> iterator = Reference2LongMaps.fastIterator(entityCells);
+        while (iterator.hasNext()) {
+            Reference2LongMap.Entry<Entity> entry = iterator.next();
+            Entity entity = entry.getKey();
+            long oldCell = entry.getLongValue();
+
+            if (entity.isRemoved() || entity.getInstance() != instance) {
+                iterator.remove();
+                removeFromCell(entity, oldCell);
+                continue;
+            }
+
+            long newCell = cellKey(entity.getPosition());
+            if (newCell != oldCell) {
+                removeFromCell(entity, oldCell);
+                cells.computeIfAbsent(newCell, ignored -> new ArrayList<>(4)).add(entity);
+                entry.setValue(newCell);
+            }
+        }
+    }
+
+    /**
+     * Finds every indexed entity of a given type whose position is within range of a point.
+     *
+     * @param center the point to search around
+     * @param range  the euclidean distance range
+     * @param type   the type of entity to find
+     * @param <T>    the type of entity to find
+     * @return a new list of entities in range, in no particular order
+     */
+    public <T extends Entity> @NotNull List<T> nearby(@NotNull Point center, double range, @NotNull Class<T> type) {
+        Objects.requireNonNull(center, "center");
+        Objects.requireNonNull(type, "type");
+        if (range < 0) {
+            return new ArrayList<>(0);
+        }
+
+        double rangeSquared = range * range;
+        List<T> result = new ArrayList<>();
+        synchronized (this) {
+            if (entityCells.isEmpty()) {
+                return result;
+            }
+
+            int minX = cellCoordinate(center.x() - range - PADDING);
+            int minY = cellCoordinate(center.y() - range - PADDING);
+            int minZ = cellCoordinate(center.z() - range - PADDING);
+            int maxX = cellCoordinate(center.x() + range + PADDING);
+            int maxY = cellCoordinate(center.y() + range + PADDING);
+            int maxZ = cellCoordinate(center.z() + range + PADDING);
+
+            long cellCount = (long)(maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+            if (cellCount > entityCells.size()) {
+                for (List<Entity> cell : cells.values()) {
+                    collect(cell, center, rangeSquared, type, result);
+                }
+
+                return result;
+            }
+
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        List<Entity> cell = cells.get(cellKey(x, y, z));
+                        if (cell != null) {
+                            collect(cell, center, rangeSquared, type, result);
+                        }
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Finds the indexed entities of a given type that are closest to a point, up to a limit.
+     *
+     * @param center the point to search around
+     * @param range  the euclidean distance range
+     * @param limit  the maximum number of entities to find
+     * @param type   the type of entity to find
+     * @param mapper maps each entity in range to a result, or to null to skip it
+     * @param <T>    the type of entity to find
+     * @param <R>    the type of result
+     * @return a new list of at most {@code limit} results, closest first
+     */
+    public <T extends Entity, R> @NotNull List<R> nearest(@NotNull Point center, double range, int limit,
+            @NotNull Class<T> type, @NotNull Function<? super T, ? extends R> mapper) {
+        if (limit <= 0) {
+            return new ArrayList<>(0);
+        }
+
+        return nearest(nearby(center, range, type), center, limit, mapper);
+    }
+
+    /**
+     * Selects the entities closest to a point from a collection of candidates, up to a limit. Only a bounded heap of
+     * the best {@code limit} candidates is kept, rather than sorting every candidate.
+     *
+     * @param candidates the entities to select from
+     * @param center     the point to measure distances from
+     * @param limit      the maximum number of entities to select
+     * @param mapper     maps each candidate to a result, or to null to skip it
+     * @param <T>        the type of entity
+     * @param <R>        the type of result
+     * @return a new list of at most {@code limit} results, closest first
+     */
+    public static <T extends Entity, R> @NotNull List<R> nearest(@NotNull Iterable<? extends T> candidates,
+            @NotNull Point center, int limit, @NotNull Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(candidates, "candidates");
+        Objects.requireNonNull(center, "center");
+        Objects.requireNonNull(mapper, "mapper");
+        if (limit <= 0) {
+            return new ArrayList<>(0);
+        }
+
+        NearestHeap<R> heap = new NearestHeap<>(limit);
+        for (T candidate : candidates) {
+            double distanceSquared = candidate.getPosition().distanceSquared(center);
+            if (heap.isFull() && distanceSquared >= heap.maxDistance()) {
+                continue;
+            }
+
+            R result = mapper.apply(candidate);
+            if (result != null) {
+                heap.offer(result, distanceSquared);
+            }
+        }
+
+        return heap.drain();
+    }
+
+    private <T extends Entity> void collect(List<Entity> cell, Point center, double rangeSquared, Class<T> type,
+            List<T> result) {
+        for (int i = 0; i < cell.size(); i++) {
+            Entity entity = cell.get(i);
+            if (type.isInstance(entity) && entity.getPosition().distanceSquared(center) <= rangeSquared) {
+                result.add(type.cast(entity));
+            }
+        }
+    }
+
+    private void removeFromCell(Entity entity, long cellKey) {
+        List<Entity> cell = cells.get(cellKey);
+        if (cell == null) {
+            return;
+        }
+
+        for (int i = 0; i < cell.size(); i++) {
+            if (cell.get(i) == entity) {
+                int last = cell.size() - 1;
+                cell.set(i, cell.get(last));
+                cell.remove(last);
+                break;
+            }
+        }
+
+        if (cell.isEmpty()) {
+            cells.remove(cellKey);
+        }
+    }
+
+    private static int cellCoordinate(double value) {
+        return (int)Math.floor(value) >> CELL_SHIFT;
+    }
+
+    private static long cellKey(Point point) {
+        return cellKey(point.blockX() >> CELL_SHIFT, point.blockY() >> CELL_SHIFT, point.blockZ() >> CELL_SHIFT);
+    }
+
+    private static long cellKey(int x, int y, int z) {
+        return ((long)(x & 0x3FFFFF) << 42) | ((long)(y & 0xFFFFF) << 22) | (z & 0x3FFFFF);
+    }
+
+    private static final class NearestHeap<R> {
+        private final Object[] values;
+        private final double[] distances;
+        private int size;
+
+        private NearestHeap(int capacity) {
+            this.values = new Object[capacity];
+            this.distances = new double[capacity];
+        }
+
+        private boolean isFull() {
+            return size == values.length;
+        }
+
+        private double maxDistance() {
+            return distances[0];
+        }
+
+        private void offer(R value, double distance) {
+            if (!isFull()) {
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (distances[parent] >= distance) {
+                        break;
+                    }
+
+                    values[i] = values[parent];
+                    distances[i] = distances[parent];
+                    i = parent;
+                }
+
+                values[i] = value;
+                distances[i] = distance;
+                return;
+            }
+
+            if (distance >= distances[0]) {
+                return;
+            }
+
+            siftDown(value, distance, size);
+        }
+
+        private void siftDown(Object value, double distance, int heapSize) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+
+                if (child + 1 < heapSize && distances[child + 1] > distances[child]) {
+                    child++;
+                }
+
+                if (distances[child] <= distance) {
+                    break;
+                }
+
+                values[i] = values[child];
+                distances[i] = distances[child];
+                i = child;
+            }
+
+            values[i] = value;
+            distances[i] = distance;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<R> drain() {
+            Object[] sorted = new Object[size];
+            for (int remaining = size; remaining > 0; remaining--) {
+                sorted[remaining - 1] = values[0];
+                siftDown(values[remaining - 1], distances[remaining - 1], remaining - 1);
+            }
+
+            size = 0;
+            List<R> result = new ArrayList<>(sorted.length);
+            for (Object value : sorted) {
+                result.add((R)value);
+            }
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.phantazm.core.game.scene;
+
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.commons.Tickable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A {@link SceneTicker} which hands each scene tick off to an {@link Executor}. Scenes are ticked concurrently with
+ * each other, but never concurrently with themselves: {@link ExecutorSceneTicker#awaitTicks()} must be called once
+ * per tick, before any scene is ticked again.
+ */
+public class ExecutorSceneTicker implements SceneTicker {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorSceneTicker.class);
+
+    private final Function<? super Tickable, ? extends Executor> executorFunction;
+    private final List<? extends ExecutorService> executors;
+    private final List<CompletableFuture<Void>> pendingTicks;
+
+    private volatile boolean ticking;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param executorFunction the function used to select the executor on which a given scene will be ticked
+     * @param executors        the executors owned by this ticker, which will be shut down alongside it
+     */
+    public ExecutorSceneTicker(@NotNull Function<? super Tickable, ? extends Executor> executorFunction,
+            @NotNull List<? extends ExecutorService> executors) {
+        this.executorFunction = Objects.requireNonNull(executorFunction, "executorFunction");
+        this.executors = List.copyOf(executors);
+        this.pendingTicks = new ArrayList<>();
+    }
+
+    /**
+     * Creates a ticker which ticks scenes on any free thread of a shared, fixed-size pool.
+     *
+     * @param threads the number of worker threads
+     * @return a new ExecutorSceneTicker
+     */
+    public static @NotNull ExecutorSceneTicker pooled(int threads) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads, threadFactory("Phantazm-Scene-Tick-"));
+        return new ExecutorSceneTicker(ignored -> executor, List.of(executor));
+    }
+
+    /**
+     * Creates a ticker which always ticks a given scene on the same thread, chosen from a fixed number of
+     * single-threaded executors. This keeps each scene's state on one core across ticks.
+     *
+     * @param threads the number of worker threads
+     * @return a new ExecutorSceneTicker
+     */
+    public static @NotNull ExecutorSceneTicker affinity(int threads) {
+        ThreadFactory threadFactory = threadFactory("Phantazm-Scene-Tick-Affinity-");
+        List<ExecutorService> executors = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            executors.add(Executors.newSingleThreadExecutor(threadFactory));
+        }
+
+        return new ExecutorSceneTicker(
+                scene -> executors.get(Math.floorMod(System.identityHashCode(scene), executors.size())), executors);
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public void tick(@NotNull Tickable scene, long time) {
+        ticking = true;
+        pendingTicks.add(CompletableFuture.runAsync(() -> scene.tick(time), executorFunction.apply(scene)));
+    }
+
+    @Override
+    public void awaitTicks() {
+        try {
+            for (CompletableFuture<Void> future : pendingTicks) {
+                try {
+                    future.join();
+                }
+                catch (CompletionException e) {
+                    LOGGER.warn("Exception while ticking scene", e.getCause());
+                }
+            }
+        }
+        finally {
+            pendingTicks.clear();
+            ticking = false;
+        }
+    }
+
+    @Override
+    public boolean isTicking() {
+        return ticking;
+    }
+
+    @Override
+    public void shutdown() {
+        for (ExecutorService executor : executors) {
+            executor.shutdown();
+        }
+    }
+}
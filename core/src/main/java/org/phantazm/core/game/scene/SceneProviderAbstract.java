@@ -13,14 +13,28 @@ public abstract class SceneProviderAbstract<TScene extends Scene<TRequest>, TReq
     private final Collection<TScene> scenes = new ArrayList<>();
     private final Collection<TScene> unmodifiableScenes = Collections.unmodifiableCollection(scenes);
     private final int maximumScenes;
+    private final SceneTicker sceneTicker;
 
     /**
      * Creates an abstract {@link SceneProvider}.
      *
      * @param maximumScenes The maximum number of {@link Scene}s in the provider.
+     * @param sceneTicker   The {@link SceneTicker} used to tick this provider's {@link Scene}s. If it defers ticks to
+     *                      other threads, its owner is responsible for calling {@link SceneTicker#awaitTicks()} after
+     *                      this provider is ticked.
      */
-    public SceneProviderAbstract(int maximumScenes) {
+    public SceneProviderAbstract(int maximumScenes, @NotNull SceneTicker sceneTicker) {
         this.maximumScenes = maximumScenes;
+        this.sceneTicker = Objects.requireNonNull(sceneTicker, "sceneTicker");
+    }
+
+    /**
+     * Creates an abstract {@link SceneProvider} which ticks its {@link Scene}s sequentially on the calling thread.
+     *
+     * @param maximumScenes The maximum number of {@link Scene}s in the provider.
+     */
+    public SceneProviderAbstract(int maximumScenes) {
+        this(maximumScenes, SceneTicker.IMMEDIATE);
     }
 
     @Override
@@ -63,7 +77,7 @@ public abstract class SceneProviderAbstract<TScene extends Scene<TRequest>, TReq
                 iterator.remove();
             }
             else {
-                scene.tick(time);
+                sceneTicker.tick(scene, time);
             }
         }
     }
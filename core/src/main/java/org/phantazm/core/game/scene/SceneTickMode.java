@@ -0,0 +1,41 @@
+package org.phantazm.core.game.scene;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.IntFunction;
+
+/**
+ * The ways in which a group of {@link Scene}s may be ticked.
+ */
+public enum SceneTickMode {
+    /**
+     * Scenes are ticked one after another on the calling thread.
+     */
+    SEQUENTIAL(ignored -> SceneTicker.IMMEDIATE),
+
+    /**
+     * Scenes are ticked concurrently on a shared worker pool.
+     */
+    POOLED(ExecutorSceneTicker::pooled),
+
+    /**
+     * Scenes are ticked concurrently, each always on the same worker thread.
+     */
+    AFFINITY(ExecutorSceneTicker::affinity);
+
+    private final IntFunction<? extends SceneTicker> tickerFunction;
+
+    SceneTickMode(IntFunction<? extends SceneTicker> tickerFunction) {
+        this.tickerFunction = tickerFunction;
+    }
+
+    /**
+     * Creates a new {@link SceneTicker} for this mode.
+     *
+     * @param threads the number of worker threads to use, ignored for {@link SceneTickMode#SEQUENTIAL}
+     * @return a new SceneTicker
+     */
+    public @NotNull SceneTicker createTicker(int threads) {
+        return tickerFunction.apply(threads);
+    }
+}
@@ -0,0 +1,58 @@
+package org.phantazm.core.game.scene;
+
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.commons.Tickable;
+
+/**
+ * Ticks {@link Scene}s on behalf of a {@link SceneProvider}. Implementations may tick each scene immediately on the
+ * calling thread, or hand the tick off to another thread. In the latter case, every tick submitted since the last call
+ * to {@link SceneTicker#awaitTicks()} is guaranteed to have completed by the time it returns, so it acts as a tick
+ * barrier.
+ */
+public interface SceneTicker {
+    /**
+     * A SceneTicker which ticks every scene immediately on the calling thread.
+     */
+    SceneTicker IMMEDIATE = new SceneTicker() {
+        @Override
+        public void tick(@NotNull Tickable scene, long time) {
+            scene.tick(time);
+        }
+
+        @Override
+        public void awaitTicks() {
+        }
+
+        @Override
+        public boolean isTicking() {
+            return false;
+        }
+    };
+
+    /**
+     * Ticks (or schedules a tick of) the given scene.
+     *
+     * @param scene the scene to tick
+     * @param time  the current time, in milliseconds
+     */
+    void tick(@NotNull Tickable scene, long time);
+
+    /**
+     * Blocks until all ticks submitted through {@link SceneTicker#tick(Tickable, long)} have completed.
+     */
+    void awaitTicks();
+
+    /**
+     * Whether any scene ticks submitted to this ticker might currently be running on another thread.
+     *
+     * @return true if ticks may be in progress, false otherwise
+     */
+    boolean isTicking();
+
+    /**
+     * Releases any threads held by this ticker. Further calls to {@link SceneTicker#tick(Tickable, long)} have
+     * undefined behavior.
+     */
+    default void shutdown() {
+    }
+}
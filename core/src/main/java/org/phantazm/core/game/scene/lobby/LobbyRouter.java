@@ -19,43 +19,9 @@ public class LobbyRouter implements Scene<LobbyRouteRequest> {
 
     private final Map<UUID, Lobby> playerLobbyMap = new HashMap<>();
 
-    private final Map<UUID, PlayerView> unmodifiablePlayers = new AbstractMap<>() {
+    private final Map<UUID, PlayerView> players = new HashMap<>();
 
-        @Override
-        public boolean containsKey(Object key) {
-            if (!(key instanceof UUID uuid)) {
-                return false;
-            }
-
-            return playerLobbyMap.containsKey(uuid);
-        }
-
-        @Override
-        public PlayerView get(Object key) {
-            if (!(key instanceof UUID uuid)) {
-                return null;
-            }
-
-            Lobby lobby = playerLobbyMap.get(uuid);
-            if (lobby == null) {
-                return null;
-            }
-
-            return lobby.getPlayers().get(uuid);
-        }
-
-        @NotNull
-        @Override
-        public Set<Entry<UUID, PlayerView>> entrySet() {
-            Set<Entry<UUID, PlayerView>> entrySet = new HashSet<>();
-            for (Lobby lobby : playerLobbyMap.values()) {
-                entrySet.addAll(lobby.getPlayers().entrySet());
-            }
-
-            return Collections.unmodifiableSet(entrySet);
-        }
-
-    };
+    private final Map<UUID, PlayerView> unmodifiablePlayers = Collections.unmodifiableMap(players);
 
     private boolean shutdown = false;
 
@@ -92,12 +58,12 @@ public class LobbyRouter implements Scene<LobbyRouteRequest> {
             RouteResult result = lobby.join(joinRequest);
             if (result.success()) {
                 for (PlayerView playerView : routeRequest.joinRequest().getPlayers()) {
-                    Lobby oldLobby = playerLobbyMap.get(playerView.getUUID());
+                    Lobby oldLobby = playerLobbyMap.put(playerView.getUUID(), lobby);
                     if (oldLobby != null && oldLobby != lobby) {
                         oldLobby.leave(List.of(playerView.getUUID()));
                     }
 
-                    playerLobbyMap.put(playerView.getUUID(), lobby);
+                    players.put(playerView.getUUID(), playerView);
                 }
             }
 
@@ -116,7 +82,11 @@ public class LobbyRouter implements Scene<LobbyRouteRequest> {
         }
 
         for (UUID uuid : leavers) {
-            playerLobbyMap.get(uuid).leave(List.of(uuid));
+            Lobby lobby = playerLobbyMap.remove(uuid);
+            if (lobby != null) {
+                lobby.leave(List.of(uuid));
+                players.remove(uuid);
+            }
         }
 
         return RouteResult.SUCCESSFUL;
@@ -129,15 +99,7 @@ public class LobbyRouter implements Scene<LobbyRouteRequest> {
 
     @Override
     public int getIngamePlayerCount() {
-        int playerCount = 0;
-
-        for (SceneProvider<Lobby, LobbyJoinRequest> lobbyProvider : lobbyProviders.values()) {
-            for (Lobby lobby : lobbyProvider.getScenes()) {
-                playerCount += lobby.getPlayers().size();
-            }
-        }
-
-        return playerCount;
+        return players.size();
     }
 
     @Override
@@ -156,6 +118,7 @@ public class LobbyRouter implements Scene<LobbyRouteRequest> {
             lobbyProvider.forceShutdown();
         }
         playerLobbyMap.clear();
+        players.clear();
 
         shutdown = true;
     }
@@ -8,6 +8,7 @@ import net.minestom.server.utils.chunk.ChunkSupplier;
 import org.jetbrains.annotations.NotNull;
 
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
 
 /**
  * A {@link FileSystemInstanceLoader} that loads {@link Instance}s using {@link AnvilLoader}s.
@@ -25,6 +26,19 @@ public class AnvilFileSystemInstanceLoader extends FileSystemInstanceLoader {
         super(instanceManager, rootPath, chunkSupplier);
     }
 
+    /**
+     * Creates an {@link InstanceLoader} based on a file system using {@link AnvilLoader}s, which preloads templates
+     * using the given {@link Executor}.
+     *
+     * @param rootPath        The {@link Path} of the {@link Instance} directory
+     * @param chunkSupplier   the {@link ChunkSupplier} used to create chunks
+     * @param preloadExecutor the {@link Executor} templates are preloaded on
+     */
+    public AnvilFileSystemInstanceLoader(@NotNull InstanceManager instanceManager, @NotNull Path rootPath,
+            @NotNull ChunkSupplier chunkSupplier, @NotNull Executor preloadExecutor) {
+        super(instanceManager, rootPath, chunkSupplier, preloadExecutor);
+    }
+
     @Override
     protected @NotNull IChunkLoader createChunkLoader(@NotNull Path path) {
         AnvilLoader loader = new AnvilLoader(path);
@@ -0,0 +1,189 @@
+package org.phantazm.core.instance;
+
+import com.github.steanky.vector.Vec3I;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.event.Event;
+import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.EventNode;
+import net.minestom.server.event.instance.PreBlockChangeEvent;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Collects a number of block changes and applies them to an {@link Instance} all at once. Every change still goes
+ * through {@link Instance#setBlock(int, int, int, Block)}, so block handlers, block entities and per-block events
+ * behave exactly as they would otherwise; only the client updates are batched, into a single
+ * {@link MultiBlockChangePacket} per modified chunk section. Once all changes are applied, a
+ * {@link BlockBatchChangeEvent} is fired listing every position that actually changed.</p>
+ *
+ * <p>Blocks which have a handler or are block entities are synchronized individually, as their data cannot be sent
+ * in a multi-block change.</p>
+ *
+ * <p>The batched packets are sent regardless of any client blocks at the changed positions. Callers that maintain
+ * client blocks there should re-send them after calling {@link BlockBatch#apply(Instance)}.</p>
+ *
+ * <p>Batching client updates requires the listener added by {@link BlockBatch#registerListeners(EventNode)}. Without
+ * it, batches are still applied correctly, but every block is also sent individually.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public class BlockBatch {
+    private static final ThreadLocal<Change> UNSYNCED_CHANGE = new ThreadLocal<>();
+
+    private final Long2ObjectMap<List<Change>> changesByChunk;
+
+    /**
+     * Creates a new, empty batch.
+     */
+    public BlockBatch() {
+        this.changesByChunk = new Long2ObjectOpenHashMap<>();
+    }
+
+    private record Change(int x, int y, int z, Block block) {
+    }
+
+    /**
+     * Registers the listener which stops individual client updates from being sent for blocks that are part of a
+     * batch. Should be called once, on the global event node.
+     *
+     * @param node the node to register the listener on
+     */
+    public static void registerListeners(@NotNull EventNode<Event> node) {
+        node.addListener(PreBlockChangeEvent.class, event -> {
+            Change change = UNSYNCED_CHANGE.get();
+            if (change == null) {
+                return;
+            }
+
+            Point position = event.blockPosition();
+            if (position.blockX() == change.x && position.blockY() == change.y && position.blockZ() == change.z) {
+                event.setSyncClient(false);
+            }
+        });
+    }
+
+    /**
+     * Queues a block change. If several changes are queued for the same position, the last one wins.
+     *
+     * @param x     the x-coordinate of the block
+     * @param y     the y-coordinate of the block
+     * @param z     the z-coordinate of the block
+     * @param block the new block
+     */
+    public void setBlock(int x, int y, int z, @NotNull Block block) {
+        Objects.requireNonNull(block, "block");
+
+        long index = ChunkUtils.getChunkIndex(ChunkUtils.getChunkCoordinate(x), ChunkUtils.getChunkCoordinate(z));
+        changesByChunk.computeIfAbsent(index, ignored -> new ArrayList<>()).add(new Change(x, y, z, block));
+    }
+
+    /**
+     * Queues a block change. Equivalent to {@link BlockBatch#setBlock(int, int, int, Block)} using the block
+     * coordinates of the given point.
+     *
+     * @param position the position of the block
+     * @param block    the new block
+     */
+    public void setBlock(@NotNull Point position, @NotNull Block block) {
+        setBlock(position.blockX(), position.blockY(), position.blockZ(), block);
+    }
+
+    /**
+     * Whether this batch has any queued changes.
+     *
+     * @return true if no changes have been queued, false otherwise
+     */
+    public boolean isEmpty() {
+        return changesByChunk.isEmpty();
+    }
+
+    /**
+     * Applies every queued change to the given instance, then clears this batch so it may be reused. Changes to
+     * positions which already hold the target block are skipped.
+     *
+     * @param instance the instance to modify
+     */
+    public void apply(@NotNull Instance instance) {
+        Objects.requireNonNull(instance, "instance");
+        if (changesByChunk.isEmpty()) {
+            return;
+        }
+
+        List<Vec3I> changed = new ArrayList<>();
+        for (Long2ObjectMap.Entry<List<Change>> entry : changesByChunk.long2ObjectEntrySet()) {
+            long index = entry.getLongKey();
+            int chunkX = ChunkUtils.getChunkCoordX(index);
+            int chunkZ = ChunkUtils.getChunkCoordZ(index);
+
+            MultiBlockChangeBuilder builder = new MultiBlockChangeBuilder(chunkX, chunkZ);
+            for (Change change : entry.getValue()) {
+                if (instance.getBlock(change.x, change.y, change.z).equals(change.block)) {
+                    continue;
+                }
+
+                boolean batched = change.block.handler() == null && !change.block.registry().isBlockEntity();
+                if (batched) {
+                    UNSYNCED_CHANGE.set(change);
+                }
+
+                try {
+                    instance.setBlock(change.x, change.y, change.z, change.block);
+                }
+                finally {
+                    UNSYNCED_CHANGE.remove();
+                }
+
+                //a listener may have cancelled the change, in which case the client should not see it either
+                if (!instance.getBlock(change.x, change.y, change.z).equals(change.block)) {
+                    continue;
+                }
+
+                changed.add(Vec3I.immutable(change.x, change.y, change.z));
+                if (batched) {
+                    builder.add(change.x, change.y, change.z, change.block);
+                }
+            }
+
+            Chunk chunk = instance.getChunk(chunkX, chunkZ);
+            if (chunk == null || builder.isEmpty()) {
+                continue;
+            }
+
+            for (MultiBlockChangePacket packet : builder.build()) {
+                chunk.sendPacketToViewers(packet);
+            }
+        }
+
+        clear();
+        if (!changed.isEmpty()) {
+            EventDispatcher.call(new BlockBatchChangeEvent(instance, changed));
+        }
+    }
+
+    /**
+     * Discards every queued change.
+     */
+    public void clear() {
+        changesByChunk.clear();
+    }
+
+    /**
+     * Whether a batch is currently being applied on the calling thread, to a block which will be sent to clients as
+     * part of the batch.
+     *
+     * @return true if the block change being processed on this thread is part of a batch, false otherwise
+     */
+    public static boolean isApplying() {
+        return UNSYNCED_CHANGE.get() != null;
+    }
+}
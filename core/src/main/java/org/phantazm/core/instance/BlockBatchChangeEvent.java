@@ -0,0 +1,90 @@
+package org.phantazm.core.instance;
+
+import com.github.steanky.vector.Vec3I;
+import net.minestom.server.event.trait.InstanceEvent;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Called after a {@link BlockBatch} has been applied to an instance, once every per-block event for the batch has
+ * been fired. Carries the positions of every block that was actually changed.
+ */
+public class BlockBatchChangeEvent implements InstanceEvent {
+    private final Instance instance;
+    private final List<Vec3I> positions;
+
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+
+    public BlockBatchChangeEvent(@NotNull Instance instance, @NotNull List<Vec3I> positions) {
+        this.instance = Objects.requireNonNull(instance, "instance");
+        this.positions = List.copyOf(positions);
+        if (this.positions.isEmpty()) {
+            throw new IllegalArgumentException("positions must not be empty");
+        }
+
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (Vec3I position : this.positions) {
+            minX = Math.min(minX, position.x());
+            minY = Math.min(minY, position.y());
+            minZ = Math.min(minZ, position.z());
+            maxX = Math.max(maxX, position.x());
+            maxY = Math.max(maxY, position.y());
+            maxZ = Math.max(maxZ, position.z());
+        }
+
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    @Override
+    public @NotNull Instance getInstance() {
+        return instance;
+    }
+
+    /**
+     * The positions of every block changed by the batch.
+     *
+     * @return an unmodifiable list of changed positions
+     */
+    public @NotNull @Unmodifiable List<Vec3I> getPositions() {
+        return positions;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMinZ() {
+        return minZ;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    public int getMaxZ() {
+        return maxZ;
+    }
+}
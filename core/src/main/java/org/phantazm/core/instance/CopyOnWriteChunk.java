@@ -0,0 +1,95 @@
+package org.phantazm.core.instance;
+
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.DynamicChunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.Section;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.server.world.biomes.Biome;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * <p>A {@link DynamicChunk} whose copies share their {@link Section}s with it. A shared section is cloned the first
+ * time a block or biome inside it is set through {@link CopyOnWriteChunk#setBlock(int, int, int, Block)} or
+ * {@link CopyOnWriteChunk#setBiome(int, int, int, Biome)}, so an instance copied from a template only pays for the
+ * sections it actually changes.</p>
+ *
+ * <p>Sections returned by {@link Chunk#getSection(int)} may be shared, and must not be modified directly once the
+ * chunk has been copied. Block entities are copied eagerly, like in DynamicChunk.</p>
+ */
+public class CopyOnWriteChunk extends DynamicChunk {
+    private final boolean[] owned;
+
+    /**
+     * Creates a new chunk which owns all of its sections.
+     *
+     * @param instance the instance this chunk belongs to
+     * @param chunkX   the x-coordinate of this chunk
+     * @param chunkZ   the z-coordinate of this chunk
+     */
+    public CopyOnWriteChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+        super(instance, chunkX, chunkZ);
+        this.owned = new boolean[sections.size()];
+        Arrays.fill(owned, true);
+    }
+
+    @Override
+    public void setBlock(int x, int y, int z, @NotNull Block block) {
+        ownSectionAt(y);
+        super.setBlock(x, y, z, block);
+    }
+
+    @Override
+    public void setBiome(int x, int y, int z, @NotNull Biome biome) {
+        ownSectionAt(y);
+        super.setBiome(x, y, z, biome);
+    }
+
+    @Override
+    public @NotNull Chunk copy(@NotNull Instance instance, int chunkX, int chunkZ) {
+        CopyOnWriteChunk copy = new CopyOnWriteChunk(instance, chunkX, chunkZ);
+        synchronized (this) {
+            //both chunks now share every section, so neither may write to one without cloning it first
+            Arrays.fill(owned, false);
+            copy.sections = new ArrayList<>(sections);
+            Arrays.fill(copy.owned, false);
+            copy.entries.putAll(entries);
+        }
+
+        return copy;
+    }
+
+    /**
+     * Counts the sections of this chunk which are not shared with another chunk.
+     *
+     * @return the number of sections this chunk owns
+     */
+    public synchronized int ownedSections() {
+        int count = 0;
+        for (boolean sectionOwned : owned) {
+            if (sectionOwned) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private synchronized void ownSectionAt(int y) {
+        int index = ChunkUtils.getChunkCoordinate(y) - minSection;
+        if (index < 0 || index >= owned.length || owned[index]) {
+            return;
+        }
+
+        if (!(sections instanceof ArrayList<Section>)) {
+            sections = new ArrayList<>(sections);
+        }
+
+        sections.set(index, sections.get(index).clone());
+        owned[index] = true;
+    }
+}
@@ -9,93 +9,144 @@ import net.minestom.server.utils.chunk.ChunkSupplier;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.UnmodifiableView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Phaser;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Implements an {@link InstanceLoader} using the file system.
+ * Implements an {@link InstanceLoader} using the file system. Templates are preloaded using an {@link Executor}, so
+ * several of them may load at once.
  */
 public abstract class FileSystemInstanceLoader implements InstanceLoader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemInstanceLoader.class);
+
     private final InstanceManager instanceManager;
     private final Path rootPath;
+    private final Executor preloadExecutor;
 
     /**
      * The {@link ChunkSupplier} to be used by instances loaded from this InstanceLoader
      */
     protected final ChunkSupplier chunkSupplier;
 
-    private final Map<Path, InstanceContainer> instanceSources;
+    private final Map<Path, CompletableFuture<InstanceContainer>> instanceSources;
 
     /**
-     * Creates an {@link InstanceLoader} based on a file system.
+     * Creates an {@link InstanceLoader} based on a file system. Templates are preloaded on the thread calling
+     * {@link FileSystemInstanceLoader#preload(List, Point, int)}.
      *
      * @param rootPath      The {@link Path} of the {@link Instance} directory
      * @param chunkSupplier The {@link ChunkSupplier} used to define the chunk implementation used
      */
     public FileSystemInstanceLoader(@NotNull InstanceManager instanceManager, @NotNull Path rootPath,
             @NotNull ChunkSupplier chunkSupplier) {
+        this(instanceManager, rootPath, chunkSupplier, Runnable::run);
+    }
+
+    /**
+     * Creates an {@link InstanceLoader} based on a file system.
+     *
+     * @param rootPath        The {@link Path} of the {@link Instance} directory
+     * @param chunkSupplier   The {@link ChunkSupplier} used to define the chunk implementation used
+     * @param preloadExecutor The {@link Executor} templates are preloaded on; its size bounds how many load at once
+     */
+    public FileSystemInstanceLoader(@NotNull InstanceManager instanceManager, @NotNull Path rootPath,
+            @NotNull ChunkSupplier chunkSupplier, @NotNull Executor preloadExecutor) {
         this.instanceManager = Objects.requireNonNull(instanceManager, "instanceManager");
         this.rootPath = Objects.requireNonNull(rootPath, "rootPath");
         this.chunkSupplier = Objects.requireNonNull(chunkSupplier, "chunkSupplier");
+        this.preloadExecutor = Objects.requireNonNull(preloadExecutor, "preloadExecutor");
         this.instanceSources = new ConcurrentHashMap<>();
     }
 
     // TODO: what if there are distinct spawnPos invocations?
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Blocks until the template has finished preloading, if it has not already.
+     */
     @Override
     public @NotNull Instance loadInstance(@UnmodifiableView @NotNull List<String> subPaths) {
+        Instance instance = createInstance(subPaths);
+        instanceManager.registerInstance(instance);
+        return instance;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Blocks until the template has finished preloading, if it has not already.
+     */
+    @Override
+    public @NotNull Instance createInstance(@UnmodifiableView @NotNull List<String> subPaths) {
         Path path = rootPath;
         for (String subPath : subPaths) {
             path = path.resolve(subPath);
         }
 
-        InstanceContainer source = instanceSources.get(path);
+        CompletableFuture<InstanceContainer> source = instanceSources.get(path);
         if (source == null) {
             throw new IllegalArgumentException("Instance at " + path + " has not been preloaded");
         }
 
-        InstanceContainer container = source.copy();
+        InstanceContainer container = source.join().copy();
         container.setChunkSupplier(chunkSupplier);
-        instanceManager.registerInstance(container);
-
         return container;
     }
 
     @Override
-    public void preload(@UnmodifiableView @NotNull List<String> subPaths, @NotNull Point spawnPoint,
-            int chunkViewDistance) {
+    public @NotNull CompletableFuture<Void> preload(@UnmodifiableView @NotNull List<String> subPaths,
+            @NotNull Point spawnPoint, int chunkViewDistance) {
         Path path = rootPath;
         for (String subPath : subPaths) {
             path = path.resolve(subPath);
         }
 
-        instanceSources.computeIfAbsent(path, key -> {
+        return instanceSources.computeIfAbsent(path, key -> CompletableFuture.supplyAsync(() -> {
             return createTemplateContainer(instanceManager, key, spawnPoint, chunkViewDistance);
-        });
+        }, preloadExecutor)).thenApply(container -> null);
     }
 
-    @SuppressWarnings("UnstableApiUsage")
     private InstanceContainer createTemplateContainer(InstanceManager instanceManager, Path path, Point spawnPoint,
             int chunkViewDistance) {
+        long start = System.nanoTime();
         InstanceContainer container = instanceManager.createInstanceContainer(createChunkLoader(path));
         container.setChunkSupplier(chunkSupplier);
 
-        awaitChunkLoadSync(container, spawnPoint, chunkViewDistance);
+        int chunks = awaitChunkLoad(container, spawnPoint, chunkViewDistance);
+        LOGGER.info("Preloaded {} chunks of instance {} in {}ms", chunks, path,
+                (System.nanoTime() - start) / 1_000_000L);
         return container;
     }
 
     @SuppressWarnings("UnstableApiUsage")
-    private void awaitChunkLoadSync(Instance instance, Point spawnPoint, int chunkViewDistance) {
-        Phaser phaser = new Phaser(1);
+    private int awaitChunkLoad(Instance instance, Point spawnPoint, int chunkViewDistance) {
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        AtomicInteger loadedChunks = new AtomicInteger();
         ChunkUtils.forChunksInRange(spawnPoint, chunkViewDistance, (chunkX, chunkZ) -> {
-            phaser.register();
-            instance.loadOptionalChunk(chunkX, chunkZ).whenComplete((chunk, throwable) -> phaser.arriveAndDeregister());
+            futures.add(instance.loadOptionalChunk(chunkX, chunkZ).handle((chunk, throwable) -> {
+                if (throwable != null) {
+                    LOGGER.warn("Exception loading chunk at {}, {}", chunkX, chunkZ, throwable);
+                }
+                else if (chunk != null) {
+                    loadedChunks.incrementAndGet();
+                }
+
+                return null;
+            }));
         });
-        phaser.arriveAndAwaitAdvance();
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return loadedChunks.get();
     }
 
     /**
@@ -6,6 +6,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.UnmodifiableView;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Loads usable {@link Instance}s.
@@ -20,6 +21,25 @@ public interface InstanceLoader {
      */
     @NotNull Instance loadInstance(@UnmodifiableView @NotNull List<String> subPaths);
 
-    void preload(@UnmodifiableView @NotNull List<String> subPaths, @NotNull Point spawnPos, int chunkViewDistance);
+    /**
+     * Creates an {@link Instance} without registering it, so it is not ticked until the caller registers it. This
+     * allows the instance to be set up on a thread other than the one ticking instances.
+     *
+     * @param subPaths Paths used to identify the {@link Instance}
+     * @return A new, unregistered {@link Instance}
+     */
+    @NotNull Instance createInstance(@UnmodifiableView @NotNull List<String> subPaths);
+
+    /**
+     * Starts loading the template that {@link Instance}s identified by {@code subPaths} are copied from. Preloading
+     * the same template again returns a future tracking the first load.
+     *
+     * @param subPaths          Paths used to identify the {@link Instance}
+     * @param spawnPos          The point chunks are loaded around
+     * @param chunkViewDistance The radius, in chunks, around {@code spawnPos} to load
+     * @return A {@link CompletableFuture} completing once the template has loaded
+     */
+    @NotNull CompletableFuture<Void> preload(@UnmodifiableView @NotNull List<String> subPaths,
+            @NotNull Point spawnPos, int chunkViewDistance);
 
 }
@@ -0,0 +1,76 @@
+package org.phantazm.core.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Groups block updates for a single chunk by section, producing one {@link MultiBlockChangePacket} per section. This
+ * class is not thread-safe.
+ */
+public class MultiBlockChangeBuilder {
+    private final int chunkX;
+    private final int chunkZ;
+    private final Int2ObjectMap<LongList> sections;
+
+    /**
+     * Creates a new builder for the given chunk.
+     *
+     * @param chunkX the x-coordinate of the chunk
+     * @param chunkZ the z-coordinate of the chunk
+     */
+    public MultiBlockChangeBuilder(int chunkX, int chunkZ) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.sections = new Int2ObjectOpenHashMap<>();
+    }
+
+    /**
+     * Adds a block update. The coordinates are world coordinates, which must lie inside this builder's chunk.
+     *
+     * @param x     the x-coordinate of the block
+     * @param y     the y-coordinate of the block
+     * @param z     the z-coordinate of the block
+     * @param block the block the client should see
+     */
+    public void add(int x, int y, int z, @NotNull Block block) {
+        Objects.requireNonNull(block, "block");
+
+        //the protocol packs section-relative coordinates and the state id into a single long
+        long entry = (long)block.stateId() << 12 | (long)((x & 15) << 8 | (z & 15) << 4 | (y & 15));
+        sections.computeIfAbsent(ChunkUtils.getChunkCoordinate(y), ignored -> new LongArrayList()).add(entry);
+    }
+
+    /**
+     * Whether any updates have been added.
+     *
+     * @return true if no updates have been added, false otherwise
+     */
+    public boolean isEmpty() {
+        return sections.isEmpty();
+    }
+
+    /**
+     * Creates one packet for each section with at least one update.
+     *
+     * @return a list of packets, which is empty if no updates were added
+     */
+    public @NotNull List<MultiBlockChangePacket> build() {
+        List<MultiBlockChangePacket> packets = new ArrayList<>(sections.size());
+        for (Int2ObjectMap.Entry<LongList> section : sections.int2ObjectEntrySet()) {
+            packets.add(new MultiBlockChangePacket(chunkX, section.getIntKey(), chunkZ, false,
+                    section.getValue().toLongArray()));
+        }
+
+        return packets;
+    }
+}
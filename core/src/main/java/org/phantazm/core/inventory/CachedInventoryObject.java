@@ -7,7 +7,8 @@ import java.util.Objects;
 
 /**
  * Implementation of an {@link InventoryObject} which uses caching for {@link ItemStack}s and recomputes
- * their representation every single time they are marked as dirty.
+ * their representation every single time they are marked as dirty. If a recomputed stack is equal to the cached one,
+ * the cached instance is kept.
  */
 public abstract class CachedInventoryObject implements InventoryObject {
 
@@ -51,7 +52,11 @@ public abstract class CachedInventoryObject implements InventoryObject {
     }
 
     private void refreshCache() {
-        cache = Objects.requireNonNull(computeStack(), "Computed stack is null");
+        ItemStack newStack = Objects.requireNonNull(computeStack(), "Computed stack is null");
+        if (!newStack.equals(cache)) {
+            cache = newStack;
+        }
+
         dirty = false;
     }
 
@@ -28,6 +28,7 @@ import java.util.concurrent.CompletableFuture;
  */
 class BasicPlayerView implements PlayerView {
     private static final Reference<Player> NULL_REFERENCE = new WeakReference<>(null);
+    private static final long USERNAME_RETRY_INTERVAL_MILLIS = 2000;
 
     private final IdentitySource identitySource;
     private final ConnectionManager connectionManager;
@@ -39,6 +40,7 @@ class BasicPlayerView implements PlayerView {
     private volatile Reference<Player> playerReference;
 
     private volatile CompletableFuture<String> usernameRequest;
+    private volatile long usernameRequestCompleteTime;
     private volatile String username;
 
     /**
@@ -74,7 +76,10 @@ class BasicPlayerView implements PlayerView {
 
     private CompletableFuture<String> getUsernameRequest() {
         synchronized (usernameRequestLock) {
-            if (usernameRequest != null) {
+            //a request that could not resolve the name is kept for a while, so callers polling the name (such as
+            //sidebars) do not query the identity source every tick
+            if (usernameRequest != null && (!usernameRequest.isDone() ||
+                    System.currentTimeMillis() - usernameRequestCompleteTime < USERNAME_RETRY_INTERVAL_MILLIS)) {
                 return usernameRequest;
             }
 
@@ -82,11 +87,8 @@ class BasicPlayerView implements PlayerView {
                 synchronized (usernameLock) {
                     return username = name;
                 }
-            }).orElse(uuid.toString())).whenComplete((result, ex) -> {
-                synchronized (usernameRequestLock) {
-                    usernameRequest = null;
-                }
-            });
+            }).orElse(uuid.toString()))
+                    .whenComplete((result, ex) -> usernameRequestCompleteTime = System.currentTimeMillis());
         }
     }
 
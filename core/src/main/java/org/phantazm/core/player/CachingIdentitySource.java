@@ -0,0 +1,304 @@
+package org.phantazm.core.player;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * <p>An {@link IdentitySource} that wraps another, remembering every name and UUID pair it resolves for a fixed
+ * duration. Pairs are kept in memory and written to a file by {@link CachingIdentitySource#flush()}, so they survive
+ * restarts.</p>
+ *
+ * <p>Lookups for a key that is already being resolved share the pending request instead of starting another one.
+ * Failed lookups are not remembered. Names are compared case-insensitively, like Mojang's API does.</p>
+ */
+public class CachingIdentitySource implements IdentitySource {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingIdentitySource.class);
+
+    //names resolved from a UUID are canonical; names a UUID was looked up by may differ in capitalization
+    private record Identity(UUID uuid, String name, boolean canonical, long resolvedAt) {
+    }
+
+    private final IdentitySource delegate;
+    private final Path file;
+    private final long ttlMillis;
+
+    private final Map<UUID, Identity> byUuid;
+    private final Map<String, Identity> byName;
+    private final Map<UUID, CompletableFuture<Optional<String>>> pendingNames;
+    private final Map<String, CompletableFuture<Optional<UUID>>> pendingUuids;
+
+    private volatile boolean dirty;
+
+    /**
+     * Creates a new instance of this class, loading any pairs previously flushed to {@code file} that have not
+     * expired yet.
+     *
+     * @param delegate the {@link IdentitySource} used to resolve pairs that are not cached
+     * @param file     the file pairs are persisted to
+     * @param ttl      how long a resolved pair is remembered for
+     */
+    public CachingIdentitySource(@NotNull IdentitySource delegate, @NotNull Path file, @NotNull Duration ttl) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.file = Objects.requireNonNull(file, "file");
+        this.ttlMillis = Objects.requireNonNull(ttl, "ttl").toMillis();
+
+        this.byUuid = new ConcurrentHashMap<>();
+        this.byName = new ConcurrentHashMap<>();
+        this.pendingNames = new ConcurrentHashMap<>();
+        this.pendingUuids = new ConcurrentHashMap<>();
+
+        load();
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Optional<String>> getName(@NotNull UUID uuid) {
+        Objects.requireNonNull(uuid, "uuid");
+        Identity identity = byUuid.get(uuid);
+        if (isFresh(identity)) {
+            return CompletableFuture.completedFuture(Optional.of(identity.name));
+        }
+
+        return coalesce(pendingNames, uuid, delegate::getName, name -> store(uuid, name, true));
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Optional<UUID>> getUUID(@NotNull String name) {
+        Objects.requireNonNull(name, "name");
+        String key = nameKey(name);
+        Identity identity = byName.get(key);
+        if (isFresh(identity)) {
+            return CompletableFuture.completedFuture(Optional.of(identity.uuid));
+        }
+
+        return coalesce(pendingUuids, key, ignored -> delegate.getUUID(name), uuid -> store(uuid, name, false));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cached UUIDs are answered directly. The rest are passed to the wrapped source's {@code getNames} in one call,
+     * except for those that are already being resolved.
+     */
+    @Override
+    public @NotNull CompletableFuture<Map<UUID, String>> getNames(@NotNull Collection<UUID> uuids) {
+        Objects.requireNonNull(uuids, "uuids");
+        Map<UUID, CompletableFuture<Optional<String>>> futures = new HashMap<>(uuids.size());
+        Map<UUID, CompletableFuture<Optional<String>>> owned = new HashMap<>();
+        for (UUID uuid : uuids) {
+            if (futures.containsKey(uuid)) {
+                continue;
+            }
+
+            Identity identity = byUuid.get(uuid);
+            if (isFresh(identity)) {
+                futures.put(uuid, CompletableFuture.completedFuture(Optional.of(identity.name)));
+                continue;
+            }
+
+            CompletableFuture<Optional<String>> future = new CompletableFuture<>();
+            CompletableFuture<Optional<String>> existing = pendingNames.putIfAbsent(uuid, future);
+            if (existing != null) {
+                futures.put(uuid, existing);
+                continue;
+            }
+
+            futures.put(uuid, future);
+            owned.put(uuid, future);
+        }
+
+        if (!owned.isEmpty()) {
+            delegate.getNames(owned.keySet()).whenComplete((names, error) -> {
+                for (Map.Entry<UUID, CompletableFuture<Optional<String>>> entry : owned.entrySet()) {
+                    UUID uuid = entry.getKey();
+                    String name = error == null && names != null ? names.get(uuid) : null;
+                    if (name != null) {
+                        store(uuid, name, true);
+                    }
+
+                    pendingNames.remove(uuid, entry.getValue());
+                    entry.getValue().complete(Optional.ofNullable(name));
+                }
+            });
+        }
+
+        return IdentitySources.collect(futures);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cached names are answered directly. The rest are passed to the wrapped source's {@code getUUIDs} in one call,
+     * except for those that are already being resolved.
+     */
+    @Override
+    public @NotNull CompletableFuture<Map<String, UUID>> getUUIDs(@NotNull Collection<String> names) {
+        Objects.requireNonNull(names, "names");
+        Map<String, CompletableFuture<Optional<UUID>>> futures = new HashMap<>(names.size());
+        Map<String, CompletableFuture<Optional<UUID>>> owned = new HashMap<>();
+        Map<String, String> ownedKeys = new HashMap<>();
+        for (String name : names) {
+            if (futures.containsKey(name)) {
+                continue;
+            }
+
+            String key = nameKey(name);
+            Identity identity = byName.get(key);
+            if (isFresh(identity)) {
+                futures.put(name, CompletableFuture.completedFuture(Optional.of(identity.uuid)));
+                continue;
+            }
+
+            CompletableFuture<Optional<UUID>> future = new CompletableFuture<>();
+            CompletableFuture<Optional<UUID>> existing = pendingUuids.putIfAbsent(key, future);
+            if (existing != null) {
+                futures.put(name, existing);
+                continue;
+            }
+
+            futures.put(name, future);
+            owned.put(name, future);
+            ownedKeys.put(name, key);
+        }
+
+        if (!owned.isEmpty()) {
+            delegate.getUUIDs(owned.keySet()).whenComplete((uuids, error) -> {
+                for (Map.Entry<String, CompletableFuture<Optional<UUID>>> entry : owned.entrySet()) {
+                    String name = entry.getKey();
+                    UUID uuid = error == null && uuids != null ? uuids.get(name) : null;
+                    if (uuid != null) {
+                        store(uuid, name, false);
+                    }
+
+                    pendingUuids.remove(ownedKeys.get(name), entry.getValue());
+                    entry.getValue().complete(Optional.ofNullable(uuid));
+                }
+            });
+        }
+
+        return IdentitySources.collect(futures);
+    }
+
+    /**
+     * Writes every pair that has not expired to this source's file, if any pair was resolved since the last flush.
+     */
+    public void flush() {
+        if (!dirty) {
+            return;
+        }
+
+        dirty = false;
+        long now = System.currentTimeMillis();
+        Set<Identity> identities = Collections.newSetFromMap(new IdentityHashMap<>(byName.size()));
+        identities.addAll(byUuid.values());
+        identities.addAll(byName.values());
+
+        List<String> lines = new ArrayList<>(identities.size());
+        for (Identity identity : identities) {
+            if (now - identity.resolvedAt < ttlMillis) {
+                lines.add(identity.uuid + ":" + identity.name + ":" + identity.canonical + ":" + identity.resolvedAt);
+            }
+        }
+
+        try {
+            Files.write(file, lines);
+        }
+        catch (IOException e) {
+            LOGGER.warn("Error writing to identity cache file", e);
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file);
+        }
+        catch (IOException e) {
+            LOGGER.warn("Exception reading identity cache file", e);
+            return;
+        }
+
+        for (String line : lines) {
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            String[] split = line.split(":", 4);
+            if (split.length != 4) {
+                LOGGER.warn("Invalid identity cache entry {}", line);
+                continue;
+            }
+
+            Identity identity;
+            try {
+                identity = new Identity(UUID.fromString(split[0]), split[1], Boolean.parseBoolean(split[2]),
+                        Long.parseLong(split[3]));
+            }
+            catch (IllegalArgumentException e) {
+                LOGGER.warn("Malformed identity cache entry {}", line);
+                continue;
+            }
+
+            if (isFresh(identity)) {
+                put(identity);
+            }
+        }
+    }
+
+    private void store(UUID uuid, String name, boolean canonical) {
+        put(new Identity(uuid, name, canonical, System.currentTimeMillis()));
+        dirty = true;
+    }
+
+    private void put(Identity identity) {
+        if (identity.canonical) {
+            Identity old = byUuid.put(identity.uuid, identity);
+            if (old != null) {
+                byName.remove(nameKey(old.name), old);
+            }
+        }
+
+        byName.put(nameKey(identity.name), identity);
+    }
+
+    private boolean isFresh(Identity identity) {
+        return identity != null && System.currentTimeMillis() - identity.resolvedAt < ttlMillis;
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static <K, V> CompletableFuture<Optional<V>> coalesce(Map<K, CompletableFuture<Optional<V>>> pending,
+            K key, Function<? super K, ? extends CompletableFuture<Optional<V>>> request,
+            Consumer<? super V> onResolved) {
+        CompletableFuture<Optional<V>> future = new CompletableFuture<>();
+        CompletableFuture<Optional<V>> existing = pending.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing.copy();
+        }
+
+        request.apply(key).whenComplete((result, error) -> {
+            Optional<V> value = error == null && result != null ? result : Optional.empty();
+            value.ifPresent(onResolved);
+            pending.remove(key, future);
+            future.complete(value);
+        });
+
+        return future.copy();
+    }
+}
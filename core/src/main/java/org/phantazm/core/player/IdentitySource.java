@@ -2,8 +2,7 @@ package org.phantazm.core.player;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ForkJoinPool;
 
@@ -38,4 +37,41 @@ public interface IdentitySource {
      * with the given name, which will be empty if there is an IO problem or if the name is invalid
      */
     @NotNull CompletableFuture<Optional<UUID>> getUUID(@NotNull String name);
+
+    /**
+     * Resolves several UUIDs to usernames at once. UUIDs that cannot be resolved are absent from the resulting map.
+     * The default implementation calls {@link IdentitySource#getName(UUID)} for each distinct UUID; implementations
+     * that can batch requests should override it.
+     *
+     * @param uuids the UUIDs to determine usernames from
+     * @return a CompletableFuture whose result is a map of each resolved UUID to its username
+     */
+    default @NotNull CompletableFuture<Map<UUID, String>> getNames(@NotNull Collection<UUID> uuids) {
+        Objects.requireNonNull(uuids, "uuids");
+        Map<UUID, CompletableFuture<Optional<String>>> futures = new HashMap<>(uuids.size());
+        for (UUID uuid : uuids) {
+            futures.computeIfAbsent(uuid, this::getName);
+        }
+
+        return IdentitySources.collect(futures);
+    }
+
+    /**
+     * Resolves several usernames to UUIDs at once. Names that cannot be resolved are absent from the resulting map,
+     * which is keyed by the names exactly as they were given. The default implementation calls
+     * {@link IdentitySource#getUUID(String)} for each distinct name; implementations that can batch requests should
+     * override it.
+     *
+     * @param names the usernames to determine UUIDs from
+     * @return a CompletableFuture whose result is a map of each resolved name to its UUID
+     */
+    default @NotNull CompletableFuture<Map<String, UUID>> getUUIDs(@NotNull Collection<String> names) {
+        Objects.requireNonNull(names, "names");
+        Map<String, CompletableFuture<Optional<UUID>>> futures = new HashMap<>(names.size());
+        for (String name : names) {
+            futures.computeIfAbsent(name, this::getUUID);
+        }
+
+        return IdentitySources.collect(futures);
+    }
 }
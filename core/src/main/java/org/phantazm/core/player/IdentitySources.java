@@ -0,0 +1,37 @@
+package org.phantazm.core.player;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Helpers shared by {@link IdentitySource} implementations. Not part of the public API.
+ */
+final class IdentitySources {
+    private IdentitySources() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Waits for every future in the given map, then collects the present results into a new map.
+     *
+     * @param futures the futures, keyed by what they resolve
+     * @param <K>     the key type
+     * @param <V>     the value type
+     * @return a CompletableFuture whose result is a map of each key to its present value
+     */
+    static <K, V> @NotNull CompletableFuture<Map<K, V>> collect(
+            @NotNull Map<K, ? extends CompletableFuture<Optional<V>>> futures) {
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            Map<K, V> result = new HashMap<>(futures.size());
+            for (Map.Entry<K, ? extends CompletableFuture<Optional<V>>> entry : futures.entrySet()) {
+                entry.getValue().join().ifPresent(value -> result.put(entry.getKey(), value));
+            }
+
+            return result;
+        });
+    }
+}
@@ -1,16 +1,19 @@
 package org.phantazm.core.player;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonPrimitive;
-import net.minestom.server.utils.mojang.MojangUtils;
+import com.google.gson.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Objects;
-import java.util.Optional;
-import java.util.UUID;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
@@ -18,15 +21,40 @@ import java.util.concurrent.Executor;
  * An {@link IdentitySource} that calls Mojang's API servers to resolve names and UUIDs. Will log any errors that occur
  * during resolution using its own dedicated {@link Logger}. Not part of the public API.
  *
- * @apiNote Currently, this utilizes {@link MojangUtils} utility methods and does not perform any caching of its own,
- * aside from that utilized by MojangUtils itself.
+ * @apiNote This class does not perform any caching of its own. Wrap it in a {@link CachingIdentitySource} to
+ * deduplicate and persist lookups.
  */
 public class MojangIdentitySource implements IdentitySource {
+    /**
+     * The endpoint used to resolve a UUID to a profile. The undashed UUID is appended to it.
+     */
+    public static final URI PROFILE_ENDPOINT = URI.create("https://sessionserver.mojang.com/session/minecraft/profile/");
+
+    /**
+     * The endpoint used to resolve a username to a profile. The username is appended to it.
+     */
+    public static final URI USERNAME_ENDPOINT = URI.create("https://api.mojang.com/users/profiles/minecraft/");
+
+    /**
+     * The endpoint used to resolve several usernames at once, by posting a JSON array of names.
+     */
+    public static final URI BULK_USERNAME_ENDPOINT = URI.create("https://api.mojang.com/profiles/minecraft");
+
     private static final Logger LOGGER = LoggerFactory.getLogger(MojangIdentitySource.class);
     private static final String NAME_KEY = "name";
     private static final String ID_KEY = "id";
+    private static final int BULK_LIMIT = 10;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
 
-    private final Executor executor;
+    private static final int OK = 200;
+    private static final int NO_CONTENT = 204;
+    private static final int NOT_FOUND = 404;
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final HttpClient client;
+    private final URI profileEndpoint;
+    private final URI usernameEndpoint;
+    private final URI bulkUsernameEndpoint;
 
     /**
      * Creates a new instance of this class using the provided {@link Executor} to (typically asynchronously) execute
@@ -35,60 +63,223 @@ public class MojangIdentitySource implements IdentitySource {
      * @param executor the executor used to run requests
      */
     public MojangIdentitySource(@NotNull Executor executor) {
-        this.executor = Objects.requireNonNull(executor, "executor");
+        this(executor, PROFILE_ENDPOINT, USERNAME_ENDPOINT, BULK_USERNAME_ENDPOINT);
+    }
+
+    /**
+     * Creates a new instance of this class that sends its requests to the given endpoints, which must behave like
+     * Mojang's.
+     *
+     * @param executor             the executor used to run requests
+     * @param profileEndpoint      the endpoint used to resolve UUIDs, ending in a slash
+     * @param usernameEndpoint     the endpoint used to resolve usernames, ending in a slash
+     * @param bulkUsernameEndpoint the endpoint used to resolve several usernames at once
+     */
+    public MojangIdentitySource(@NotNull Executor executor, @NotNull URI profileEndpoint,
+            @NotNull URI usernameEndpoint, @NotNull URI bulkUsernameEndpoint) {
+        this.client = HttpClient.newBuilder().executor(Objects.requireNonNull(executor, "executor"))
+                .connectTimeout(TIMEOUT).followRedirects(HttpClient.Redirect.NORMAL).build();
+        this.profileEndpoint = Objects.requireNonNull(profileEndpoint, "profileEndpoint");
+        this.usernameEndpoint = Objects.requireNonNull(usernameEndpoint, "usernameEndpoint");
+        this.bulkUsernameEndpoint = Objects.requireNonNull(bulkUsernameEndpoint, "bulkUsernameEndpoint");
     }
 
     @Override
     public @NotNull CompletableFuture<Optional<String>> getName(@NotNull UUID uuid) {
-        return CompletableFuture.supplyAsync(() -> {
-            JsonObject response = null;
-            try {
-                response = MojangUtils.fromUuid(uuid.toString());
-            }
-            catch (RuntimeException exception) {
-                LOGGER.error("RuntimeException thrown during name resolution of UUID {}: {}", uuid, exception);
-            }
+        Objects.requireNonNull(uuid, "uuid");
+        HttpRequest request = HttpRequest.newBuilder(profileEndpoint.resolve(undashed(uuid))).timeout(TIMEOUT).GET()
+                .build();
 
-            if (response != null) {
-                JsonElement nameElement = response.get(NAME_KEY);
-                if (nameElement != null && nameElement.isJsonPrimitive()) {
-                    JsonPrimitive primitive = nameElement.getAsJsonPrimitive();
-                    if (primitive.isString()) {
-                        return Optional.of(primitive.getAsString());
-                    }
-                }
+        return send(request, uuid).thenApply(response -> {
+            if (response == null) {
+                return Optional.empty();
+            }
 
+            String name = readString(response, NAME_KEY);
+            if (name == null) {
                 LOGGER.error("Unexpected response when resolving UUID {}: {}", uuid, response);
+                return Optional.empty();
             }
 
-            return Optional.empty();
-        }, executor);
+            return Optional.of(name);
+        });
     }
 
     @Override
     public @NotNull CompletableFuture<Optional<UUID>> getUUID(@NotNull String name) {
-        return CompletableFuture.supplyAsync(() -> {
-            JsonObject response = null;
-            try {
-                response = MojangUtils.fromUsername(name);
+        Objects.requireNonNull(name, "name");
+        HttpRequest request = HttpRequest.newBuilder(
+                        usernameEndpoint.resolve(URLEncoder.encode(name, StandardCharsets.UTF_8)))
+                .timeout(TIMEOUT).GET().build();
+
+        return send(request, name).thenApply(response -> {
+            if (response == null) {
+                return Optional.empty();
             }
-            catch (RuntimeException exception) {
-                LOGGER.error("RuntimeException thrown during UUID resolution of name {}: {}", name, exception);
+
+            UUID uuid = readUuid(response);
+            if (uuid == null) {
+                LOGGER.error("Unexpected response when resolving username {}: {}", name, response);
+                return Optional.empty();
+            }
+
+            return Optional.of(uuid);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Names are sent to the bulk endpoint in batches of up to ten, which is the most Mojang's API accepts per request.
+     */
+    @Override
+    public @NotNull CompletableFuture<Map<String, UUID>> getUUIDs(@NotNull Collection<String> names) {
+        Objects.requireNonNull(names, "names");
+
+        //the API matches names case-insensitively and answers with the canonical capitalization
+        Map<String, List<String>> requested = new LinkedHashMap<>(names.size());
+        for (String name : names) {
+            requested.computeIfAbsent(name.toLowerCase(Locale.ROOT), ignored -> new ArrayList<>(1)).add(name);
+        }
+
+        List<String> keys = new ArrayList<>(requested.keySet());
+        List<CompletableFuture<JsonArray>> batches = new ArrayList<>((keys.size() + BULK_LIMIT - 1) / BULK_LIMIT);
+        for (int i = 0; i < keys.size(); i += BULK_LIMIT) {
+            List<String> batch = keys.subList(i, Math.min(i + BULK_LIMIT, keys.size()));
+            JsonArray body = new JsonArray(batch.size());
+            for (String key : batch) {
+                body.add(requested.get(key).get(0));
             }
 
-            if (response != null) {
-                JsonElement idElement = response.get(ID_KEY);
-                if (idElement != null && idElement.isJsonPrimitive()) {
-                    JsonPrimitive idPrimitive = idElement.getAsJsonPrimitive();
-                    if (idPrimitive.isString()) {
-                        return Optional.of(UUID.fromString(idPrimitive.getAsString().replaceFirst("(\\w{8})(\\w{4})(\\w{4})(\\w{4})(\\w{12})", "$1-$2-$3-$4-$5")));
+            HttpRequest request = HttpRequest.newBuilder(bulkUsernameEndpoint).timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.toString())).build();
+            batches.add(sendArray(request, batch));
+        }
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            Map<String, UUID> result = new HashMap<>(names.size());
+            for (CompletableFuture<JsonArray> batch : batches) {
+                JsonArray profiles = batch.join();
+                if (profiles == null) {
+                    continue;
+                }
+
+                for (JsonElement element : profiles) {
+                    if (!element.isJsonObject()) {
+                        continue;
+                    }
+
+                    JsonObject profile = element.getAsJsonObject();
+                    String name = readString(profile, NAME_KEY);
+                    UUID uuid = readUuid(profile);
+                    if (name == null || uuid == null) {
+                        LOGGER.error("Unexpected profile in bulk username response: {}", profile);
+                        continue;
+                    }
+
+                    List<String> originals = requested.get(name.toLowerCase(Locale.ROOT));
+                    if (originals != null) {
+                        for (String original : originals) {
+                            result.put(original, uuid);
+                        }
                     }
                 }
+            }
 
-                LOGGER.error("Unexpected response when resolving username {}: {}", name, response);
+            return result;
+        });
+    }
+
+    private CompletableFuture<JsonObject> send(HttpRequest request, Object subject) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).handle((response, error) -> {
+            JsonElement body = parse(response, error, subject);
+            if (body == null) {
+                return null;
+            }
+
+            if (!body.isJsonObject()) {
+                LOGGER.error("Unexpected response when resolving {}: {}", subject, body);
+                return null;
+            }
+
+            return body.getAsJsonObject();
+        });
+    }
+
+    private CompletableFuture<JsonArray> sendArray(HttpRequest request, Object subject) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).handle((response, error) -> {
+            JsonElement body = parse(response, error, subject);
+            if (body == null) {
+                return null;
             }
 
-            return Optional.empty();
-        }, executor);
+            if (!body.isJsonArray()) {
+                LOGGER.error("Unexpected response when resolving {}: {}", subject, body);
+                return null;
+            }
+
+            return body.getAsJsonArray();
+        });
+    }
+
+    private static JsonElement parse(HttpResponse<String> response, Throwable error, Object subject) {
+        if (error != null) {
+            LOGGER.error("Exception thrown during resolution of {}: {}", subject, error);
+            return null;
+        }
+
+        int status = response.statusCode();
+        if (status == NO_CONTENT || status == NOT_FOUND) {
+            return null;
+        }
+
+        if (status == TOO_MANY_REQUESTS) {
+            LOGGER.warn("Rate limited while resolving {}", subject);
+            return null;
+        }
+
+        if (status != OK) {
+            LOGGER.error("Unexpected status {} when resolving {}: {}", status, subject, response.body());
+            return null;
+        }
+
+        try {
+            return JsonParser.parseString(response.body());
+        }
+        catch (JsonParseException exception) {
+            LOGGER.error("Malformed response when resolving {}: {}", subject, exception);
+            return null;
+        }
+    }
+
+    private static @Nullable String readString(JsonObject object, String key) {
+        JsonElement element = object.get(key);
+        if (element != null && element.isJsonPrimitive()) {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isString()) {
+                return primitive.getAsString();
+            }
+        }
+
+        return null;
+    }
+
+    private static @Nullable UUID readUuid(JsonObject object) {
+        String id = readString(object, ID_KEY);
+        if (id == null || id.length() != 32) {
+            return null;
+        }
+
+        try {
+            return new UUID(Long.parseUnsignedLong(id, 0, 16, 16), Long.parseUnsignedLong(id, 16, 32, 16));
+        }
+        catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    private static String undashed(UUID uuid) {
+        return uuid.toString().replace("-", "");
     }
 }
@@ -39,10 +39,41 @@ public interface PlayerView {
 
     @NotNull Optional<String> getUsernameIfCached();
 
+    /**
+     * Gets the username of this player without blocking. If the username is not yet known, resolution is started in
+     * the background, and the result of calling {@link UUID#toString()} on this player's UUID is returned as a
+     * placeholder. Callers that display the name should call this method again later to pick up the resolved name.
+     *
+     * @return the username of this player if it is known, otherwise a placeholder
+     */
+    default @NotNull String getUsernameNow() {
+        Optional<String> cached = getUsernameIfCached();
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        return getUsername().getNow(getUUID().toString());
+    }
+
     @NotNull CompletableFuture<? extends Component> getDisplayName();
 
     @NotNull Optional<? extends Component> getDisplayNameIfCached();
 
+    /**
+     * Gets the display name of this player without blocking. If neither the display name nor the username is known,
+     * a text component of the placeholder returned by {@link PlayerView#getUsernameNow()} is returned instead.
+     *
+     * @return the display name of this player if it is known, otherwise a placeholder
+     */
+    default @NotNull Component getDisplayNameNow() {
+        Optional<? extends Component> cached = getDisplayNameIfCached();
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        return Component.text(getUsernameNow());
+    }
+
     /**
      * Gets an {@link Optional} which may contain the player, only if they are online. Maintaining strong references to
      * {@link Player} objects should be avoided.
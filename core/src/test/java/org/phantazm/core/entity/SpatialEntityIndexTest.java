@@ -0,0 +1,74 @@
+package org.phantazm.core.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.Instance;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SpatialEntityIndexTest {
+
+    private static Entity entityAt(Instance instance, double x, double y, double z) {
+        Entity entity = mock(Entity.class);
+        when(entity.getPosition()).thenReturn(new Pos(x, y, z));
+        when(entity.getInstance()).thenReturn(instance);
+        return entity;
+    }
+
+    @Test
+    public void testNearestKeepsClosestInOrder() {
+        Instance instance = mock(Instance.class);
+        Entity far = entityAt(instance, 9, 0, 0);
+        Entity near = entityAt(instance, 1, 0, 0);
+        Entity middle = entityAt(instance, 4, 0, 0);
+        Entity farthest = entityAt(instance, 20, 0, 0);
+
+        List<Entity> nearest = SpatialEntityIndex.nearest(List.of(far, near, farthest, middle), Vec.ZERO, 3,
+                Function.identity());
+
+        assertEquals(List.of(near, middle, far), nearest);
+    }
+
+    @Test
+    public void testNearbyAcrossSectionBorder() {
+        Instance instance = mock(Instance.class);
+        SpatialEntityIndex index = new SpatialEntityIndex(instance);
+        Entity inside = entityAt(instance, 15.5, 0, 0);
+        Entity across = entityAt(instance, 16.5, 0, 0);
+        Entity outside = entityAt(instance, 40, 0, 0);
+        index.add(inside);
+        index.add(across);
+        index.add(outside);
+        for (int i = 0; i < 10; i++) {
+            index.add(entityAt(instance, 100 + i * 20, 0, 0));
+        }
+
+        List<Entity> nearby = index.nearby(new Vec(15.9, 0, 0), 1, Entity.class);
+
+        assertEquals(2, nearby.size());
+        assertTrue(nearby.contains(inside));
+        assertTrue(nearby.contains(across));
+    }
+
+    @Test
+    public void testTickMovesEntityToNewCell() {
+        Instance instance = mock(Instance.class);
+        SpatialEntityIndex index = new SpatialEntityIndex(instance);
+        Entity entity = entityAt(instance, 0, 0, 0);
+        index.add(entity);
+
+        when(entity.getPosition()).thenReturn(new Pos(100, 0, 0));
+        index.tick(0);
+
+        assertEquals(List.of(entity), index.nearby(new Vec(100, 0, 0), 1, Entity.class));
+        assertTrue(index.nearby(Vec.ZERO, 1, Entity.class).isEmpty());
+    }
+}
@@ -118,4 +118,50 @@ public class SceneProviderAbstractTest {
         verify(scene, never()).tick(0);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testPooledTickerTicksAllScenesBeforeBarrier() {
+        Collection<Scene<SceneJoinRequest>> scenes = new ArrayList<>(maximumLobbies);
+        for (int i = 0; i < maximumLobbies; i++) {
+            scenes.add(mock(Scene.class));
+        }
+
+        SceneTicker sceneTicker = ExecutorSceneTicker.pooled(4);
+        SceneProvider<Scene<SceneJoinRequest>, SceneJoinRequest> sceneProvider =
+                new SceneProviderAbstract<>(maximumLobbies, sceneTicker) {
+
+                    private final Iterator<Scene<SceneJoinRequest>> iterator = scenes.iterator();
+
+                    @Override
+                    protected @NotNull Optional<Scene<SceneJoinRequest>> chooseScene(@NotNull SceneJoinRequest o) {
+                        return Optional.empty();
+                    }
+
+                    @Override
+                    protected @NotNull Scene<SceneJoinRequest> createScene(@NotNull SceneJoinRequest o) {
+                        return iterator.next();
+                    }
+
+                    @Override
+                    protected void cleanupScene(@NotNull Scene<SceneJoinRequest> scene) {
+
+                    }
+
+                };
+
+        SceneJoinRequest request = Mockito.mock(SceneJoinRequest.class);
+        for (int i = 0; i < maximumLobbies; i++) {
+            sceneProvider.provideScene(request);
+        }
+        sceneProvider.tick(0);
+        sceneTicker.awaitTicks();
+
+        assertFalse(sceneTicker.isTicking());
+        for (Scene<SceneJoinRequest> scene : scenes) {
+            Mockito.verify(scene).tick(0);
+        }
+
+        sceneTicker.shutdown();
+    }
+
 }
@@ -0,0 +1,91 @@
+package org.phantazm.core.instance;
+
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class CopyOnWriteChunkIntegrationTest {
+
+    @Test
+    public void testCopySharesSectionsUntilWritten(Env env) {
+        InstanceContainer template = env.process().instance().createInstanceContainer();
+        template.setChunkSupplier(CopyOnWriteChunk::new);
+        template.loadChunk(0, 0).join();
+        template.setBlock(1, 1, 1, Block.STONE);
+        template.setBlock(1, 40, 1, Block.DIRT);
+
+        InstanceContainer copy = template.copy();
+        Chunk templateChunk = template.getChunk(0, 0);
+        CopyOnWriteChunk copiedChunk = (CopyOnWriteChunk)copy.getChunk(0, 0);
+        assertNotNull(templateChunk);
+        assertNotNull(copiedChunk);
+        assertEquals(0, copiedChunk.ownedSections());
+        assertSame(templateChunk.getSectionAt(1), copiedChunk.getSectionAt(1));
+
+        copy.setBlock(1, 1, 1, Block.GOLD_BLOCK);
+
+        assertEquals(1, copiedChunk.ownedSections());
+        assertNotSame(templateChunk.getSectionAt(1), copiedChunk.getSectionAt(1));
+        assertSame(templateChunk.getSectionAt(40), copiedChunk.getSectionAt(40));
+        assertEquals(Block.STONE, templateChunk.getBlock(1, 1, 1));
+        assertEquals(Block.GOLD_BLOCK, copiedChunk.getBlock(1, 1, 1));
+        assertEquals(Block.DIRT, copiedChunk.getBlock(1, 40, 1));
+        assertEquals(Block.STONE, template.getBlock(1, 1, 1));
+    }
+
+    @Test
+    public void testTemplateWriteAfterCopyDoesNotLeak(Env env) {
+        InstanceContainer template = env.process().instance().createInstanceContainer();
+        template.setChunkSupplier(CopyOnWriteChunk::new);
+        template.loadChunk(0, 0).join();
+        template.setBlock(1, 1, 1, Block.STONE);
+
+        InstanceContainer copy = template.copy();
+        template.setBlock(1, 1, 1, Block.AIR);
+
+        assertEquals(Block.AIR, template.getBlock(1, 1, 1));
+        assertEquals(Block.STONE, copy.getBlock(1, 1, 1));
+    }
+
+    @Test
+    public void testCopiesShareEverySection(Env env) {
+        InstanceContainer template = env.process().instance().createInstanceContainer();
+        template.setChunkSupplier(CopyOnWriteChunk::new);
+        template.loadChunk(0, 0).join();
+        for (int y = 0; y < 128; y += 16) {
+            template.setBlock(1, y, 1, Block.STONE);
+        }
+
+        for (int copies : new int[] {1, 8, 32}) {
+            long start = System.nanoTime();
+            List<InstanceContainer> instances = new ArrayList<>(copies);
+            for (int i = 0; i < copies; i++) {
+                instances.add(template.copy());
+            }
+
+            System.out.println("Created " + copies + " copies in " + (System.nanoTime() - start) / 1000 + "us");
+
+            for (InstanceContainer copy : instances) {
+                assertEquals(0, ((CopyOnWriteChunk)copy.getChunk(0, 0)).ownedSections());
+            }
+
+            //a single write only takes ownership of the section written to
+            InstanceContainer written = instances.get(0);
+            written.setBlock(1, 0, 1, Block.GOLD_BLOCK);
+            assertEquals(1, ((CopyOnWriteChunk)written.getChunk(0, 0)).ownedSections());
+            for (int i = 1; i < copies; i++) {
+                assertEquals(0, ((CopyOnWriteChunk)instances.get(i).getChunk(0, 0)).ownedSections());
+                assertEquals(Block.STONE, instances.get(i).getBlock(1, 0, 1));
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import net.minestom.server.item.Material;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class CachedInventoryObjectTest {
@@ -40,4 +41,25 @@ public class CachedInventoryObjectTest {
         assertSame(itemStack2, inventoryObject.getItemStack());
     }
 
+    @Test
+    public void testEqualStackKeepsCachedInstance() {
+        ItemStack itemStack = ItemStack.of(Material.STICK);
+        CachedInventoryObject inventoryObject = new CachedInventoryObject() {
+            @Override
+            public void tick(long time) {
+            }
+
+            @Override
+            protected @NotNull ItemStack computeStack() {
+                return ItemStack.of(Material.STICK);
+            }
+        };
+
+        ItemStack first = inventoryObject.getItemStack();
+
+        inventoryObject.setDirty();
+        assertSame(first, inventoryObject.getItemStack());
+        assertEquals(itemStack, first);
+    }
+
 }
@@ -0,0 +1,206 @@
+package org.phantazm.core.player;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachingIdentitySourceTest {
+    private static final UUID STEANK = UUID.fromString("9f7c3a5e-1f0b-4a4e-8d2b-3c6f0e5a7b91");
+    private static final UUID TACHI = UUID.fromString("0b1e2d3c-4a5f-4e6d-9c8b-7a6f5e4d3c2b");
+
+    /**
+     * Mimics Mojang's profile endpoints, answering after a fixed delay and refusing requests past a limit.
+     */
+    private static class StandInProfileServer {
+        private final Map<UUID, String> profiles = new ConcurrentHashMap<>();
+        private final AtomicInteger requests = new AtomicInteger();
+        private final HttpServer server;
+        private final ExecutorService executor;
+
+        private volatile long latencyMillis;
+        private volatile int requestLimit = Integer.MAX_VALUE;
+
+        private StandInProfileServer() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            executor = Executors.newCachedThreadPool();
+            server.setExecutor(executor);
+            server.createContext("/profile/", exchange -> respond(exchange, () -> {
+                String id = exchange.getRequestURI().getPath().substring("/profile/".length());
+                for (Map.Entry<UUID, String> entry : profiles.entrySet()) {
+                    if (undashed(entry.getKey()).equals(id)) {
+                        return profile(entry.getKey(), entry.getValue());
+                    }
+                }
+
+                return null;
+            }));
+            server.createContext("/users/", exchange -> respond(exchange, () -> {
+                String name = exchange.getRequestURI().getPath().substring("/users/".length());
+                return findByName(name);
+            }));
+            server.createContext("/bulk", exchange -> respond(exchange, () -> {
+                JsonArray names = JsonParser.parseString(
+                        new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)).getAsJsonArray();
+                JsonArray found = new JsonArray();
+                for (JsonElement name : names) {
+                    JsonObject profile = findByName(name.getAsString());
+                    if (profile != null) {
+                        found.add(profile);
+                    }
+                }
+
+                return found;
+            }));
+            server.start();
+        }
+
+        private interface Response {
+            JsonElement get() throws IOException;
+        }
+
+        private void respond(HttpExchange exchange, Response response) throws IOException {
+            try (exchange) {
+                if (requests.incrementAndGet() > requestLimit) {
+                    exchange.sendResponseHeaders(429, -1);
+                    return;
+                }
+
+                Thread.sleep(latencyMillis);
+                JsonElement body = response.get();
+                if (body == null) {
+                    exchange.sendResponseHeaders(204, -1);
+                    return;
+                }
+
+                byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private JsonObject findByName(String name) {
+            for (Map.Entry<UUID, String> entry : profiles.entrySet()) {
+                if (entry.getValue().equalsIgnoreCase(name)) {
+                    return profile(entry.getKey(), entry.getValue());
+                }
+            }
+
+            return null;
+        }
+
+        private static JsonObject profile(UUID uuid, String name) {
+            JsonObject object = new JsonObject();
+            object.addProperty("id", undashed(uuid));
+            object.addProperty("name", name);
+            return object;
+        }
+
+        private static String undashed(UUID uuid) {
+            return uuid.toString().replace("-", "");
+        }
+
+        private IdentitySource source() {
+            String base = "http://127.0.0.1:" + server.getAddress().getPort();
+            return new MojangIdentitySource(executor, URI.create(base + "/profile/"), URI.create(base + "/users/"),
+                    URI.create(base + "/bulk"));
+        }
+
+        private void stop() {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private StandInProfileServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = new StandInProfileServer();
+        server.profiles.put(STEANK, "Steank");
+        server.profiles.put(TACHI, "Tachi");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void testConcurrentLookupsShareOneRequest(@TempDir Path directory) {
+        server.latencyMillis = 200;
+        CachingIdentitySource source =
+                new CachingIdentitySource(server.source(), directory.resolve("identities.txt"), Duration.ofDays(1));
+
+        List<CompletableFuture<Optional<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            futures.add(source.getName(STEANK));
+        }
+
+        for (CompletableFuture<Optional<String>> future : futures) {
+            assertEquals(Optional.of("Steank"), future.join());
+        }
+
+        assertEquals(1, server.requests.get());
+        assertEquals(Optional.of(STEANK), source.getUUID("steank").join());
+        assertEquals(1, server.requests.get());
+    }
+
+    @Test
+    public void testFlushedIdentitiesSurviveRestart(@TempDir Path directory) {
+        Path file = directory.resolve("identities.txt");
+        CachingIdentitySource source = new CachingIdentitySource(server.source(), file, Duration.ofDays(1));
+        assertEquals(Map.of("Tachi", TACHI, "steank", STEANK), source.getUUIDs(List.of("Tachi", "steank")).join());
+        assertEquals(1, server.requests.get());
+        source.flush();
+
+        server.requestLimit = 0;
+        CachingIdentitySource restarted = new CachingIdentitySource(server.source(), file, Duration.ofDays(1));
+
+        assertEquals(Optional.of(TACHI), restarted.getUUID("tachi").join());
+        assertEquals(Optional.of(STEANK), restarted.getUUID("Steank").join());
+        assertEquals(1, server.requests.get());
+    }
+
+    @Test
+    public void testRateLimitedLookupIsRetried(@TempDir Path directory) {
+        server.requestLimit = 0;
+        CachingIdentitySource source =
+                new CachingIdentitySource(server.source(), directory.resolve("identities.txt"), Duration.ofDays(1));
+
+        assertTrue(source.getName(TACHI).join().isEmpty());
+
+        server.requestLimit = Integer.MAX_VALUE;
+        assertEquals(Optional.of("Tachi"), source.getName(TACHI).join());
+        assertEquals(Map.of(TACHI, "Tachi"), source.getNames(List.of(TACHI)).join());
+        assertEquals(2, server.requests.get());
+    }
+}
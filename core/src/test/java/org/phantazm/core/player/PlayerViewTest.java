@@ -0,0 +1,47 @@
+package org.phantazm.core.player;
+
+import net.minestom.server.network.ConnectionManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PlayerViewTest {
+
+    @Test
+    public void testUsernameNowReturnsPlaceholderWhileResolving() {
+        UUID uuid = UUID.randomUUID();
+        CompletableFuture<String> request = new CompletableFuture<>();
+        PlayerView view = mock(PlayerView.class, CALLS_REAL_METHODS);
+        doReturn(uuid).when(view).getUUID();
+        doReturn(Optional.empty()).when(view).getUsernameIfCached();
+        doReturn(request).when(view).getUsername();
+
+        assertEquals(uuid.toString(), view.getUsernameNow());
+        verify(view).getUsername();
+
+        doReturn(Optional.of("Steank")).when(view).getUsernameIfCached();
+        assertEquals("Steank", view.getUsernameNow());
+    }
+
+    @Test
+    public void testUnresolvedUsernameIsNotRequestedEveryCall() {
+        UUID uuid = UUID.randomUUID();
+        IdentitySource identitySource = mock(IdentitySource.class);
+        when(identitySource.getName(uuid)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        PlayerView view = new BasicPlayerView(identitySource, new ConnectionManager(), uuid);
+
+        assertEquals(uuid.toString(), view.getUsernameNow());
+        assertEquals(uuid.toString(), view.getUsernameNow());
+        verify(identitySource, times(1)).getName(uuid);
+    }
+}
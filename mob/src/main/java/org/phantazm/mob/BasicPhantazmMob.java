@@ -3,6 +3,7 @@ package org.phantazm.mob;
 import net.kyori.adventure.key.Key;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.mob.skill.Skill;
+import org.phantazm.mob.skill.SkillState;
 import org.phantazm.proxima.bindings.minestom.ProximaEntity;
 
 import java.util.Collection;
@@ -12,23 +13,29 @@ import java.util.Objects;
 /**
  * A representation of a custom mob in Phantazm.
  *
- * @param model  The model for the mob
- * @param entity The actual {@link ProximaEntity} instance of the mob
+ * @param model      The model for the mob
+ * @param entity     The actual {@link ProximaEntity} instance of the mob
+ * @param triggers   The skills of the mob, by trigger
+ * @param skillState The state of the mob's skills
  */
 public record BasicPhantazmMob(@NotNull MobModel model,
                                @NotNull ProximaEntity entity,
-                               @NotNull Map<Key, Collection<Skill>> triggers) implements PhantazmMob {
+                               @NotNull Map<Key, Collection<Skill>> triggers,
+                               @NotNull SkillState skillState) implements PhantazmMob {
 
     /**
      * Creates a PhantazmMob instance
      *
-     * @param model  The model for the mob
-     * @param entity The actual {@link ProximaEntity} instance of the mob
+     * @param model      The model for the mob
+     * @param entity     The actual {@link ProximaEntity} instance of the mob
+     * @param triggers   The skills of the mob, by trigger
+     * @param skillState The state of the mob's skills
      */
     public BasicPhantazmMob {
         Objects.requireNonNull(model, "model");
         Objects.requireNonNull(entity, "entity");
         Objects.requireNonNull(triggers, "triggers");
+        Objects.requireNonNull(skillState, "skillState");
     }
 
     @Override
@@ -1,6 +1,5 @@
 package org.phantazm.mob;
 
-import it.unimi.dsi.fastutil.Pair;
 import net.kyori.adventure.key.Key;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.event.entity.EntityDeathEvent;
@@ -19,9 +18,11 @@ public class MobStore implements Tickable {
     private static final Key DEATH_KEY = Key.key(Namespaces.PHANTAZM, "death");
     private static final Key SPAWN_KEY = Key.key(Namespaces.PHANTAZM, "spawn");
 
+    private record TickingMob(PhantazmMob mob, Skill[] skills) {
+    }
+
     private final Map<UUID, PhantazmMob> uuidToMob = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<UUID, Pair<PhantazmMob, Collection<Skill>>> tickableSkills =
-            new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, TickingMob> tickableSkills = new ConcurrentHashMap<>();
 
     /**
      * Attempts to activate triggers for an {@link Entity}.
@@ -87,7 +88,7 @@ public class MobStore implements Tickable {
         }
 
         if (!tickables.isEmpty()) {
-            tickableSkills.put(uuid, Pair.of(mob, List.copyOf(tickables)));
+            tickableSkills.put(uuid, new TickingMob(mob, tickables.toArray(Skill[]::new)));
         }
 
         Collection<Skill> spawnSkills = mob.triggers().get(SPAWN_KEY);
@@ -120,9 +121,10 @@ public class MobStore implements Tickable {
 
     @Override
     public void tick(long time) {
-        for (Pair<PhantazmMob, Collection<Skill>> tickables : tickableSkills.values()) {
-            for (Skill skill : tickables.right()) {
-                skill.tick(time, tickables.left());
+        for (TickingMob tickingMob : tickableSkills.values()) {
+            PhantazmMob mob = tickingMob.mob;
+            for (Skill skill : tickingMob.skills) {
+                skill.tick(time, mob);
             }
         }
     }
@@ -2,6 +2,7 @@ package org.phantazm.mob;
 
 import net.kyori.adventure.key.Key;
 import org.phantazm.mob.skill.Skill;
+import org.phantazm.mob.skill.SkillState;
 import org.phantazm.proxima.bindings.minestom.ProximaEntity;
 
 import java.util.Collection;
@@ -13,4 +14,6 @@ public interface PhantazmMob {
     ProximaEntity entity();
 
     Map<Key, Collection<Skill>> triggers();
+
+    SkillState skillState();
 }
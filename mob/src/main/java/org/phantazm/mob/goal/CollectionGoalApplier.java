@@ -3,6 +3,7 @@ package org.phantazm.mob.goal;
 import com.github.steanky.element.core.annotation.*;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.mob.PhantazmMob;
+import org.phantazm.mob.skill.SkillState;
 import org.phantazm.proxima.bindings.minestom.goal.ProximaGoal;
 
 import java.util.ArrayList;
@@ -29,6 +30,13 @@ public class CollectionGoalApplier implements GoalApplier {
         mob.entity().addGoalGroup(new CollectionGoalGroup(goalCollection));
     }
 
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        for (GoalCreator creator : creators) {
+            creator.declareState(layout);
+        }
+    }
+
     @DataObject
     public record Data(@NotNull @ChildPath("goal_creators") List<String> goalCreators) {
     }
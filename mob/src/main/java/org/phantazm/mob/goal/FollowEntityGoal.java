@@ -4,6 +4,7 @@ import com.github.steanky.element.core.annotation.*;
 import net.minestom.server.entity.Entity;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.mob.PhantazmMob;
+import org.phantazm.mob.skill.SkillState;
 import org.phantazm.mob.target.TargetSelector;
 import org.phantazm.proxima.bindings.minestom.ProximaEntity;
 import org.phantazm.proxima.bindings.minestom.goal.ProximaGoal;
@@ -31,6 +32,11 @@ public class FollowEntityGoal implements GoalCreator {
         this.selector = Objects.requireNonNull(selector, "selector");
     }
 
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        selector.declareState(layout);
+    }
+
     @Override
     public @NotNull ProximaGoal create(@NotNull PhantazmMob mob) {
         return new Goal(data, selector, mob);
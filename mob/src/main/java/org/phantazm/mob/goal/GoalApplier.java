@@ -2,7 +2,18 @@ package org.phantazm.mob.goal;
 
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.mob.PhantazmMob;
+import org.phantazm.mob.skill.Skill;
+import org.phantazm.mob.skill.SkillState;
 
 public interface GoalApplier {
     void apply(@NotNull PhantazmMob mob);
+
+    /**
+     * Declares the per-mob state needed by the {@link Skill}s this applier's goals use. Called once, before
+     * {@link GoalApplier#apply(PhantazmMob)} is called for any mob.
+     *
+     * @param layout the layout of the mob's {@link SkillState}
+     */
+    default void declareState(@NotNull SkillState.Layout layout) {
+    }
 }
@@ -2,8 +2,19 @@ package org.phantazm.mob.goal;
 
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.mob.PhantazmMob;
+import org.phantazm.mob.skill.Skill;
+import org.phantazm.mob.skill.SkillState;
 import org.phantazm.proxima.bindings.minestom.goal.ProximaGoal;
 
 public interface GoalCreator {
     @NotNull ProximaGoal create(@NotNull PhantazmMob mob);
+
+    /**
+     * Declares the per-mob state needed by the {@link Skill}s and target selectors this creator's goals use. Called
+     * once, before any goal is created.
+     *
+     * @param layout the layout of the mob's {@link SkillState}
+     */
+    default void declareState(@NotNull SkillState.Layout layout) {
+    }
 }
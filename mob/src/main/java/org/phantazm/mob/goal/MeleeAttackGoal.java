@@ -10,6 +10,7 @@ import net.minestom.server.entity.damage.DamageType;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.mob.PhantazmMob;
 import org.phantazm.mob.skill.Skill;
+import org.phantazm.mob.skill.SkillState;
 import org.phantazm.mob.target.LastHitSelector;
 import org.phantazm.proxima.bindings.minestom.ProximaEntity;
 import org.phantazm.proxima.bindings.minestom.goal.ProximaGoal;
@@ -37,6 +38,14 @@ public class MeleeAttackGoal implements GoalCreator {
         return new Goal(data, skills, lastHitSelector, mob);
     }
 
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        lastHitSelector.declareState(layout);
+        for (Skill skill : skills) {
+            skill.declareState(layout);
+        }
+    }
+
     private static class Goal implements ProximaGoal {
         private final Data data;
         private final Collection<Skill> skills;
@@ -91,7 +100,7 @@ public class MeleeAttackGoal implements GoalCreator {
                     livingEntity.takeKnockback(0.4F * knockbackStrength, Math.sin(angle), -Math.cos(angle));
                 }
 
-                lastHitSelector.setLastHit(livingEntity);
+                lastHitSelector.setLastHit(mob, livingEntity);
 
                 for (Skill skill : skills) {
                     skill.use(mob);
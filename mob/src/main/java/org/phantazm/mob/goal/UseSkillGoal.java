@@ -5,6 +5,7 @@ import net.minestom.server.MinecraftServer;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.mob.PhantazmMob;
 import org.phantazm.mob.skill.Skill;
+import org.phantazm.mob.skill.SkillState;
 import org.phantazm.proxima.bindings.minestom.goal.ProximaGoal;
 
 import java.util.Objects;
@@ -29,6 +30,11 @@ public class UseSkillGoal implements GoalCreator {
         return new Goal(data, skill, mob);
     }
 
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        skill.declareState(layout);
+    }
+
 
     private static class Goal implements ProximaGoal {
         private final Data data;
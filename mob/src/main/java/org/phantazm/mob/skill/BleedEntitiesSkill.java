@@ -16,10 +16,11 @@ import java.util.Objects;
 @Cache(false)
 public class BleedEntitiesSkill implements Skill {
 
-    private final Collection<BleedContext> bleeding = new LinkedList<>();
     private final Data data;
     private final TargetSelector<? extends LivingEntity> selector;
 
+    private SkillState.ObjectSlot<Collection<BleedContext>> bleeding;
+
     @FactoryMethod
     public BleedEntitiesSkill(@NotNull Data data,
             @NotNull @Child("selector") TargetSelector<? extends LivingEntity> selector) {
@@ -27,14 +28,34 @@ public class BleedEntitiesSkill implements Skill {
         this.selector = Objects.requireNonNull(selector, "selector");
     }
 
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        this.bleeding = layout.objectSlot(null);
+        selector.declareState(layout);
+    }
+
     @Override
     public void use(@NotNull PhantazmMob self) {
-        selector.selectTarget(self).ifPresent(livingEntity -> bleeding.add(new BleedContext(livingEntity, 0L)));
+        selector.selectTarget(self).ifPresent(livingEntity -> {
+            SkillState state = self.skillState();
+            Collection<BleedContext> contexts = state.get(bleeding);
+            if (contexts == null) {
+                contexts = new LinkedList<>();
+                state.set(bleeding, contexts);
+            }
+
+            contexts.add(new BleedContext(livingEntity, 0L));
+        });
     }
 
     @Override
     public void tick(long time, @NotNull PhantazmMob self) {
-        Iterator<BleedContext> contextIterator = bleeding.iterator();
+        Collection<BleedContext> contexts = self.skillState().get(bleeding);
+        if (contexts == null) {
+            return;
+        }
+
+        Iterator<BleedContext> contextIterator = contexts.iterator();
         if (!contextIterator.hasNext()) {
             return;
         }
@@ -66,17 +87,7 @@ public class BleedEntitiesSkill implements Skill {
 
     @Override
     public void end(@NotNull PhantazmMob self) {
-        Iterator<BleedContext> contextIterator = bleeding.iterator();
-        if (!contextIterator.hasNext()) {
-            return;
-        }
-
-        while (contextIterator.hasNext()) {
-            BleedContext next = contextIterator.next();
-            if (next.target == self.entity()) {
-                contextIterator.remove();
-            }
-        }
+        self.skillState().reset(bleeding);
     }
 
     @DataObject
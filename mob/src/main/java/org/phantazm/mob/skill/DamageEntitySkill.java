@@ -23,6 +23,11 @@ public class DamageEntitySkill implements Skill {
         this.selector = Objects.requireNonNull(selector, "selector");
     }
 
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        selector.declareState(layout);
+    }
+
     @Override
     public void use(@NotNull PhantazmMob self) {
         selector.selectTarget(self).ifPresent(livingEntity -> {
@@ -35,6 +35,13 @@ public class GroupSkill implements Skill {
         this.needsTicking = !tickingDelegates.isEmpty();
     }
 
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        for (Skill delegate : delegates) {
+            delegate.declareState(layout);
+        }
+    }
+
     @Override
     public void init(@NotNull PhantazmMob self) {
         for (Skill delegate : delegates) {
@@ -22,6 +22,11 @@ public class KnockbackEntitySkill implements Skill {
         this.selector = Objects.requireNonNull(selector, "selector");
     }
 
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        selector.declareState(layout);
+    }
+
     @Override
     public void use(@NotNull PhantazmMob self) {
         selector.selectTarget(self).ifPresent(livingEntity -> {
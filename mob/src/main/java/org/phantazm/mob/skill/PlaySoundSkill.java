@@ -34,6 +34,11 @@ public class PlaySoundSkill implements Skill {
         this.random = new Random();
     }
 
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        selector.declareState(layout);
+    }
+
     @Override
     public void use(@NotNull PhantazmMob self) {
         selector.selectTarget(self).ifPresent(object -> {
@@ -26,6 +26,11 @@ public class RandomSkill implements Skill {
         this.random = new Random();
     }
 
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        delegate.declareState(layout);
+    }
+
     @Override
     public void use(@NotNull PhantazmMob self) {
         if (data.chance <= 0) {
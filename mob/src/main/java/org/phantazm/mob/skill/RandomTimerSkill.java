@@ -3,14 +3,10 @@ package org.phantazm.mob.skill;
 import com.github.steanky.element.core.annotation.*;
 import com.github.steanky.element.core.annotation.document.Description;
 import net.minestom.server.MinecraftServer;
-import net.minestom.server.entity.Entity;
-import net.minestom.server.tag.Tag;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.commons.MathUtils;
 import org.phantazm.mob.PhantazmMob;
 
-import java.util.UUID;
-
 @Description("""
         A timed meta skill that can activate another skill periodically after a delay, a set number of times, or
         infinitely. Time is measured from the moment that the mob spawned. The timer can be set to start as soon as the
@@ -23,10 +19,10 @@ public class RandomTimerSkill implements Skill {
     private final Data data;
     private final Skill delegate;
 
-    private final Tag<Long> lastActivationTag;
-    private final Tag<Integer> useCountTag;
-    private final Tag<Boolean> startedTag;
-    private final Tag<Long> intervalTag;
+    private SkillState.LongSlot lastActivation;
+    private SkillState.LongSlot useCount;
+    private SkillState.BooleanSlot started;
+    private SkillState.LongSlot interval;
 
     private final boolean tickDelegate;
 
@@ -34,27 +30,31 @@ public class RandomTimerSkill implements Skill {
     public RandomTimerSkill(@NotNull Data data, @NotNull @Child("delegate") Skill delegate) {
         this.data = data;
         this.delegate = delegate;
+        this.tickDelegate = delegate.needsTicking();
+    }
 
-        UUID uuid = UUID.randomUUID();
-        this.lastActivationTag = Tag.Long("last_activation_" + uuid).defaultValue(-1L);
-        this.useCountTag = Tag.Integer("use_count_" + uuid).defaultValue(0);
-        this.startedTag = Tag.Boolean("started_" + uuid).defaultValue(!data.requiresActivation);
-        this.intervalTag = Tag.Long("interval_" + uuid).defaultValue(
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        delegate.declareState(layout);
+
+        this.lastActivation = layout.longSlot(-1L);
+        this.useCount = layout.longSlot(0L);
+        this.started = layout.booleanSlot(!data.requiresActivation);
+        this.interval = layout.longSlot(
                 data.requiresActivation ? -1L : MathUtils.randomInterval(data.minInterval, data.maxInterval));
-        this.tickDelegate = delegate.needsTicking();
     }
 
     @Override
     public void use(@NotNull PhantazmMob self) {
-        Entity entity = self.entity();
+        SkillState state = self.skillState();
         if (data.requiresActivation) {
-            entity.setTag(startedTag, true);
-            entity.setTag(intervalTag, MathUtils.randomInterval(data.minInterval, data.maxInterval));
+            state.set(started, true);
+            state.set(interval, MathUtils.randomInterval(data.minInterval, data.maxInterval));
         }
 
-        if (data.resetOnActivation || !entity.getTag(startedTag)) {
-            entity.removeTag(lastActivationTag);
-            entity.removeTag(useCountTag);
+        if (data.resetOnActivation || !state.get(started)) {
+            state.reset(lastActivation);
+            state.reset(useCount);
         }
     }
 
@@ -64,53 +64,52 @@ public class RandomTimerSkill implements Skill {
             delegate.tick(time, self);
         }
 
-        Entity entity = self.entity();
-        if (!entity.getTag(startedTag)) {
+        SkillState state = self.skillState();
+        if (!state.get(started)) {
             return;
         }
 
-        long actualInterval = entity.getTag(intervalTag);
+        long actualInterval = state.get(interval);
         if (actualInterval == -1L) {
             return;
         }
 
-        int lastUseCount = -1;
-        if (data.repeat == 0 || (data.repeat > 0 && (lastUseCount = entity.getTag(useCountTag)) >= data.repeat)) {
-            entity.setTag(startedTag, false);
+        long lastUseCount = -1;
+        if (data.repeat == 0 || (data.repeat > 0 && (lastUseCount = state.get(useCount)) >= data.repeat)) {
+            state.set(started, false);
             return;
         }
 
-        long lastActivationTime = entity.getTag(lastActivationTag);
+        long lastActivationTime = state.get(lastActivation);
         if (lastActivationTime == -1) {
-            entity.setTag(lastActivationTag, lastActivationTime = time);
+            state.set(lastActivation, lastActivationTime = time);
         }
 
         if ((time - lastActivationTime) / MinecraftServer.TICK_MS >= actualInterval) {
-            entity.setTag(lastActivationTag, time);
-            entity.setTag(intervalTag, MathUtils.randomInterval(data.minInterval, data.maxInterval));
+            state.set(lastActivation, time);
+            state.set(interval, MathUtils.randomInterval(data.minInterval, data.maxInterval));
 
             delegate.use(self);
-            manageState(self, lastUseCount);
+            manageState(state, lastUseCount);
         }
     }
 
     @Override
     public void end(@NotNull PhantazmMob self) {
-        Entity entity = self.entity();
+        SkillState state = self.skillState();
 
-        entity.removeTag(lastActivationTag);
-        entity.removeTag(useCountTag);
-        entity.removeTag(startedTag);
-        entity.removeTag(intervalTag);
+        state.reset(lastActivation);
+        state.reset(useCount);
+        state.reset(started);
+        state.reset(interval);
     }
 
-    private void manageState(PhantazmMob self, int lastUseCount) {
+    private void manageState(SkillState state, long lastUseCount) {
         if (lastUseCount != -1) {
-            Entity entity = self.entity();
-            entity.setTag(useCountTag, ++lastUseCount);
+            state.set(useCount, ++lastUseCount);
 
             if (lastUseCount >= data.repeat) {
-                entity.setTag(startedTag, false);
+                state.set(started, false);
             }
         }
     }
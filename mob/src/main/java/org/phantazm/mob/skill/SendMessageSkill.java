@@ -22,6 +22,11 @@ public class SendMessageSkill implements Skill {
         this.selector = selector;
     }
 
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        selector.declareState(layout);
+    }
+
     @Override
     public void use(@NotNull PhantazmMob self) {
         Optional<List<Player>> playerListOptional = selector.selectTarget(self);
@@ -13,6 +13,17 @@ import org.phantazm.mob.PhantazmMob;
  * generally not be called.
  */
 public interface Skill {
+    /**
+     * Declares the per-mob state this skill needs, by allocating slots from the given layout. This is called once,
+     * before the skill is used by any mob. A single skill instance may be shared by many mobs, so all per-mob state
+     * must live in the slots declared here. Meta skills, and goal creators which use skills, should forward the call
+     * to their delegates, and skills holding a {@link org.phantazm.mob.target.TargetSelector} to their selector.
+     *
+     * @param layout the layout of the mob's {@link SkillState}
+     */
+    default void declareState(@NotNull SkillState.Layout layout) {
+    }
+
     /**
      * Called when a mob spawns with this skill.
      *
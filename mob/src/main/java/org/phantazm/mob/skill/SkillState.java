@@ -0,0 +1,220 @@
+package org.phantazm.mob.skill;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.phantazm.mob.PhantazmMob;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>Per-mob storage for the state of a {@link PhantazmMob}'s skills. Each skill declares the slots it needs once,
+ * through {@link Skill#declareState(Layout)}, and keeps the returned slot objects. Reading or writing a slot is then a
+ * plain array access, without any hashing or boxing of primitive values.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public final class SkillState {
+    /**
+     * A slot holding a {@code long}.
+     *
+     * @param index        the index of the slot
+     * @param defaultValue the value of the slot before it is first set, or after it is reset
+     */
+    public record LongSlot(int index, long defaultValue) {
+    }
+
+    /**
+     * A slot holding a {@code boolean}.
+     *
+     * @param index        the index of the slot
+     * @param defaultValue the value of the slot before it is first set, or after it is reset
+     */
+    public record BooleanSlot(int index, boolean defaultValue) {
+    }
+
+    /**
+     * A slot holding an object.
+     *
+     * @param index        the index of the slot
+     * @param defaultValue the value of the slot before it is first set, or after it is reset
+     * @param <T>          the type of object
+     */
+    public record ObjectSlot<T>(int index, @Nullable T defaultValue) {
+    }
+
+    /**
+     * Collects the slots declared by the skills of a mob.
+     */
+    public static final class Layout {
+        private long[] longDefaults;
+        private final List<Object> objectDefaults;
+        private int longCount;
+
+        /**
+         * Creates a new, empty layout.
+         */
+        public Layout() {
+            this.longDefaults = new long[8];
+            this.objectDefaults = new ArrayList<>(0);
+        }
+
+        /**
+         * Declares a new {@code long} slot.
+         *
+         * @param defaultValue the default value of the slot
+         * @return the new slot
+         */
+        public @NotNull LongSlot longSlot(long defaultValue) {
+            return new LongSlot(nextLong(defaultValue), defaultValue);
+        }
+
+        /**
+         * Declares a new {@code boolean} slot.
+         *
+         * @param defaultValue the default value of the slot
+         * @return the new slot
+         */
+        public @NotNull BooleanSlot booleanSlot(boolean defaultValue) {
+            return new BooleanSlot(nextLong(defaultValue ? 1L : 0L), defaultValue);
+        }
+
+        /**
+         * Declares a new object slot.
+         *
+         * @param defaultValue the default value of the slot
+         * @param <T>          the type of object
+         * @return the new slot
+         */
+        public <T> @NotNull ObjectSlot<T> objectSlot(@Nullable T defaultValue) {
+            objectDefaults.add(defaultValue);
+            return new ObjectSlot<>(objectDefaults.size() - 1, defaultValue);
+        }
+
+        /**
+         * Creates a new state with room for every slot declared so far, all set to their default values.
+         *
+         * @return a new state
+         */
+        public @NotNull SkillState newState() {
+            return new SkillState(Arrays.copyOf(longDefaults, longCount), objectDefaults.toArray());
+        }
+
+        private int nextLong(long defaultValue) {
+            if (longCount == longDefaults.length) {
+                longDefaults = Arrays.copyOf(longDefaults, longCount * 2);
+            }
+
+            longDefaults[longCount] = defaultValue;
+            return longCount++;
+        }
+    }
+
+    private final long[] longs;
+    private final Object[] objects;
+
+    private SkillState(long[] longs, Object[] objects) {
+        this.longs = longs;
+        this.objects = objects;
+    }
+
+    /**
+     * Creates a state without any slots.
+     *
+     * @return a new, empty state
+     */
+    public static @NotNull SkillState empty() {
+        return new SkillState(new long[0], new Object[0]);
+    }
+
+    /**
+     * Gets the value of a {@code long} slot.
+     *
+     * @param slot the slot
+     * @return the slot's value
+     */
+    public long get(@NotNull LongSlot slot) {
+        return longs[slot.index];
+    }
+
+    /**
+     * Sets the value of a {@code long} slot.
+     *
+     * @param slot  the slot
+     * @param value the new value
+     */
+    public void set(@NotNull LongSlot slot, long value) {
+        longs[slot.index] = value;
+    }
+
+    /**
+     * Sets a {@code long} slot back to its default value.
+     *
+     * @param slot the slot
+     */
+    public void reset(@NotNull LongSlot slot) {
+        longs[slot.index] = slot.defaultValue;
+    }
+
+    /**
+     * Gets the value of a {@code boolean} slot.
+     *
+     * @param slot the slot
+     * @return the slot's value
+     */
+    public boolean get(@NotNull BooleanSlot slot) {
+        return longs[slot.index] != 0L;
+    }
+
+    /**
+     * Sets the value of a {@code boolean} slot.
+     *
+     * @param slot  the slot
+     * @param value the new value
+     */
+    public void set(@NotNull BooleanSlot slot, boolean value) {
+        longs[slot.index] = value ? 1L : 0L;
+    }
+
+    /**
+     * Sets a {@code boolean} slot back to its default value.
+     *
+     * @param slot the slot
+     */
+    public void reset(@NotNull BooleanSlot slot) {
+        longs[slot.index] = slot.defaultValue ? 1L : 0L;
+    }
+
+    /**
+     * Gets the value of an object slot.
+     *
+     * @param slot the slot
+     * @param <T>  the type of object
+     * @return the slot's value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NotNull ObjectSlot<T> slot) {
+        return (T)objects[slot.index];
+    }
+
+    /**
+     * Sets the value of an object slot.
+     *
+     * @param slot  the slot
+     * @param value the new value
+     * @param <T>   the type of object
+     */
+    public <T> void set(@NotNull ObjectSlot<T> slot, @Nullable T value) {
+        objects[slot.index] = value;
+    }
+
+    /**
+     * Sets an object slot back to its default value.
+     *
+     * @param slot the slot
+     */
+    public void reset(@NotNull ObjectSlot<?> slot) {
+        objects[slot.index] = slot.defaultValue;
+    }
+}
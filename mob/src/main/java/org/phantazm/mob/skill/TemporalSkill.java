@@ -2,14 +2,10 @@ package org.phantazm.mob.skill;
 
 import com.github.steanky.element.core.annotation.*;
 import net.minestom.server.MinecraftServer;
-import net.minestom.server.entity.Entity;
-import net.minestom.server.tag.Tag;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.commons.MathUtils;
 import org.phantazm.mob.PhantazmMob;
 
-import java.util.UUID;
-
 @Model("mob.skill.temporal")
 @Cache(false)
 public class TemporalSkill implements Skill {
@@ -17,18 +13,22 @@ public class TemporalSkill implements Skill {
     private final Skill delegate;
 
     private final boolean delegateNeedsTicking;
-    private final Tag<Long> startTime;
-    private final Tag<Long> actualDelay;
+    private SkillState.LongSlot startTime;
+    private SkillState.LongSlot actualDelay;
 
     @FactoryMethod
     public TemporalSkill(@NotNull Data data, @NotNull @Child("delegate") Skill delegate) {
         this.data = data;
         this.delegate = delegate;
         this.delegateNeedsTicking = delegate.needsTicking();
+    }
+
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        delegate.declareState(layout);
 
-        UUID uuid = UUID.randomUUID();
-        this.startTime = Tag.Long("start_time_" + uuid).defaultValue(-1L);
-        this.actualDelay = Tag.Long("actual_delay_" + uuid).defaultValue(-1L);
+        this.startTime = layout.longSlot(-1L);
+        this.actualDelay = layout.longSlot(-1L);
     }
 
     @Override
@@ -37,18 +37,18 @@ public class TemporalSkill implements Skill {
             delegate.tick(time, self);
         }
 
-        Entity entity = self.entity();
-        long startTime = entity.getTag(this.startTime);
+        SkillState state = self.skillState();
+        long startTime = state.get(this.startTime);
         if (startTime < 0) {
             return;
         }
 
         long elapsed = System.currentTimeMillis() - startTime;
-        if (elapsed / MinecraftServer.TICK_MS >= entity.getTag(this.actualDelay)) {
+        if (elapsed / MinecraftServer.TICK_MS >= state.get(this.actualDelay)) {
             delegate.end(self);
 
-            entity.removeTag(this.startTime);
-            entity.removeTag(actualDelay);
+            state.reset(this.startTime);
+            state.reset(actualDelay);
         }
     }
 
@@ -56,9 +56,9 @@ public class TemporalSkill implements Skill {
     public void use(@NotNull PhantazmMob self) {
         delegate.use(self);
 
-        Entity entity = self.entity();
-        entity.setTag(startTime, System.currentTimeMillis());
-        entity.setTag(actualDelay, MathUtils.randomInterval(data.minDuration, data.maxDuration));
+        SkillState state = self.skillState();
+        state.set(startTime, System.currentTimeMillis());
+        state.set(actualDelay, MathUtils.randomInterval(data.minDuration, data.maxDuration));
     }
 
     @Override
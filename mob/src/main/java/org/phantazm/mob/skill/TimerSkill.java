@@ -3,13 +3,9 @@ package org.phantazm.mob.skill;
 import com.github.steanky.element.core.annotation.*;
 import com.github.steanky.element.core.annotation.document.Description;
 import net.minestom.server.MinecraftServer;
-import net.minestom.server.entity.Entity;
-import net.minestom.server.tag.Tag;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.mob.PhantazmMob;
 
-import java.util.UUID;
-
 @Description("""
         A timed meta skill that can activate another skill periodically after a delay, a set number of times, or
         infinitely. Time is measured from the moment that the mob spawned. The timer can be set to start as soon as the
@@ -22,9 +18,9 @@ public class TimerSkill implements Skill {
     private final Data data;
     private final Skill delegate;
 
-    private final Tag<Long> lastActivationTag;
-    private final Tag<Integer> useCountTag;
-    private final Tag<Boolean> startedTag;
+    private SkillState.LongSlot lastActivation;
+    private SkillState.LongSlot useCount;
+    private SkillState.BooleanSlot started;
 
     private final boolean tickDelegate;
 
@@ -32,24 +28,28 @@ public class TimerSkill implements Skill {
     public TimerSkill(@NotNull Data data, @NotNull @Child("delegate") Skill delegate) {
         this.data = data;
         this.delegate = delegate;
-
-        UUID uuid = UUID.randomUUID();
-        this.lastActivationTag = Tag.Long("last_activation_" + uuid).defaultValue(-1L);
-        this.useCountTag = Tag.Integer("use_count_" + uuid).defaultValue(0);
-        this.startedTag = Tag.Boolean("started_" + uuid).defaultValue(!data.requiresActivation);
         this.tickDelegate = delegate.needsTicking();
     }
 
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        delegate.declareState(layout);
+
+        this.lastActivation = layout.longSlot(-1L);
+        this.useCount = layout.longSlot(0L);
+        this.started = layout.booleanSlot(!data.requiresActivation);
+    }
+
     @Override
     public void use(@NotNull PhantazmMob self) {
-        Entity entity = self.entity();
+        SkillState state = self.skillState();
         if (data.requiresActivation) {
-            entity.setTag(startedTag, true);
+            state.set(started, true);
         }
 
-        if (data.resetOnActivation || !entity.getTag(startedTag)) {
-            entity.removeTag(lastActivationTag);
-            entity.removeTag(useCountTag);
+        if (data.resetOnActivation || !state.get(started)) {
+            state.reset(lastActivation);
+            state.reset(useCount);
         }
     }
 
@@ -59,45 +59,44 @@ public class TimerSkill implements Skill {
             delegate.tick(time, self);
         }
 
-        Entity entity = self.entity();
-        if (!entity.getTag(startedTag)) {
+        SkillState state = self.skillState();
+        if (!state.get(started)) {
             return;
         }
 
-        int lastUseCount = -1;
-        if (data.repeat == 0 || (data.repeat > 0 && (lastUseCount = entity.getTag(useCountTag)) >= data.repeat)) {
-            entity.setTag(startedTag, false);
+        long lastUseCount = -1;
+        if (data.repeat == 0 || (data.repeat > 0 && (lastUseCount = state.get(useCount)) >= data.repeat)) {
+            state.set(started, false);
             return;
         }
 
-        long lastActivationTime = entity.getTag(lastActivationTag);
+        long lastActivationTime = state.get(lastActivation);
         if (lastActivationTime == -1) {
-            entity.setTag(lastActivationTag, lastActivationTime = time);
+            state.set(lastActivation, lastActivationTime = time);
         }
 
         if ((time - lastActivationTime) / MinecraftServer.TICK_MS >= data.interval) {
-            entity.setTag(lastActivationTag, time);
+            state.set(lastActivation, time);
             delegate.use(self);
-            manageState(self, lastUseCount);
+            manageState(state, lastUseCount);
         }
     }
 
     @Override
     public void end(@NotNull PhantazmMob self) {
-        Entity entity = self.entity();
+        SkillState state = self.skillState();
 
-        entity.removeTag(lastActivationTag);
-        entity.removeTag(useCountTag);
-        entity.removeTag(startedTag);
+        state.reset(lastActivation);
+        state.reset(useCount);
+        state.reset(started);
     }
 
-    private void manageState(PhantazmMob self, int lastUseCount) {
+    private void manageState(SkillState state, long lastUseCount) {
         if (lastUseCount != -1) {
-            Entity entity = self.entity();
-            entity.setTag(useCountTag, ++lastUseCount);
+            state.set(useCount, ++lastUseCount);
 
             if (lastUseCount >= data.repeat) {
-                entity.setTag(startedTag, false);
+                state.set(started, false);
             }
         }
     }
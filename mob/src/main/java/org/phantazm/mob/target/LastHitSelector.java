@@ -2,19 +2,42 @@ package org.phantazm.mob.target;
 
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.mob.PhantazmMob;
+import org.phantazm.mob.skill.SkillState;
 
 import java.util.Optional;
 
+/**
+ * Selects the last target hit by a mob. Selectors may be shared between mobs, so the last hit is kept in each mob's
+ * {@link SkillState}, using the slot allocated by {@link LastHitSelector#declareState(SkillState.Layout)}.
+ *
+ * @param <TTarget> the type of target
+ */
 public class LastHitSelector<TTarget> implements TargetSelector<TTarget> {
 
-    private TTarget lastHit;
+    private SkillState.ObjectSlot<TTarget> lastHit;
+
+    /**
+     * Declares the slot holding each mob's last hit. Until it is called, this selector selects nothing.
+     *
+     * @param layout the layout of the mob's {@link SkillState}
+     */
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        this.lastHit = layout.objectSlot(null);
+    }
 
     @Override
     public @NotNull Optional<TTarget> selectTarget(@NotNull PhantazmMob self) {
-        return Optional.ofNullable(lastHit);
+        if (lastHit == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(self.skillState().get(lastHit));
     }
 
-    public void setLastHit(TTarget lastHit) {
-        this.lastHit = lastHit;
+    public void setLastHit(@NotNull PhantazmMob self, TTarget lastHit) {
+        if (this.lastHit != null) {
+            self.skillState().set(this.lastHit, lastHit);
+        }
     }
 }
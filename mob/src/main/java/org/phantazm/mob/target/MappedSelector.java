@@ -2,6 +2,7 @@ package org.phantazm.mob.target;
 
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.mob.PhantazmMob;
+import org.phantazm.mob.skill.SkillState;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -34,6 +35,11 @@ public abstract class MappedSelector<TFrom, TTo> implements TargetSelector<TTo>
         return delegate;
     }
 
+    @Override
+    public void declareState(@NotNull SkillState.Layout layout) {
+        delegate.declareState(layout);
+    }
+
     @Override
     public @NotNull Optional<TTo> selectTarget(@NotNull PhantazmMob self) {
         return delegate.selectTarget(self).map(this::map);
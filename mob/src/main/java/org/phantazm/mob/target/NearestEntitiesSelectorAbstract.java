@@ -1,15 +1,21 @@
 package org.phantazm.mob.target;
 
+import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
+import org.phantazm.core.entity.SpatialEntityIndex;
 import org.phantazm.mob.PhantazmMob;
 import org.phantazm.mob.validator.TargetValidator;
 
-import java.util.*;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 
 /**
- * A {@link TargetSelector} that selects nearby {@link Entity}s.
+ * A {@link TargetSelector} that selects nearby {@link Entity}s, closest first. If the instance has a
+ * {@link SpatialEntityIndex}, it is used to find the entities in range.
  *
  * @param <TTarget>> A mapped type of the target {@link Entity}
  */
@@ -39,33 +45,19 @@ public abstract class NearestEntitiesSelectorAbstract<TTarget extends Entity>
             return Optional.of(Collections.emptyList());
         }
 
-        Collection<Entity> entities = instance.getNearbyEntities(entity.getPosition(), range);
-        Map<UUID, TTarget> targetMap = new HashMap<>(entities.size());
-        List<Entity> potentialTargets = new ArrayList<>(entities.size());
-        for (Entity nearby : entities) {
+        Function<Entity, TTarget> mapper = nearby -> {
             Optional<TTarget> targetOptional = mapTarget(nearby);
             if (targetOptional.isEmpty()) {
-                continue;
+                return null;
             }
 
             TTarget target = targetOptional.get();
-            if (!targetValidator.valid(entity, target)) {
-                continue;
-            }
-
-            targetMap.put(nearby.getUuid(), targetOptional.get());
-            potentialTargets.add(nearby);
-        }
-
-        potentialTargets.sort(Comparator.comparingDouble(e -> e.getDistanceSquared(entity)));
-
-        int targetCount = Math.min(potentialTargets.size(), targetLimit);
-        Collection<TTarget> targets = new ArrayList<>(targetCount);
-        for (int i = 0; i < targetCount; i++) {
-            targets.add(targetMap.get(potentialTargets.get(i).getUuid()));
-        }
+            return targetValidator.valid(entity, target) ? target : null;
+        };
 
-        return Optional.of(targets);
+        Point center = entity.getPosition();
+        return Optional.of(SpatialEntityIndex.nearest(SpatialEntityIndex.nearby(instance, center, range, Entity.class),
+                center, targetLimit, mapper));
     }
 
     /**
@@ -2,6 +2,7 @@ package org.phantazm.mob.target;
 
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.mob.PhantazmMob;
+import org.phantazm.mob.skill.SkillState;
 
 import java.util.Optional;
 
@@ -14,4 +15,13 @@ public interface TargetSelector<TTarget> {
      */
     @NotNull Optional<TTarget> selectTarget(@NotNull PhantazmMob self);
 
+    /**
+     * Declares the per-mob state this selector needs, by allocating slots from the given layout. Skills and goal
+     * creators which hold a selector forward their own declareState call to it, as do selectors which wrap another.
+     *
+     * @param layout the layout of the mob's {@link SkillState}
+     */
+    default void declareState(@NotNull SkillState.Layout layout) {
+    }
+
 }
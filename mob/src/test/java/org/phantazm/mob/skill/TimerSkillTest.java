@@ -0,0 +1,43 @@
+package org.phantazm.mob.skill;
+
+import org.junit.jupiter.api.Test;
+import org.phantazm.mob.PhantazmMob;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TimerSkillTest {
+
+    private static PhantazmMob mobWithState(SkillState state) {
+        PhantazmMob mob = mock(PhantazmMob.class);
+        when(mob.skillState()).thenReturn(state);
+        return mob;
+    }
+
+    @Test
+    public void testRepeatsAreCountedPerMob() {
+        Skill delegate = mock(Skill.class);
+        TimerSkill skill = new TimerSkill(new TimerSkill.Data(2, 1, false, false, "delegate"), delegate);
+
+        SkillState.Layout layout = new SkillState.Layout();
+        skill.declareState(layout);
+        PhantazmMob first = mobWithState(layout.newState());
+        PhantazmMob second = mobWithState(layout.newState());
+
+        for (long time = 0; time <= 200; time += 50) {
+            skill.tick(time, first);
+        }
+
+        verify(delegate, times(2)).use(first);
+        verify(delegate, never()).use(second);
+
+        skill.end(first);
+        skill.tick(250, first);
+        skill.tick(300, first);
+
+        verify(delegate, times(3)).use(first);
+    }
+}
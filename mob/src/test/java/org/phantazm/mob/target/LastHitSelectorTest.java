@@ -3,23 +3,37 @@ package org.phantazm.mob.target;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.phantazm.mob.PhantazmMob;
+import org.phantazm.mob.skill.DamageEntitySkill;
+import org.phantazm.mob.skill.SkillState;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class LastHitSelectorTest {
 
+    private SkillState.Layout layout;
+
     private PhantazmMob mob;
 
     private LastHitSelector<Object> lastHitSelector;
 
+    private PhantazmMob mobWithState() {
+        PhantazmMob mob = mock(PhantazmMob.class);
+        SkillState state = layout.newState();
+        when(mob.skillState()).thenReturn(state);
+        return mob;
+    }
+
     @BeforeEach
     public void setup() {
-        mob = mock(PhantazmMob.class);
+        layout = new SkillState.Layout();
         lastHitSelector = new LastHitSelector<>();
+        lastHitSelector.declareState(layout);
+        mob = mobWithState();
     }
 
     @Test
@@ -31,7 +45,7 @@ public class LastHitSelectorTest {
     public void testUpdatesSingle() {
         Object hit = new Object();
 
-        lastHitSelector.setLastHit(hit);
+        lastHitSelector.setLastHit(mob, hit);
 
         Optional<Object> target = lastHitSelector.selectTarget(mob);
         assertTrue(target.isPresent());
@@ -43,12 +57,45 @@ public class LastHitSelectorTest {
         Object firstHit = new Object();
         Object secondHit = new Object();
 
-        lastHitSelector.setLastHit(firstHit);
-        lastHitSelector.setLastHit(secondHit);
+        lastHitSelector.setLastHit(mob, firstHit);
+        lastHitSelector.setLastHit(mob, secondHit);
 
         Optional<Object> target = lastHitSelector.selectTarget(mob);
         assertTrue(target.isPresent());
         assertEquals(secondHit, target.get());
     }
 
+    @Test
+    public void testLastHitIsPerMob() {
+        PhantazmMob other = mobWithState();
+        Object hit = new Object();
+
+        lastHitSelector.setLastHit(mob, hit);
+
+        assertEquals(Optional.of(hit), lastHitSelector.selectTarget(mob));
+        assertTrue(lastHitSelector.selectTarget(other).isEmpty());
+    }
+
+    @Test
+    public void testStateDeclaredThroughSkill() {
+        layout = new SkillState.Layout();
+        LastHitSelector<Object> selector = new LastHitSelector<>();
+        new DamageEntitySkill(new DamageEntitySkill.Data("selector", 1, false), selector).declareState(layout);
+        PhantazmMob self = mobWithState();
+        Object hit = new Object();
+
+        selector.setLastHit(self, hit);
+
+        assertEquals(Optional.of(hit), selector.selectTarget(self));
+    }
+
+    @Test
+    public void testUndeclaredSelectorSelectsNothing() {
+        LastHitSelector<Object> selector = new LastHitSelector<>();
+
+        selector.setLastHit(mob, new Object());
+
+        assertTrue(selector.selectTarget(mob).isEmpty());
+    }
+
 }
@@ -8,25 +8,31 @@ import net.minestom.server.event.EventNode;
 import net.minestom.server.event.instance.BlockChangeEvent;
 import net.minestom.server.event.instance.InstanceChunkUnloadEvent;
 import net.minestom.server.event.instance.InstanceUnregisterEvent;
+import net.minestom.server.event.instance.RemoveEntityFromInstanceEvent;
 import net.minestom.server.event.trait.InstanceEvent;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.phantazm.commons.LogicUtils;
+import org.phantazm.core.instance.BlockBatch;
+import org.phantazm.core.instance.BlockBatchChangeEvent;
 
 import java.util.Objects;
 
 public class BasicInstanceSpaceHandler implements InstanceSpaceHandler {
     private final InstanceSpace space;
+    private final FlowFieldCache flowFields;
     private final EventNode<Event> root;
     private final EventNode<InstanceEvent> child;
 
     private final Object sync;
     private volatile boolean eventsRegistered;
 
-    public BasicInstanceSpaceHandler(@NotNull InstanceSpace instanceSpace, @NotNull EventNode<Event> root) {
+    public BasicInstanceSpaceHandler(@NotNull InstanceSpace instanceSpace, @NotNull FlowFieldCache flowFields,
+            @NotNull EventNode<Event> root) {
         this.space = Objects.requireNonNull(instanceSpace, "instanceSpace");
+        this.flowFields = Objects.requireNonNull(flowFields, "flowFields");
         this.root = Objects.requireNonNull(root, "root");
 
         this.child = EventNode.event("proxima_cache_synchronize_{" +
@@ -37,6 +43,8 @@ public class BasicInstanceSpaceHandler implements InstanceSpaceHandler {
         this.child.addListener(InstanceUnregisterEvent.class, this::unregisterInstance);
         this.child.addListener(InstanceChunkUnloadEvent.class, this::chunkUnload);
         this.child.addListener(BlockChangeEvent.class, this::blockChange);
+        this.child.addListener(BlockBatchChangeEvent.class, this::blockBatchChange);
+        this.child.addListener(RemoveEntityFromInstanceEvent.class, this::removeEntity);
 
         this.sync = new Object();
     }
@@ -60,6 +68,11 @@ public class BasicInstanceSpaceHandler implements InstanceSpaceHandler {
 
         parent.removeChild(child);
         space.clearCache();
+        flowFields.clear();
+    }
+
+    private void removeEntity(RemoveEntityFromInstanceEvent event) {
+        flowFields.remove(event.getEntity().getUuid());
     }
 
     private void chunkUnload(InstanceChunkUnloadEvent event) {
@@ -84,9 +97,23 @@ public class BasicInstanceSpaceHandler implements InstanceSpaceHandler {
 
         space.updateSolid(bx, by, bz, null);
 
-        if (oldShape.relativeEnd().y() > 1 || newShape.relativeEnd().y() > 1) {
+        boolean tall = oldShape.relativeEnd().y() > 1 || newShape.relativeEnd().y() > 1;
+        if (tall) {
             space.updateSolid(bx, by + 1, bz, null);
         }
+
+        //flow fields are invalidated once for the whole batch, in blockBatchChange
+        if (BlockBatch.isApplying()) {
+            return;
+        }
+
+        flowFields.invalidate(bx, by, bz, bx, tall ? by + 1 : by, bz);
+    }
+
+    private void blockBatchChange(BlockBatchChangeEvent event) {
+        //the cached solids were already updated per block; extend upwards by one in case a tall block changed
+        flowFields.invalidate(event.getMinX(), event.getMinY(), event.getMinZ(), event.getMaxX(),
+                event.getMaxY() + 1, event.getMaxZ());
     }
 
     @Override
@@ -98,4 +125,9 @@ public class BasicInstanceSpaceHandler implements InstanceSpaceHandler {
     public @Nullable Instance instance() {
         return space.instance();
     }
+
+    @Override
+    public @NotNull FlowFieldCache flowFields() {
+        return flowFields;
+    }
 }
@@ -0,0 +1,82 @@
+package org.phantazm.proxima.bindings.minestom;
+
+import com.github.steanky.proxima.path.PathResult;
+import net.minestom.server.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.commons.Histogram;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+public class BasicPathfindingMetrics implements PathfindingMetrics {
+    private static class TypeMetrics {
+        private final LongAdder paths = new LongAdder();
+        private final LongAdder failedPaths = new LongAdder();
+        private final LongAdder spaceLookups = new LongAdder();
+        private final Histogram latencyMillis = new Histogram();
+        private final Histogram exploredNodes = new Histogram();
+    }
+
+    private final Map<EntityType, TypeMetrics> types;
+    private final LongAdder cacheMisses;
+    private final LongSupplier queueDepthSupplier;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param queueDepthSupplier supplies the number of searches waiting to run
+     */
+    public BasicPathfindingMetrics(@NotNull LongSupplier queueDepthSupplier) {
+        this.types = new ConcurrentHashMap<>();
+        this.cacheMisses = new LongAdder();
+        this.queueDepthSupplier = Objects.requireNonNull(queueDepthSupplier, "queueDepthSupplier");
+    }
+
+    private TypeMetrics type(EntityType entityType) {
+        return types.computeIfAbsent(entityType, ignored -> new TypeMetrics());
+    }
+
+    @Override
+    public void recordPath(@NotNull EntityType entityType, long latencyMillis, @NotNull PathResult result) {
+        TypeMetrics metrics = type(entityType);
+        metrics.paths.increment();
+        if (!result.isSuccessful()) {
+            metrics.failedPaths.increment();
+        }
+
+        metrics.latencyMillis.record(latencyMillis);
+        metrics.exploredNodes.record(result.exploredCount());
+    }
+
+    @Override
+    public void recordSpaceLookup(@NotNull EntityType entityType) {
+        type(entityType).spaceLookups.increment();
+    }
+
+    @Override
+    public void recordCacheMiss() {
+        cacheMisses.increment();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public @NotNull Snapshot snapshot() {
+        Map<EntityType, TypeSnapshot> typeSnapshots = new HashMap<>(types.size());
+        for (Map.Entry<EntityType, TypeMetrics> entry : types.entrySet()) {
+            TypeMetrics metrics = entry.getValue();
+            typeSnapshots.put(entry.getKey(),
+                    new TypeSnapshot(metrics.paths.sum(), metrics.failedPaths.sum(), metrics.spaceLookups.sum(),
+                            metrics.latencyMillis.snapshot(), metrics.exploredNodes.snapshot()));
+        }
+
+        return new Snapshot(typeSnapshots, cacheMisses.sum(), queueDepthSupplier.getAsLong());
+    }
+}
@@ -0,0 +1,193 @@
+package org.phantazm.proxima.bindings.minestom;
+
+import com.github.steanky.proxima.node.Node;
+import com.github.steanky.proxima.path.PathResult;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * A sparse flow field toward a single target, shared by every entity of the same size class that is chasing it. The
+ * field is built from the successful paths those entities have already computed: every node of such a path leads to
+ * the target by following {@link Node#parent}, so an entity standing on any cell the field covers can follow it
+ * instead of running its own search.
+ * <p>
+ * Paths whose ends lie close together are merged into the same field, so the field follows a moving target
+ * incrementally. An entry is only handed out while the target is still near the end of its path, where "near" grows
+ * with the distance between the querying entity and that end: the last few blocks of a long path are recomputed anyway
+ * once the entity gets close. The field is cleared when a block changes within (or adjacent to) its bounds, when the
+ * target moves far away from the position its paths lead to, or when it grows too large. This class is thread-safe.
+ */
+public class FlowField {
+    /**
+     * An entry in the field.
+     *
+     * @param node   the node occupying the cell; following its parents leads to the target
+     * @param result the path the node belongs to
+     * @param tail   the last node of the path
+     */
+    public record Entry(@NotNull Node node, @NotNull PathResult result, @NotNull Node tail) {
+        public Entry {
+            Objects.requireNonNull(node, "node");
+            Objects.requireNonNull(result, "result");
+            Objects.requireNonNull(tail, "tail");
+        }
+    }
+
+    private static final int MIN_TARGET_TOLERANCE = 2;
+    private static final double TARGET_TOLERANCE_FACTOR = 0.25;
+    private static final int REANCHOR_DISTANCE = 16;
+    private static final int MAX_CELLS = 4096;
+    private static final int INVALIDATION_MARGIN = 4;
+
+    private final Long2ObjectMap<Entry> cells;
+
+    private PathResult lastResult;
+
+    private int anchorX;
+    private int anchorY;
+    private int anchorZ;
+
+    private int minX;
+    private int minY;
+    private int minZ;
+    private int maxX;
+    private int maxY;
+    private int maxZ;
+
+    public FlowField() {
+        this.cells = new Long2ObjectOpenHashMap<>();
+    }
+
+    private static long key(int x, int y, int z) {
+        return ((long)x & 0x3FFFFFFL) << 38 | ((long)z & 0x3FFFFFFL) << 12 | ((long)y & 0xFFFL);
+    }
+
+    private static double distanceSquared(double x1, double y1, double z1, double x2, double y2, double z2) {
+        double dx = x1 - x2;
+        double dy = y1 - y2;
+        double dz = z1 - z2;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Adds the nodes of a path to this field, replacing any entries for the cells it covers. Unsuccessful paths are
+     * ignored. If the path leads far away from where the field's existing paths lead, or the field has grown too large,
+     * the field is cleared first.
+     *
+     * @param result the path to add
+     */
+    public synchronized void addPath(@NotNull PathResult result) {
+        if (result == lastResult || !result.isSuccessful()) {
+            return;
+        }
+
+        lastResult = result;
+
+        Node head = result.head();
+        if (head == null) {
+            return;
+        }
+
+        Node tail = head;
+        while (tail.parent != null) {
+            tail = tail.parent;
+        }
+
+        if (cells.isEmpty() || cells.size() > MAX_CELLS ||
+                distanceSquared(tail.x, tail.y, tail.z, anchorX, anchorY, anchorZ) >
+                        REANCHOR_DISTANCE * REANCHOR_DISTANCE) {
+            cells.clear();
+
+            minX = maxX = tail.x;
+            minY = maxY = tail.y;
+            minZ = maxZ = tail.z;
+        }
+
+        //the anchor follows the end of the latest path, so a slowly moving target never forces a full clear
+        anchorX = tail.x;
+        anchorY = tail.y;
+        anchorZ = tail.z;
+
+        for (Node node = head; node != null; node = node.parent) {
+            cells.put(key(node.x, node.y, node.z), new Entry(node, result, tail));
+
+            minX = Math.min(minX, node.x);
+            minY = Math.min(minY, node.y);
+            minZ = Math.min(minZ, node.z);
+            maxX = Math.max(maxX, node.x);
+            maxY = Math.max(maxY, node.y);
+            maxZ = Math.max(maxZ, node.z);
+        }
+    }
+
+    /**
+     * Looks up the entry for the cell containing the given position. If the target has moved too far away from the end
+     * of the entry's path, relative to how far the position is from that end, {@code null} is returned.
+     *
+     * @param x       the x-coordinate of the position
+     * @param y       the y-coordinate of the position
+     * @param z       the z-coordinate of the position
+     * @param targetX the current x-coordinate of the target
+     * @param targetY the current y-coordinate of the target
+     * @param targetZ the current z-coordinate of the target
+     * @return the entry for the cell, or {@code null} if there is none
+     */
+    public synchronized @Nullable Entry lookup(double x, double y, double z, double targetX, double targetY,
+            double targetZ) {
+        if (cells.isEmpty()) {
+            return null;
+        }
+
+        Entry entry = cells.get(key((int)Math.floor(x), (int)Math.floor(y), (int)Math.floor(z)));
+        if (entry == null) {
+            return null;
+        }
+
+        Node tail = entry.tail;
+        double tolerance = Math.max(MIN_TARGET_TOLERANCE,
+                Math.sqrt(distanceSquared(x, y, z, tail.x, tail.y, tail.z)) * TARGET_TOLERANCE_FACTOR);
+        if (distanceSquared(Math.floor(targetX), Math.floor(targetY), Math.floor(targetZ), tail.x, tail.y, tail.z) >
+                tolerance * tolerance) {
+            return null;
+        }
+
+        return entry;
+    }
+
+    /**
+     * Notifies this field that the blocks in the given region have changed. If the region overlaps the field's bounds,
+     * the field is cleared.
+     *
+     * @param x1 the minimum x-coordinate of the region
+     * @param y1 the minimum y-coordinate of the region
+     * @param z1 the minimum z-coordinate of the region
+     * @param x2 the maximum x-coordinate of the region, inclusive
+     * @param y2 the maximum y-coordinate of the region, inclusive
+     * @param z2 the maximum z-coordinate of the region, inclusive
+     */
+    public synchronized void invalidate(int x1, int y1, int z1, int x2, int y2, int z2) {
+        if (cells.isEmpty()) {
+            return;
+        }
+
+        if (x2 < minX - INVALIDATION_MARGIN || x1 > maxX + INVALIDATION_MARGIN || y2 < minY - INVALIDATION_MARGIN ||
+                y1 > maxY + INVALIDATION_MARGIN || z2 < minZ - INVALIDATION_MARGIN ||
+                z1 > maxZ + INVALIDATION_MARGIN) {
+            return;
+        }
+
+        cells.clear();
+    }
+
+    /**
+     * Removes every entry from this field.
+     */
+    public synchronized void clear() {
+        cells.clear();
+        lastResult = null;
+    }
+}
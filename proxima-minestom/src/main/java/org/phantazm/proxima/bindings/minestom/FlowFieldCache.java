@@ -0,0 +1,105 @@
+package org.phantazm.proxima.bindings.minestom;
+
+import net.minestom.server.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link FlowField}s of a single instance, keyed by target entity and {@link SizeClass}.
+ */
+public class FlowFieldCache {
+    /**
+     * Identifies entities which can share paths: those with the same {@link Pathfinding} type, bounding box, and
+     * movement capabilities.
+     */
+    public record SizeClass(@NotNull Class<?> pathfindingType,
+                            double width,
+                            double height,
+                            float jumpHeight,
+                            float fallTolerance) {
+        public SizeClass {
+            Objects.requireNonNull(pathfindingType, "pathfindingType");
+        }
+    }
+
+    private record FieldKey(UUID target, SizeClass sizeClass) {
+    }
+
+    private final boolean enabled;
+    private final Map<FieldKey, FlowField> fields;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param enabled whether entities should share paths; if false, {@link FlowFieldCache#get(Entity, SizeClass)}
+     *                always returns {@code null}
+     */
+    public FlowFieldCache(boolean enabled) {
+        this.enabled = enabled;
+        this.fields = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the field for the given target and size class, creating it if necessary.
+     *
+     * @param target    the target entity
+     * @param sizeClass the size class of the entities chasing the target
+     * @return the field, or {@code null} if path sharing is disabled or the target has been removed
+     */
+    public @Nullable FlowField get(@NotNull Entity target, @NotNull SizeClass sizeClass) {
+        if (!enabled) {
+            return null;
+        }
+
+        FieldKey key = new FieldKey(target.getUuid(), sizeClass);
+        if (target.isRemoved()) {
+            fields.remove(key);
+            return null;
+        }
+
+        return fields.computeIfAbsent(key, ignored -> new FlowField());
+    }
+
+    /**
+     * Notifies every field that the blocks in the given region have changed.
+     *
+     * @param x1 the minimum x-coordinate of the region
+     * @param y1 the minimum y-coordinate of the region
+     * @param z1 the minimum z-coordinate of the region
+     * @param x2 the maximum x-coordinate of the region, inclusive
+     * @param y2 the maximum y-coordinate of the region, inclusive
+     * @param z2 the maximum z-coordinate of the region, inclusive
+     */
+    public void invalidate(int x1, int y1, int z1, int x2, int y2, int z2) {
+        if (!enabled) {
+            return;
+        }
+
+        for (FlowField field : fields.values()) {
+            field.invalidate(x1, y1, z1, x2, y2, z2);
+        }
+    }
+
+    /**
+     * Removes every field leading to the given target, regardless of size class. Called when the target leaves the
+     * instance, so that fields for departed targets do not accumulate.
+     *
+     * @param target the UUID of the target entity
+     */
+    public void remove(@NotNull UUID target) {
+        Objects.requireNonNull(target, "target");
+        fields.keySet().removeIf(key -> key.target.equals(target));
+    }
+
+    /**
+     * Removes all fields.
+     */
+    public void clear() {
+        fields.clear();
+    }
+}
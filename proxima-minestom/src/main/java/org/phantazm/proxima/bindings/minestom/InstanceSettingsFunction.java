@@ -21,12 +21,17 @@ public class InstanceSettingsFunction implements Function<Instance, InstanceSpaw
     private static final int MAX_READ_TRIES = 10;
 
     private final EventNode<Event> rootNode;
+    private final boolean sharedPaths;
+    private final PathfindingMetrics metrics;
 
     private final StampedLock stampedLock;
     private final Map<Instance, InstanceSpawner.InstanceSettings> settingsMap;
 
-    public InstanceSettingsFunction(@NotNull EventNode<Event> rootNode) {
+    public InstanceSettingsFunction(@NotNull EventNode<Event> rootNode, boolean sharedPaths,
+            @NotNull PathfindingMetrics metrics) {
         this.rootNode = Objects.requireNonNull(rootNode, "rootNode");
+        this.sharedPaths = sharedPaths;
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
         this.stampedLock = new StampedLock();
         this.settingsMap = new WeakHashMap<>();
     }
@@ -87,9 +92,10 @@ public class InstanceSettingsFunction implements Function<Instance, InstanceSpaw
             Bounds3I bounds = Bounds3I.immutable(centerX - halfDiameter, minY, centerZ - halfDiameter, diameter, height,
                     diameter);
 
-            InstanceSpace instanceSpace = new InstanceSpace(instance);
+            InstanceSpace instanceSpace = new InstanceSpace(instance, metrics);
             ThreadLocal<Vec3I2ObjectMap<Node>> local = ThreadLocal.withInitial(() -> new HashVec3I2ObjectMap<>(bounds));
-            BasicInstanceSpaceHandler instanceSpaceHandler = new BasicInstanceSpaceHandler(instanceSpace, rootNode);
+            BasicInstanceSpaceHandler instanceSpaceHandler =
+                    new BasicInstanceSpaceHandler(instanceSpace, new FlowFieldCache(sharedPaths), rootNode);
             instanceSpaceHandler.registerEvents();
 
             settings = new InstanceSpawner.InstanceSettings(local, instanceSpaceHandler);
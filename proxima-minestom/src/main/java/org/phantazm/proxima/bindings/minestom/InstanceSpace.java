@@ -31,16 +31,27 @@ public class InstanceSpace extends ConcurrentCachingSpace {
     }
 
     private final Reference<Instance> instanceReference;
+    private final PathfindingMetrics metrics;
+    private final boolean metered;
+    private final ThreadLocal<long[]> loadCount;
     private volatile Vec3IFunction<? extends Solid> overrideFunction;
 
     public InstanceSpace(@NotNull Instance instance) {
-        this(instance, (x, y, z) -> null);
+        this(instance, PathfindingMetrics.NONE);
     }
 
-    public InstanceSpace(@NotNull Instance instance, @NotNull Vec3IFunction<? extends Solid> overrideFunction) {
+    public InstanceSpace(@NotNull Instance instance, @NotNull PathfindingMetrics metrics) {
+        this(instance, (x, y, z) -> null, metrics);
+    }
+
+    public InstanceSpace(@NotNull Instance instance, @NotNull Vec3IFunction<? extends Solid> overrideFunction,
+            @NotNull PathfindingMetrics metrics) {
         super(instance.getDimensionType().getMinY());
         this.instanceReference = new WeakReference<>(Objects.requireNonNull(instance, "instance"));
         this.overrideFunction = Objects.requireNonNull(overrideFunction, "overrideFunction");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+        this.metered = metrics.isEnabled();
+        this.loadCount = metered ? ThreadLocal.withInitial(() -> new long[1]) : null;
     }
 
     @Override
@@ -50,6 +61,10 @@ public class InstanceSpace extends ConcurrentCachingSpace {
             return null;
         }
 
+        if (metered) {
+            loadCount.get()[0]++;
+        }
+
         Chunk chunk = instance.getChunk(x >> 4, z >> 4);
         if (chunk == null) {
             return null;
@@ -152,6 +167,20 @@ public class InstanceSpace extends ConcurrentCachingSpace {
         return instanceReference.get();
     }
 
+    public @NotNull PathfindingMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the number of solids the calling thread has loaded from the instance, because they were not cached. Only
+     * counted if this space's {@link PathfindingMetrics} are enabled.
+     *
+     * @return the number of solids loaded by the calling thread
+     */
+    public long loadCount() {
+        return metered ? loadCount.get()[0] : 0;
+    }
+
     public void setOverrideFunction(@NotNull Vec3IFunction<? extends Solid> overrideFunction) {
         this.overrideFunction = Objects.requireNonNull(overrideFunction, "overrideFunction");
     }
@@ -8,4 +8,6 @@ public interface InstanceSpaceHandler {
     @NotNull InstanceSpace space();
 
     @Nullable Instance instance();
+
+    @NotNull FlowFieldCache flowFields();
 }
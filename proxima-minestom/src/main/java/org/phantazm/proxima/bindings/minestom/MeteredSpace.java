@@ -0,0 +1,37 @@
+package org.phantazm.proxima.bindings.minestom;
+
+import com.github.steanky.proxima.solid.Solid;
+import com.github.steanky.proxima.space.Space;
+import net.minestom.server.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A {@link Space} which counts lookups into an {@link InstanceSpace}, attributing them to an {@link EntityType}, along
+ * with the lookups among them which missed the space's cache.
+ */
+class MeteredSpace implements Space {
+    private final InstanceSpace delegate;
+    private final PathfindingMetrics metrics;
+    private final EntityType entityType;
+
+    MeteredSpace(@NotNull InstanceSpace delegate, @NotNull PathfindingMetrics metrics, @NotNull EntityType entityType) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+        this.entityType = Objects.requireNonNull(entityType, "entityType");
+    }
+
+    @Override
+    public Solid solidAt(int x, int y, int z) {
+        metrics.recordSpaceLookup(entityType);
+
+        long loadCount = delegate.loadCount();
+        Solid solid = delegate.solidAt(x, y, z);
+        if (delegate.loadCount() != loadCount) {
+            metrics.recordCacheMiss();
+        }
+
+        return solid;
+    }
+}
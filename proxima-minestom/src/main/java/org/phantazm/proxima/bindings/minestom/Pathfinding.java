@@ -20,6 +20,7 @@ import com.github.steanky.vector.Vec3IBiPredicate;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.phantazm.proxima.bindings.minestom.controller.Controller;
 import org.phantazm.proxima.bindings.minestom.controller.GroundController;
 
@@ -80,6 +81,25 @@ public class Pathfinding {
         return (oldPosition, newPosition) -> oldPosition.distanceSquaredTo(newPosition) > 2;
     }
 
+    /**
+     * Gets the {@link FlowField} that entities using this Pathfinding share when chasing the given target.
+     *
+     * @param targetEntity the target entity
+     * @return the shared field, or {@code null} if path sharing is disabled for this instance
+     */
+    public @Nullable FlowField flowField(@NotNull Entity targetEntity) {
+        return spaceHandler.flowFields().get(targetEntity, sizeClass());
+    }
+
+    protected @NotNull FlowFieldCache.SizeClass sizeClass() {
+        return new FlowFieldCache.SizeClass(getClass(), entityType.width(), entityType.height(), jumpHeight(),
+                fallTolerance());
+    }
+
+    public @NotNull PathfindingMetrics metrics() {
+        return spaceHandler.space().metrics();
+    }
+
     public boolean isValidTarget(@NotNull Entity targetEntity) {
         boolean entityValid = !targetEntity.isRemoved() && targetEntity.getInstance() == spaceHandler.instance();
         if (entityValid && targetEntity instanceof Player player) {
@@ -134,8 +154,10 @@ public class Pathfinding {
     }
 
     protected @NotNull NodeSnapper nodeSnapper() {
-        return new BasicNodeSnapper(spaceHandler.space(), entityType.width(), entityType.height(), fallTolerance(),
-                jumpHeight(), Vec.EPSILON);
+        InstanceSpace space = spaceHandler.space();
+        PathfindingMetrics metrics = space.metrics();
+        return new BasicNodeSnapper(metrics.isEnabled() ? new MeteredSpace(space, metrics, entityType) : space,
+                entityType.width(), entityType.height(), fallTolerance(), jumpHeight(), Vec.EPSILON);
     }
 
     protected @NotNull Explorer explorer() {
@@ -0,0 +1,107 @@
+package org.phantazm.proxima.bindings.minestom;
+
+import com.github.steanky.proxima.path.PathResult;
+import net.minestom.server.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import org.phantazm.commons.Histogram;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Collects statistics about pathfinding: per-{@link EntityType} path latency and explored node counts, the hit rate of
+ * {@link InstanceSpace}'s solid cache, and the depth of the pathfinder's work queue.
+ *
+ * @implSpec Implementations should guarantee thread safety.
+ */
+public interface PathfindingMetrics {
+    /**
+     * A PathfindingMetrics implementation which discards everything.
+     */
+    PathfindingMetrics NONE = new PathfindingMetrics() {
+        @Override
+        public void recordPath(@NotNull EntityType entityType, long latencyMillis, @NotNull PathResult result) {
+        }
+
+        @Override
+        public void recordSpaceLookup(@NotNull EntityType entityType) {
+        }
+
+        @Override
+        public void recordCacheMiss() {
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public @NotNull Snapshot snapshot() {
+            return new Snapshot(Map.of(), 0, 0);
+        }
+    };
+
+    /**
+     * Statistics for a single entity type.
+     *
+     * @param paths         the number of completed searches
+     * @param failedPaths   the number of completed searches which did not reach their destination
+     * @param spaceLookups  the number of solid lookups made by searches for this entity type
+     * @param latencyMillis the time between starting and completing a search, in milliseconds
+     * @param exploredNodes the number of nodes explored per search
+     */
+    record TypeSnapshot(long paths,
+                        long failedPaths,
+                        long spaceLookups,
+                        @NotNull Histogram.Snapshot latencyMillis,
+                        @NotNull Histogram.Snapshot exploredNodes) {
+        public TypeSnapshot {
+            Objects.requireNonNull(latencyMillis, "latencyMillis");
+            Objects.requireNonNull(exploredNodes, "exploredNodes");
+        }
+    }
+
+    /**
+     * A point-in-time view of the collected statistics.
+     *
+     * @param types       statistics for each entity type that has pathfound at least once
+     * @param cacheMisses the number of the solid lookups counted in {@code types} which missed the cache and had to
+     *                    read the instance
+     * @param queueDepth  the number of searches waiting to run
+     */
+    record Snapshot(@NotNull @Unmodifiable Map<EntityType, TypeSnapshot> types, long cacheMisses, long queueDepth) {
+        public Snapshot {
+            types = Map.copyOf(types);
+        }
+
+        /**
+         * The fraction of solid lookups which were served from the cache.
+         *
+         * @return the cache hit rate, in the range [0, 1]; 1 if no lookups have been made
+         */
+        public double cacheHitRate() {
+            long lookups = 0;
+            for (TypeSnapshot type : types.values()) {
+                lookups += type.spaceLookups;
+            }
+
+            if (lookups == 0) {
+                return 1;
+            }
+
+            return Math.max(0, 1 - (double)cacheMisses / lookups);
+        }
+    }
+
+    void recordPath(@NotNull EntityType entityType, long latencyMillis, @NotNull PathResult result);
+
+    void recordSpaceLookup(@NotNull EntityType entityType);
+
+    void recordCacheMiss();
+
+    boolean isEnabled();
+
+    @NotNull Snapshot snapshot();
+}
@@ -42,6 +42,7 @@ public class ProximaEntity extends LivingEntity {
 
     private long recalculationDelay;
     private long lastPathfind;
+    private long navigationStart;
     private long lastMoved;
 
     private double lastX;
@@ -77,6 +78,7 @@ public class ProximaEntity extends LivingEntity {
 
         recalculationDelay = 0;
         lastPathfind = 0;
+        navigationStart = 0;
         lastMoved = 0;
 
         lastX = 0;
@@ -195,13 +197,28 @@ public class ProximaEntity extends LivingEntity {
 
         if (navigator.navigationComplete()) {
             currentPath = navigator.getResult();
+            if (navigationStart != 0) {
+                pathfinding.metrics().recordPath(getEntityType(), time - navigationStart, currentPath);
+                navigationStart = 0;
+            }
+
             if (!initPath(currentPath)) {
                 currentPath = null;
             }
+            else if (targetEntity != null) {
+                FlowField flowField = pathfinding.flowField(targetEntity);
+                if (flowField != null) {
+                    flowField.addPath(currentPath);
+                }
+            }
         }
         else if (destination != null && pathfinding.canPathfind(this) &&
                 (time - lastPathfind > recalculationDelay && destination.hasChanged())) {
-            navigator.navigate(position.x(), position.y(), position.z(), destination);
+            if (!followFlowField()) {
+                navigator.navigate(position.x(), position.y(), position.z(), destination);
+                this.navigationStart = time;
+            }
+
             this.lastPathfind = time;
         }
 
@@ -216,6 +233,38 @@ public class ProximaEntity extends LivingEntity {
         }
     }
 
+    /**
+     * Attempts to start following a path that another entity has already computed toward our target entity, rather
+     * than running a search of our own.
+     *
+     * @return true if a shared path was found and is now being followed, false otherwise
+     */
+    protected boolean followFlowField() {
+        if (targetEntity == null) {
+            return false;
+        }
+
+        FlowField flowField = pathfinding.flowField(targetEntity);
+        if (flowField == null) {
+            return false;
+        }
+
+        Pos targetPosition = targetEntity.getPosition();
+        FlowField.Entry entry = flowField.lookup(position.x(), position.y(), position.z(), targetPosition.x(),
+                targetPosition.y(), targetPosition.z());
+        if (entry == null) {
+            return false;
+        }
+
+        currentPath = entry.result();
+        recalculationDelay = pathfinding.recalculationDelay(currentPath);
+
+        Node node = entry.node();
+        current = node;
+        target = node.parent == null ? node : node.parent;
+        return true;
+    }
+
     protected boolean initPath(@NotNull PathResult pathResult) {
         recalculationDelay = pathfinding.recalculationDelay(pathResult);
 
@@ -0,0 +1,67 @@
+package org.phantazm.proxima.bindings.minestom;
+
+import net.minestom.server.entity.Entity;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FlowFieldCacheTest {
+    private static final FlowFieldCache.SizeClass SMALL =
+            new FlowFieldCache.SizeClass(Pathfinding.class, 0.6, 1.95, 1, 4);
+    private static final FlowFieldCache.SizeClass LARGE =
+            new FlowFieldCache.SizeClass(Pathfinding.class, 1.4, 2.7, 1, 4);
+
+    private static Entity target(UUID uuid) {
+        Entity target = mock(Entity.class);
+        when(target.getUuid()).thenReturn(uuid);
+        return target;
+    }
+
+    @Test
+    public void testFieldIsSharedPerTargetAndSizeClass() {
+        FlowFieldCache cache = new FlowFieldCache(true);
+        Entity target = target(UUID.randomUUID());
+
+        FlowField field = cache.get(target, SMALL);
+        assertNotNull(field);
+        assertSame(field, cache.get(target, SMALL));
+        assertNotSame(field, cache.get(target, LARGE));
+        assertNotSame(field, cache.get(target(UUID.randomUUID()), SMALL));
+    }
+
+    @Test
+    public void testDisabledCacheHasNoFields() {
+        FlowFieldCache cache = new FlowFieldCache(false);
+        assertNull(cache.get(target(UUID.randomUUID()), SMALL));
+    }
+
+    @Test
+    public void testRemovedTargetHasNoField() {
+        FlowFieldCache cache = new FlowFieldCache(true);
+        Entity target = target(UUID.randomUUID());
+        when(target.isRemoved()).thenReturn(true);
+
+        assertNull(cache.get(target, SMALL));
+    }
+
+    @Test
+    public void testRemoveDropsEverySizeClass() {
+        FlowFieldCache cache = new FlowFieldCache(true);
+        UUID uuid = UUID.randomUUID();
+        Entity target = target(uuid);
+        Entity other = target(UUID.randomUUID());
+
+        FlowField small = cache.get(target, SMALL);
+        FlowField large = cache.get(target, LARGE);
+        FlowField otherField = cache.get(other, SMALL);
+
+        cache.remove(uuid);
+        assertNotSame(small, cache.get(target, SMALL));
+        assertNotSame(large, cache.get(target, LARGE));
+        assertSame(otherField, cache.get(other, SMALL));
+    }
+}
@@ -0,0 +1,94 @@
+package org.phantazm.proxima.bindings.minestom;
+
+import com.github.steanky.proxima.node.Node;
+import com.github.steanky.proxima.path.PathResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlowFieldTest {
+    private static final int Y = 64;
+
+    //builds a path along the x-axis from startX to the target at endX, at the given z
+    private static PathResult path(int startX, int endX, int z, boolean successful) {
+        Node tail = new Node(endX, Y, z, 0, 0, null, 0);
+        Node head = tail;
+        int step = startX < endX ? 1 : -1;
+        for (int x = endX - step; x != startX - step; x -= step) {
+            head = new Node(x, Y, z, 0, 0, head, 0);
+        }
+
+        return new PathResult(head, 0, successful);
+    }
+
+    private static FlowField.Entry lookup(FlowField field, int x, int z, int targetX, int targetZ) {
+        return field.lookup(x + 0.5, Y, z + 0.5, targetX + 0.5, Y, targetZ + 0.5);
+    }
+
+    @Test
+    public void testLookupFollowsPath() {
+        FlowField field = new FlowField();
+        field.addPath(path(0, 10, 0, true));
+
+        FlowField.Entry entry = lookup(field, 0, 0, 10, 0);
+        assertNotNull(entry);
+        assertEquals(0, entry.node().x);
+        assertEquals(1, entry.node().parent.x);
+        assertEquals(10, entry.tail().x);
+
+        assertNull(lookup(field, 0, 1, 10, 0));
+    }
+
+    @Test
+    public void testUnsuccessfulPathIsIgnored() {
+        FlowField field = new FlowField();
+        field.addPath(path(0, 10, 0, false));
+
+        assertNull(lookup(field, 0, 0, 10, 0));
+    }
+
+    @Test
+    public void testTargetToleranceGrowsWithDistance() {
+        FlowField field = new FlowField();
+        field.addPath(path(0, 40, 0, true));
+
+        //the target moved 5 blocks: fine for an entity 40 blocks away, too far for one 2 blocks away
+        assertNotNull(lookup(field, 0, 0, 45, 0));
+        assertNull(lookup(field, 38, 0, 45, 0));
+
+        //the field itself is kept
+        assertNotNull(lookup(field, 38, 0, 40, 0));
+    }
+
+    @Test
+    public void testNearbyPathIsMerged() {
+        FlowField field = new FlowField();
+        field.addPath(path(0, 40, 0, true));
+        field.addPath(path(0, 42, 2, true));
+
+        assertNotNull(lookup(field, 0, 0, 41, 1));
+        assertNotNull(lookup(field, 0, 2, 41, 1));
+    }
+
+    @Test
+    public void testDistantPathReanchors() {
+        FlowField field = new FlowField();
+        field.addPath(path(0, 40, 0, true));
+        field.addPath(path(60, 100, 0, true));
+
+        assertNull(lookup(field, 0, 0, 40, 0));
+        assertNotNull(lookup(field, 60, 0, 100, 0));
+    }
+
+    @Test
+    public void testInvalidate() {
+        FlowField field = new FlowField();
+        field.addPath(path(0, 10, 0, true));
+
+        field.invalidate(100, Y, 100, 100, Y, 100);
+        assertNotNull(lookup(field, 0, 0, 10, 0));
+
+        field.invalidate(5, Y + 1, 0, 5, Y + 1, 0);
+        assertNull(lookup(field, 0, 0, 10, 0));
+    }
+}
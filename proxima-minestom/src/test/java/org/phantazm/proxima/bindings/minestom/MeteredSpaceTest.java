@@ -0,0 +1,87 @@
+package org.phantazm.proxima.bindings.minestom;
+
+import com.github.steanky.proxima.space.Space;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.world.DimensionType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MeteredSpaceTest {
+    private static final int LOOKUPS = 100_000;
+    private static final int REPS = 10;
+
+    private static Instance instance() {
+        Instance instance = mock(Instance.class);
+        when(instance.getDimensionType()).thenReturn(DimensionType.OVERWORLD);
+        return instance;
+    }
+
+    private static long lookupAll(Space space) {
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            space.solidAt(i & 63, 64, (i >> 6) & 63);
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    public void testLookupsAreCounted() {
+        PathfindingMetrics metrics = new BasicPathfindingMetrics(() -> 0);
+        Space space = new MeteredSpace(new InstanceSpace(instance(), metrics), metrics, EntityType.ZOMBIE);
+
+        lookupAll(space);
+
+        PathfindingMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(LOOKUPS, snapshot.types().get(EntityType.ZOMBIE).spaceLookups());
+        assertTrue(snapshot.cacheMisses() > 0 && snapshot.cacheMisses() <= LOOKUPS);
+    }
+
+    @Test
+    public void testUnmeteredSpaceCountsNothing() {
+        InstanceSpace space = new InstanceSpace(instance(), PathfindingMetrics.NONE);
+
+        lookupAll(space);
+
+        assertFalse(space.metrics().isEnabled());
+        assertEquals(0, space.loadCount());
+    }
+
+    //compares solid lookups with and without metering, in the style of commons' TestUtils#comparativeBenchmark
+    @Test
+    public void comparativeBenchmark() {
+        long[] unmeteredTimes = new long[REPS];
+        long[] meteredTimes = new long[REPS];
+
+        for (int r = 0; r < REPS; r++) {
+            Space unmetered = new InstanceSpace(instance(), PathfindingMetrics.NONE);
+
+            PathfindingMetrics metrics = new BasicPathfindingMetrics(() -> 0);
+            Space metered = new MeteredSpace(new InstanceSpace(instance(), metrics), metrics, EntityType.ZOMBIE);
+
+            unmeteredTimes[r] = lookupAll(unmetered);
+            meteredTimes[r] = lookupAll(metered);
+        }
+
+        long unmeteredSum = 0;
+        long meteredSum = 0;
+        for (int r = 0; r < REPS; r++) {
+            unmeteredSum += unmeteredTimes[r];
+            meteredSum += meteredTimes[r];
+        }
+
+        double unmeteredAvg = (double)unmeteredSum / REPS;
+        double meteredAvg = (double)meteredSum / REPS;
+
+        System.out.println("Unmetered average: " + unmeteredAvg + "ns for " + LOOKUPS + " solid lookups");
+        System.out.println("Metered average: " + meteredAvg + "ns for " + LOOKUPS + " solid lookups");
+        System.out.println("Unmetered is " + meteredAvg / unmeteredAvg + "x faster than metered over " + REPS +
+                " repetitions");
+    }
+}
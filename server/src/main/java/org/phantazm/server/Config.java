@@ -9,9 +9,11 @@ import org.jetbrains.annotations.NotNull;
 import org.phantazm.server.config.loader.LobbiesConfigProcessor;
 import org.phantazm.server.config.loader.PathfinderConfigProcessor;
 import org.phantazm.server.config.loader.ServerConfigProcessor;
+import org.phantazm.server.config.loader.ZombiesConfigProcessor;
 import org.phantazm.server.config.lobby.LobbiesConfig;
 import org.phantazm.server.config.server.PathfinderConfig;
 import org.phantazm.server.config.server.ServerConfig;
+import org.phantazm.server.config.zombies.ZombiesConfig;
 
 import java.nio.file.Path;
 
@@ -32,6 +34,11 @@ public final class Config {
      * The location of the pathfinder configuration file.
      */
     public static final Path PATHFINDER_CONFIG_PATH = Path.of("./pathfinder-config.toml");
+
+    /**
+     * The location of the Zombies configuration file.
+     */
+    public static final Path ZOMBIES_CONFIG_PATH = Path.of("./zombies-config.toml");
     /**
      * The {@link ConfigHandler.ConfigKey} instance used to refer to the primary {@link ServerConfig} loader.
      */
@@ -49,6 +56,12 @@ public final class Config {
     public static final ConfigHandler.ConfigKey<PathfinderConfig> PATHFINDER_CONFIG_KEY =
             new ConfigHandler.ConfigKey<>(PathfinderConfig.class, "pathfinder_config");
 
+    /**
+     * The {@link ConfigHandler.ConfigKey} instance used to refer to the primary {@link ZombiesConfig} loader.
+     */
+    public static final ConfigHandler.ConfigKey<ZombiesConfig> ZOMBIES_CONFIG_KEY =
+            new ConfigHandler.ConfigKey<>(ZombiesConfig.class, "zombies_config");
+
     private static ConfigHandler handler;
 
     private Config() {
@@ -73,6 +86,10 @@ public final class Config {
         handler.registerLoader(PATHFINDER_CONFIG_KEY,
                 new SyncFileConfigLoader<>(new PathfinderConfigProcessor(), PathfinderConfig.DEFAULT,
                         PATHFINDER_CONFIG_PATH, codec));
+
+        handler.registerLoader(ZOMBIES_CONFIG_KEY,
+                new SyncFileConfigLoader<>(new ZombiesConfigProcessor(), ZombiesConfig.DEFAULT, ZOMBIES_CONFIG_PATH,
+                        codec));
     }
 
     /**
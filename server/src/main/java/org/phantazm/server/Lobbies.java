@@ -28,10 +28,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Main entrypoint for lobby-related features.
@@ -43,6 +46,8 @@ public final class Lobbies {
 
     private static SceneFallback fallback;
 
+    private static CompletableFuture<Void> instancesPreloaded;
+
     private Lobbies() {
         throw new UnsupportedOperationException();
     }
@@ -53,15 +58,17 @@ public final class Lobbies {
      * @param node               the node to register lobby-related events to
      * @param playerViewProvider the {@link PlayerViewProvider} instance used by the server
      * @param lobbiesConfig      the {@link LobbiesConfig} used to determine lobby behavior
+     * @param preloadExecutor    the {@link Executor} lobby instances are preloaded on
      */
     static void initialize(@NotNull EventNode<Event> node, @NotNull PlayerViewProvider playerViewProvider,
-            @NotNull LobbiesConfig lobbiesConfig) throws IOException {
+            @NotNull LobbiesConfig lobbiesConfig, @NotNull Executor preloadExecutor) throws IOException {
         SceneStore sceneStore = new BasicSceneStore();
 
         InstanceManager instanceManager = MinecraftServer.getInstanceManager();
         FileUtils.createDirectories(lobbiesConfig.instancesPath());
         InstanceLoader instanceLoader =
-                new AnvilFileSystemInstanceLoader(instanceManager, lobbiesConfig.instancesPath(), DynamicChunk::new);
+                new AnvilFileSystemInstanceLoader(instanceManager, lobbiesConfig.instancesPath(), DynamicChunk::new,
+                        preloadExecutor);
         SceneFallback finalFallback = new KickFallback(lobbiesConfig.kickMessage());
 
         Map<String, SceneProvider<Lobby, LobbyJoinRequest>> lobbyProviders =
@@ -75,10 +82,12 @@ public final class Lobbies {
         }
 
         LOGGER.info("Preloading {} lobby instances", lobbiesConfig.lobbies().size());
+        List<CompletableFuture<Void>> preloads = new ArrayList<>(lobbiesConfig.lobbies().size());
         for (LobbyConfig lobbyConfig : lobbiesConfig.lobbies().values()) {
-            instanceLoader.preload(lobbyConfig.lobbyPaths(), lobbyConfig.instanceConfig().spawnPoint(),
-                    MinecraftServer.getChunkViewDistance());
+            preloads.add(instanceLoader.preload(lobbyConfig.lobbyPaths(), lobbyConfig.instanceConfig().spawnPoint(),
+                    MinecraftServer.getChunkViewDistance()));
         }
+        instancesPreloaded = CompletableFuture.allOf(preloads.toArray(CompletableFuture[]::new));
 
         SceneProvider<Lobby, LobbyJoinRequest> mainLobbyProvider =
                 new BasicLobbyProvider(mainLobbyConfig.maxLobbies(), -mainLobbyConfig.maxPlayers(), instanceLoader,
@@ -141,4 +150,8 @@ public final class Lobbies {
     public static SceneFallback getFallback() {
         return FeatureUtils.check(fallback);
     }
+
+    public static @NotNull CompletableFuture<Void> getInstancesPreloaded() {
+        return FeatureUtils.check(instancesPreloaded);
+    }
 }
@@ -14,6 +14,7 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.command.CommandManager;
 import net.minestom.server.event.Event;
 import net.minestom.server.event.EventNode;
+import net.minestom.server.event.player.AsyncPlayerPreLoginEvent;
 import net.minestom.server.event.server.ServerListPingEvent;
 import net.minestom.server.extras.MojangAuth;
 import net.minestom.server.extras.bungee.BungeeCordProxy;
@@ -23,13 +24,16 @@ import org.jetbrains.annotations.Nullable;
 import org.phantazm.commons.Namespaces;
 import org.phantazm.core.game.scene.fallback.CompositeFallback;
 import org.phantazm.core.game.scene.fallback.KickFallback;
+import org.phantazm.core.instance.BlockBatch;
 import org.phantazm.core.player.BasicPlayerViewProvider;
+import org.phantazm.core.player.CachingIdentitySource;
 import org.phantazm.core.player.IdentitySource;
 import org.phantazm.core.player.PlayerViewProvider;
 import org.phantazm.server.config.lobby.LobbiesConfig;
 import org.phantazm.server.config.server.PathfinderConfig;
 import org.phantazm.server.config.server.ServerConfig;
 import org.phantazm.server.config.server.ServerInfoConfig;
+import org.phantazm.server.config.zombies.ZombiesConfig;
 import org.phantazm.server.player.BasicLoginValidator;
 import org.phantazm.server.player.LoginValidator;
 import org.phantazm.zombies.equipment.EquipmentData;
@@ -42,8 +46,13 @@ import org.snakeyaml.engine.v2.api.LoadSettings;
 import org.snakeyaml.engine.v2.common.FlowStyle;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Launches the server, and provides some useful static constants.
@@ -58,6 +67,9 @@ public final class PhantazmServer {
 
     public static final Path BANS_FILE = Path.of("./bans.txt");
     public static final Path WHITELIST_FILE = Path.of("./whitelist.txt");
+    public static final Path IDENTITY_CACHE_FILE = Path.of("./identities.txt");
+    public static final Duration IDENTITY_CACHE_TTL = Duration.ofDays(1);
+    public static final int PRELOAD_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
 
     /**
      * Starting point for the server.
@@ -72,6 +84,7 @@ public final class PhantazmServer {
         ServerConfig serverConfig;
         LobbiesConfig lobbiesConfig;
         PathfinderConfig pathfinderConfig;
+        ZombiesConfig zombiesConfig;
         try {
             LOGGER.info("Loading server configuration data.");
             Config.initialize();
@@ -118,6 +131,7 @@ public final class PhantazmServer {
 
             lobbiesConfig = handler.loadDataNow(Config.LOBBIES_CONFIG_KEY);
             pathfinderConfig = handler.loadDataNow(Config.PATHFINDER_CONFIG_KEY);
+            zombiesConfig = handler.loadDataNow(Config.ZOMBIES_CONFIG_KEY);
             LOGGER.info("Server configuration loaded successfully.");
         }
         catch (ConfigProcessException e) {
@@ -128,11 +142,15 @@ public final class PhantazmServer {
 
         LoginValidator loginValidator =
                 new BasicLoginValidator(serverConfig.serverInfoConfig().whitelist(), WHITELIST_FILE, BANS_FILE);
+        CachingIdentitySource identitySource =
+                new CachingIdentitySource(IdentitySource.MOJANG, IDENTITY_CACHE_FILE, IDENTITY_CACHE_TTL);
 
         EventNode<Event> node = MinecraftServer.getGlobalEventHandler();
+        ExecutorService preloadExecutor = createPreloadExecutor();
         try {
             LOGGER.info("Initializing features.");
-            initializeFeatures(node, serverConfig, pathfinderConfig, lobbiesConfig, loginValidator);
+            initializeFeatures(node, serverConfig, pathfinderConfig, lobbiesConfig, zombiesConfig, loginValidator,
+                    identitySource, preloadExecutor);
             LOGGER.info("Features initialized successfully.");
         }
         catch (Exception exception) {
@@ -141,12 +159,15 @@ public final class PhantazmServer {
             return;
         }
 
+        awaitInstances(node, preloadExecutor);
+
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             if (!MinecraftServer.isStopping()) {
                 shutdown("interrupt");
             }
 
             loginValidator.flush();
+            identitySource.flush();
         }));
 
         MinecraftServer.setBrandName(BRAND_NAME);
@@ -176,9 +197,11 @@ public final class PhantazmServer {
     }
 
     private static void initializeFeatures(EventNode<Event> global, ServerConfig serverConfig,
-            PathfinderConfig pathfinderConfig, LobbiesConfig lobbiesConfig, LoginValidator loginValidator)
+            PathfinderConfig pathfinderConfig, LobbiesConfig lobbiesConfig, ZombiesConfig zombiesConfig,
+            LoginValidator loginValidator, IdentitySource identitySource, ExecutorService preloadExecutor)
             throws Exception {
         BlockHandlerFeature.initialize(MinecraftServer.getBlockManager());
+        BlockBatch.registerListeners(global);
 
         KeyParser keyParser = new BasicKeyParser(Namespaces.PHANTAZM);
 
@@ -193,12 +216,12 @@ public final class PhantazmServer {
         TickFormatterFeature.initialize(contextManager);
 
         PlayerViewProvider viewProvider =
-                new BasicPlayerViewProvider(IdentitySource.MOJANG, MinecraftServer.getConnectionManager());
+                new BasicPlayerViewProvider(identitySource, MinecraftServer.getConnectionManager());
 
         ValidationFeature.initialize(global, loginValidator);
         PartyFeature.initialize(MinecraftServer.getCommandManager(), viewProvider,
                 MinecraftServer.getSchedulerManager());
-        Lobbies.initialize(global, viewProvider, lobbiesConfig);
+        Lobbies.initialize(global, viewProvider, lobbiesConfig, preloadExecutor);
         Chat.initialize(global, viewProvider, PartyFeature.getParties(), MinecraftServer.getCommandManager());
         Messaging.initialize(global, serverConfig.serverInfoConfig().authType());
 
@@ -215,9 +238,44 @@ public final class PhantazmServer {
                 MinecraftServer.getConnectionManager(), Proxima.instanceSettingsFunction(), viewProvider,
                 commandManager, new CompositeFallback(List.of(Lobbies.getFallback(),
                         new KickFallback(Component.text("Failed to send you to lobby", NamedTextColor.RED)))),
-                PartyFeature.getParties());
+                PartyFeature.getParties(), zombiesConfig, preloadExecutor);
+
+        ServerCommandFeature.initialize(commandManager, loginValidator, serverConfig.serverInfoConfig().whitelist(),
+                identitySource);
+    }
+
+    private static ExecutorService createPreloadExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(PRELOAD_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "Phantazm-Instance-Preload-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static void awaitInstances(EventNode<Event> node, ExecutorService preloadExecutor) {
+        long start = System.nanoTime();
+        CompletableFuture<Void> ready =
+                CompletableFuture.allOf(Lobbies.getInstancesPreloaded(), ZombiesFeature.instancesPreloaded());
+
+        //players may connect while instances are loading, but are turned away until every one of them is ready
+        node.addListener(AsyncPlayerPreLoginEvent.class, event -> {
+            if (!ready.isDone()) {
+                event.getPlayer().kick(Component.text("The server is still starting, try again in a moment",
+                        NamedTextColor.RED));
+            }
+        });
+
+        ready.whenComplete((ignored, throwable) -> {
+            preloadExecutor.shutdown();
+            if (throwable != null) {
+                LOGGER.error("Fatal error when preloading instances", throwable);
+                shutdown("error during startup");
+                return;
+            }
 
-        ServerCommandFeature.initialize(commandManager, loginValidator, serverConfig.serverInfoConfig().whitelist());
+            LOGGER.info("Instances preloaded in {}ms.", (System.nanoTime() - start) / 1_000_000L);
+        });
     }
 
     private static void startServer(EventNode<Event> node, MinecraftServer server, ServerConfig serverConfig) {
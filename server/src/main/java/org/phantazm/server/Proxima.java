@@ -17,6 +17,7 @@ import java.util.function.Function;
 
 public final class Proxima {
     private static Pathfinder pathfinder;
+    private static PathfindingMetrics metrics;
     private static Function<? super Instance, ? extends InstanceSpawner.InstanceSettings> settingsFunction;
     private static Spawner spawner;
 
@@ -40,7 +41,10 @@ public final class Proxima {
                 corePoolSize, maximumPoolSize, minimumRunnable, forkJoinPool -> true, keepAliveTime, keepAliveTimeUnit);
 
         pathfinder = new BasicAsyncPathfinder(fjp, BasicPathOperation::new, 1000000);
-        settingsFunction = new InstanceSettingsFunction(globalNode);
+        metrics = pathfinderConfig.metrics() ?
+                new BasicPathfindingMetrics(() -> fjp.getQueuedSubmissionCount() + fjp.getQueuedTaskCount()) :
+                PathfindingMetrics.NONE;
+        settingsFunction = new InstanceSettingsFunction(globalNode, pathfinderConfig.sharedPaths(), metrics);
         spawner = new InstanceSpawner(pathfinder, settingsFunction);
     }
 
@@ -52,6 +56,10 @@ public final class Proxima {
         return FeatureUtils.check(pathfinder);
     }
 
+    public static @NotNull PathfindingMetrics getMetrics() {
+        return FeatureUtils.check(metrics);
+    }
+
     public static @NotNull Function<? super Instance, ? extends InstanceSpawner.InstanceSettings> instanceSettingsFunction() {
         return FeatureUtils.check(settingsFunction);
     }
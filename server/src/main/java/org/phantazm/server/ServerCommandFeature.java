@@ -6,19 +6,21 @@ import org.jetbrains.annotations.NotNull;
 import org.phantazm.core.player.IdentitySource;
 import org.phantazm.server.command.BanCommand;
 import org.phantazm.server.command.PardonCommand;
+import org.phantazm.server.command.PathfindingStatsCommand;
 import org.phantazm.server.command.WhitelistCommand;
 import org.phantazm.server.player.LoginValidator;
 
 public final class ServerCommandFeature {
     static void initialize(@NotNull CommandManager commandManager, @NotNull LoginValidator loginValidator,
-            boolean whitelist) {
+            boolean whitelist, @NotNull IdentitySource identitySource) {
         Command stopCommand = new Command("stop");
         stopCommand.setDefaultExecutor((sender, context) -> PhantazmServer.shutdown("stop command"));
 
         commandManager.register(stopCommand);
 
-        commandManager.register(new BanCommand(IdentitySource.MOJANG, loginValidator));
-        commandManager.register(new PardonCommand(IdentitySource.MOJANG, loginValidator));
-        commandManager.register(new WhitelistCommand(IdentitySource.MOJANG, loginValidator, whitelist));
+        commandManager.register(new BanCommand(identitySource, loginValidator));
+        commandManager.register(new PardonCommand(identitySource, loginValidator));
+        commandManager.register(new WhitelistCommand(identitySource, loginValidator, whitelist));
+        commandManager.register(new PathfindingStatsCommand(Proxima.getMetrics()));
     }
 }
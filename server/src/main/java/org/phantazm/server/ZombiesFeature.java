@@ -12,7 +12,6 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.command.CommandManager;
 import net.minestom.server.event.Event;
 import net.minestom.server.event.EventNode;
-import net.minestom.server.instance.DynamicChunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.packet.server.play.TeamsPacket;
@@ -27,9 +26,11 @@ import org.phantazm.core.InstanceClientBlockHandler;
 import org.phantazm.core.VecUtils;
 import org.phantazm.core.equipment.LinearUpgradePath;
 import org.phantazm.core.equipment.NoUpgradePath;
+import org.phantazm.core.game.scene.SceneTicker;
 import org.phantazm.core.game.scene.fallback.SceneFallback;
 import org.phantazm.core.guild.party.Party;
 import org.phantazm.core.instance.AnvilFileSystemInstanceLoader;
+import org.phantazm.core.instance.CopyOnWriteChunk;
 import org.phantazm.core.instance.InstanceLoader;
 import org.phantazm.core.item.AnimatedUpdatingItem;
 import org.phantazm.core.item.StaticUpdatingItem;
@@ -38,6 +39,7 @@ import org.phantazm.core.particle.data.*;
 import org.phantazm.core.player.PlayerViewProvider;
 import org.phantazm.proxima.bindings.minestom.InstanceSpawner;
 import org.phantazm.proxima.bindings.minestom.Spawner;
+import org.phantazm.server.config.zombies.ZombiesConfig;
 import org.phantazm.zombies.Attributes;
 import org.phantazm.zombies.command.ZombiesCommand;
 import org.phantazm.zombies.map.FileSystemMapLoader;
@@ -87,12 +89,19 @@ import org.phantazm.zombies.sidebar.lineupdater.creator.ZombieKillsUpdaterCreato
 import org.phantazm.zombies.sidebar.section.CollectionSidebarSection;
 import org.phantazm.zombies.sidebar.section.ZombiesPlayerSection;
 import org.phantazm.zombies.sidebar.section.ZombiesPlayersSection;
+import org.phantazm.zombies.spawn.SpawnBudget;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 public final class ZombiesFeature {
@@ -106,33 +115,65 @@ public final class ZombiesFeature {
     private static Map<Key, PowerupInfo> powerups;
     private static MobSpawnerSource mobSpawnerSource;
     private static ZombiesSceneRouter sceneRouter;
+    private static CompletableFuture<Void> instancesPreloaded;
 
     static void initialize(@NotNull EventNode<Event> globalEventNode, @NotNull ContextManager contextManager,
             @NotNull Map<BooleanObjectPair<String>, ConfigProcessor<?>> processorMap, @NotNull Spawner spawner,
             @NotNull KeyParser keyParser, @NotNull ConnectionManager connectionManager,
             @NotNull Function<? super Instance, ? extends InstanceSpawner.InstanceSettings> instanceSpaceFunction,
             @NotNull PlayerViewProvider viewProvider, @NotNull CommandManager commandManager,
-            @NotNull SceneFallback sceneFallback, @NotNull Map<? super UUID, ? extends Party> parties)
-            throws IOException {
+            @NotNull SceneFallback sceneFallback, @NotNull Map<? super UUID, ? extends Party> parties,
+            @NotNull ZombiesConfig zombiesConfig, @NotNull Executor preloadExecutor) throws IOException {
         Attributes.registerAll();
         registerElementClasses(contextManager);
 
         ConfigCodec codec = new YamlCodec();
-        ZombiesFeature.maps = loadFeature("map", new FileSystemMapLoader(MAPS_FOLDER, codec));
+
+        //map reads get their own pool, as instance preloads block their threads while waiting for chunks to load
+        AtomicInteger mapThreadCount = new AtomicInteger();
+        ExecutorService mapExecutor = Executors.newFixedThreadPool(PhantazmServer.PRELOAD_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "Phantazm-Map-Load-" + mapThreadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            ZombiesFeature.maps = loadFeature("map", new FileSystemMapLoader(MAPS_FOLDER, codec, true, mapExecutor));
+        }
+        finally {
+            mapExecutor.shutdown();
+        }
+
         ZombiesFeature.powerups = loadFeature("powerup", new FileSystemPowerupLoader(POWERUPS_FOLDER, codec));
         ZombiesFeature.mobSpawnerSource = new BasicMobSpawnerSource(processorMap, spawner, keyParser);
 
         InstanceLoader instanceLoader =
                 new AnvilFileSystemInstanceLoader(MinecraftServer.getInstanceManager(), INSTANCES_FOLDER,
-                        DynamicChunk::new);
+                        CopyOnWriteChunk::new, preloadExecutor);
 
         LOGGER.info("Preloading {} map instances", maps.size());
+        List<CompletableFuture<Void>> preloads = new ArrayList<>(maps.size());
         for (MapInfo map : maps.values()) {
-            instanceLoader.preload(map.settings().instancePath(),
+            preloads.add(instanceLoader.preload(map.settings().instancePath(),
                     VecUtils.toPoint(map.settings().origin().add(map.settings().spawn())),
-                    MinecraftServer.getChunkViewDistance());
+                    MinecraftServer.getChunkViewDistance()));
         }
+        ZombiesFeature.instancesPreloaded = CompletableFuture.allOf(preloads.toArray(CompletableFuture[]::new));
+
+        SceneTicker sceneTicker = zombiesConfig.sceneTickMode().createTicker(zombiesConfig.sceneTickThreads());
+        LOGGER.info("Ticking Zombies scenes using mode {}", zombiesConfig.sceneTickMode());
+
+        SpawnBudget spawnBudget =
+                new SpawnBudget(zombiesConfig.waveSpawnsPerTick(), zombiesConfig.waveSpawnNanos());
 
+        AtomicInteger creationThreadCount = new AtomicInteger();
+        Executor creationExecutor = Executors.newFixedThreadPool(zombiesConfig.sceneCreationThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "Phantazm-Scene-Creation-" + creationThreadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        AtomicInteger ingamePlayers = new AtomicInteger();
         Map<Key, ZombiesSceneProvider> providers = new HashMap<>(maps.size());
         TeamManager teamManager = MinecraftServer.getTeamManager();
         Team corpseTeam = teamManager.createBuilder("corpses").collisionRule(TeamsPacket.CollisionRule.NEVER)
@@ -145,14 +186,17 @@ public final class ZombiesFeature {
                             new BasicClientBlockHandlerSource(instance -> {
                                 DimensionType dimensionType = instance.getDimensionType();
                                 return new InstanceClientBlockHandler(instance, globalEventNode,
-                                        dimensionType.getMinY(), dimensionType.getHeight());
+                                        dimensionType.getMinY(), dimensionType.getHeight(),
+                                        zombiesConfig.bufferClientBlocks());
                             }), contextManager, keyParser, ZombiesFeature.powerups(),
                             new BasicZombiesPlayerSource(EquipmentFeature::createEquipmentCreator, corpseTeam,
-                                    Mob.getModels()));
+                                    Mob.getModels()), sceneTicker, spawnBudget, zombiesConfig.warmScenes(),
+                            creationExecutor, operation -> sceneRouter.runAfterTick(operation), ingamePlayers);
             providers.put(entry.getKey(), provider);
         }
 
-        ZombiesFeature.sceneRouter = new ZombiesSceneRouter(providers);
+        ZombiesFeature.sceneRouter = new ZombiesSceneRouter(providers, sceneTicker, ingamePlayers);
+        MinecraftServer.getSchedulerManager().buildShutdownTask(sceneRouter::shutdown);
 
         MinecraftServer.getSchedulerManager()
                 .scheduleTask(() -> sceneRouter.tick(System.currentTimeMillis()), TaskSchedule.immediate(),
@@ -304,9 +348,14 @@ public final class ZombiesFeature {
         List<String> dataNames = loader.loadableData();
         Map<Key, T> data = new HashMap<>(dataNames.size());
 
+        List<CompletableFuture<T>> futures = new ArrayList<>(dataNames.size());
         for (String dataName : dataNames) {
+            futures.add(loader.loadAsync(dataName));
+        }
+
+        for (CompletableFuture<T> future : futures) {
             try {
-                T feature = loader.load(dataName);
+                T feature = future.join();
                 Key id = feature.key();
 
                 if (data.containsKey(id)) {
@@ -316,8 +365,12 @@ public final class ZombiesFeature {
 
                 data.put(id, feature);
             }
-            catch (IOException e) {
-                LOGGER.warn("Exception when loading " + featureName, e);
+            catch (CompletionException e) {
+                if (!(e.getCause() instanceof IOException)) {
+                    throw e;
+                }
+
+                LOGGER.warn("Exception when loading " + featureName, e.getCause());
             }
         }
 
@@ -333,6 +386,10 @@ public final class ZombiesFeature {
         return FeatureUtils.check(powerups);
     }
 
+    public static @NotNull CompletableFuture<Void> instancesPreloaded() {
+        return FeatureUtils.check(instancesPreloaded);
+    }
+
     public static @NotNull MobSpawnerSource mobSpawnerSource() {
         return FeatureUtils.check(mobSpawnerSource);
     }
@@ -0,0 +1,44 @@
+package org.phantazm.server.command;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.command.builder.Command;
+import net.minestom.server.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.commons.Histogram;
+import org.phantazm.proxima.bindings.minestom.PathfindingMetrics;
+
+import java.util.Map;
+import java.util.Objects;
+
+public class PathfindingStatsCommand extends Command {
+    public PathfindingStatsCommand(@NotNull PathfindingMetrics metrics) {
+        super("pathstats");
+        Objects.requireNonNull(metrics, "metrics");
+
+        setDefaultExecutor((sender, context) -> {
+            if (!metrics.isEnabled()) {
+                sender.sendMessage(Component.text("Pathfinding metrics are disabled in the pathfinder config",
+                        NamedTextColor.RED));
+                return;
+            }
+
+            PathfindingMetrics.Snapshot snapshot = metrics.snapshot();
+            sender.sendMessage(Component.text(
+                    String.format("Pathfinder queue depth: %d, solid cache hit rate: %.2f%%", snapshot.queueDepth(),
+                            snapshot.cacheHitRate() * 100), NamedTextColor.YELLOW));
+
+            for (Map.Entry<EntityType, PathfindingMetrics.TypeSnapshot> entry : snapshot.types().entrySet()) {
+                PathfindingMetrics.TypeSnapshot type = entry.getValue();
+                Histogram.Snapshot latency = type.latencyMillis();
+                Histogram.Snapshot explored = type.exploredNodes();
+
+                sender.sendMessage(Component.text(String.format(
+                        "%s: %d paths (%d failed), latency ms mean/p50/p99/max %.1f/%d/%d/%d, explored nodes " +
+                                "mean/p50/p99/max %.1f/%d/%d/%d", entry.getKey().name(), type.paths(),
+                        type.failedPaths(), latency.mean(), latency.p50(), latency.p99(), latency.max(),
+                        explored.mean(), explored.p50(), explored.p99(), explored.max())));
+            }
+        });
+    }
+}
@@ -22,9 +22,11 @@ public class PathfinderConfigProcessor implements ConfigProcessor<PathfinderConf
         long keepAliveTime = element.getNumberOrThrow("keepAliveTime").longValue();
         TimeUnit keepAliveTimeUnit =
                 TIME_UNIT_PROCESSOR.dataFromElement(element.getElementOrThrow("keepAliveTimeUnit"));
+        boolean sharedPaths = element.getBooleanOrThrow("sharedPaths");
+        boolean metrics = element.getBooleanOrThrow("metrics");
 
         return new PathfinderConfig(threads, asyncMode, corePoolSize, maximumPoolSize, minimumRunnable, keepAliveTime,
-                keepAliveTimeUnit);
+                keepAliveTimeUnit, sharedPaths, metrics);
     }
 
     @Override
@@ -33,6 +35,7 @@ public class PathfinderConfigProcessor implements ConfigProcessor<PathfinderConf
                 "corePoolSize", pathfinderConfig.corePoolSize(), "maximumPoolSize", pathfinderConfig.maximumPoolSize(),
                 "minimumRunnable", pathfinderConfig.minimumRunnable(), "keepAliveTime",
                 pathfinderConfig.keepAliveTime(), "keepAliveTimeUnit",
-                TIME_UNIT_PROCESSOR.elementFromData(pathfinderConfig.keepAliveTimeUnit()));
+                TIME_UNIT_PROCESSOR.elementFromData(pathfinderConfig.keepAliveTimeUnit()), "sharedPaths",
+                pathfinderConfig.sharedPaths(), "metrics", pathfinderConfig.metrics());
     }
 }
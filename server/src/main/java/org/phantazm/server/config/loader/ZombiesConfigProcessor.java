@@ -0,0 +1,63 @@
+package org.phantazm.server.config.loader;
+
+import com.github.steanky.ethylene.core.ConfigElement;
+import com.github.steanky.ethylene.core.collection.ConfigNode;
+import com.github.steanky.ethylene.core.processor.ConfigProcessException;
+import com.github.steanky.ethylene.core.processor.ConfigProcessor;
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.core.game.scene.SceneTickMode;
+import org.phantazm.server.config.zombies.ZombiesConfig;
+
+/**
+ * {@link ConfigProcessor} used for {@link ZombiesConfig}s.
+ */
+public class ZombiesConfigProcessor implements ConfigProcessor<ZombiesConfig> {
+    private static final ConfigProcessor<SceneTickMode> SCENE_TICK_MODE_PROCESSOR =
+            ConfigProcessor.enumProcessor(SceneTickMode.class);
+
+    @Override
+    public @NotNull ZombiesConfig dataFromElement(@NotNull ConfigElement element) throws ConfigProcessException {
+        SceneTickMode sceneTickMode =
+                SCENE_TICK_MODE_PROCESSOR.dataFromElement(element.getElementOrThrow("sceneTickMode"));
+        int sceneTickThreads = element.getNumberOrThrow("sceneTickThreads").intValue();
+        if (sceneTickThreads < 1) {
+            throw new ConfigProcessException("Invalid sceneTickThreads: " + sceneTickThreads + ", must be positive");
+        }
+
+        boolean bufferClientBlocks = element.getBooleanOrThrow("bufferClientBlocks");
+
+        int waveSpawnsPerTick = element.getNumberOrThrow("waveSpawnsPerTick").intValue();
+        if (waveSpawnsPerTick < 1) {
+            throw new ConfigProcessException("Invalid waveSpawnsPerTick: " + waveSpawnsPerTick + ", must be positive");
+        }
+
+        long waveSpawnNanos = element.getNumberOrThrow("waveSpawnNanos").longValue();
+        if (waveSpawnNanos < 1) {
+            throw new ConfigProcessException("Invalid waveSpawnNanos: " + waveSpawnNanos + ", must be positive");
+        }
+
+        int warmScenes = element.getNumberOrThrow("warmScenes").intValue();
+        if (warmScenes < 0) {
+            throw new ConfigProcessException("Invalid warmScenes: " + warmScenes + ", must be non-negative");
+        }
+
+        int sceneCreationThreads = element.getNumberOrThrow("sceneCreationThreads").intValue();
+        if (sceneCreationThreads < 1) {
+            throw new ConfigProcessException(
+                    "Invalid sceneCreationThreads: " + sceneCreationThreads + ", must be positive");
+        }
+
+        return new ZombiesConfig(sceneTickMode, sceneTickThreads, bufferClientBlocks, waveSpawnsPerTick,
+                waveSpawnNanos, warmScenes, sceneCreationThreads);
+    }
+
+    @Override
+    public @NotNull ConfigElement elementFromData(@NotNull ZombiesConfig zombiesConfig)
+            throws ConfigProcessException {
+        return ConfigNode.of("sceneTickMode", SCENE_TICK_MODE_PROCESSOR.elementFromData(zombiesConfig.sceneTickMode()),
+                "sceneTickThreads", zombiesConfig.sceneTickThreads(), "bufferClientBlocks",
+                zombiesConfig.bufferClientBlocks(), "waveSpawnsPerTick", zombiesConfig.waveSpawnsPerTick(),
+                "waveSpawnNanos", zombiesConfig.waveSpawnNanos(), "warmScenes", zombiesConfig.warmScenes(),
+                "sceneCreationThreads", zombiesConfig.sceneCreationThreads());
+    }
+}
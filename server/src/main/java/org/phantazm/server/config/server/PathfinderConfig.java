@@ -4,6 +4,11 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * Config for pathfinding.
+ *
+ * @param sharedPaths Whether mobs chasing the same target may follow paths already computed by other mobs, instead of
+ *                    each running its own search
+ * @param metrics     Whether pathfinding statistics should be collected; collecting them adds work to every solid
+ *                    lookup, so they are off by default
  */
 public record PathfinderConfig(int threads,
                                boolean asyncMode,
@@ -11,7 +16,9 @@ public record PathfinderConfig(int threads,
                                int maximumPoolSize,
                                int minimumRunnable,
                                long keepAliveTime,
-                               TimeUnit keepAliveTimeUnit) {
+                               TimeUnit keepAliveTimeUnit,
+                               boolean sharedPaths,
+                               boolean metrics) {
     /**
      * The default PathfinderConfig.
      */
@@ -19,6 +26,6 @@ public record PathfinderConfig(int threads,
 
     static {
         int threads = Runtime.getRuntime().availableProcessors();
-        DEFAULT = new PathfinderConfig(threads, false, threads, threads, threads, 2, TimeUnit.MINUTES);
+        DEFAULT = new PathfinderConfig(threads, false, threads, threads, threads, 2, TimeUnit.MINUTES, false, false);
     }
 }
@@ -0,0 +1,83 @@
+package org.phantazm.server.config.zombies;
+
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.core.game.scene.SceneTickMode;
+
+import java.util.Objects;
+
+/**
+ * Config for the Zombies game.
+ *
+ * @param sceneTickMode        How Zombies scenes should be ticked
+ * @param sceneTickThreads     The number of threads used to tick scenes, if ticking is not sequential
+ * @param bufferClientBlocks   Whether client block changes should be buffered and sent once per tick
+ * @param waveSpawnsPerTick    The maximum number of wave mobs spawned per tick in a single scene
+ * @param waveSpawnNanos       The maximum time spent spawning wave mobs per tick in a single scene, in nanoseconds
+ * @param warmScenes           The number of scenes each map keeps created ahead of time
+ * @param sceneCreationThreads The number of threads used to create warm scenes
+ */
+public record ZombiesConfig(@NotNull SceneTickMode sceneTickMode,
+                            int sceneTickThreads,
+                            boolean bufferClientBlocks,
+                            int waveSpawnsPerTick,
+                            long waveSpawnNanos,
+                            int warmScenes,
+                            int sceneCreationThreads) {
+    /**
+     * The default scene tick mode.
+     */
+    public static final SceneTickMode DEFAULT_SCENE_TICK_MODE = SceneTickMode.SEQUENTIAL;
+
+    /**
+     * The default number of scene tick threads.
+     */
+    public static final int DEFAULT_SCENE_TICK_THREADS = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Whether client blocks are buffered by default.
+     */
+    public static final boolean DEFAULT_BUFFER_CLIENT_BLOCKS = false;
+
+    /**
+     * The default maximum number of wave mobs spawned per tick.
+     */
+    public static final int DEFAULT_WAVE_SPAWNS_PER_TICK = 8;
+
+    /**
+     * The default maximum time spent spawning wave mobs per tick, in nanoseconds.
+     */
+    public static final long DEFAULT_WAVE_SPAWN_NANOS = 5_000_000L;
+
+    /**
+     * The default number of warm scenes per map.
+     */
+    public static final int DEFAULT_WARM_SCENES = 1;
+
+    /**
+     * The default number of scene creation threads.
+     */
+    public static final int DEFAULT_SCENE_CREATION_THREADS = 1;
+
+    /**
+     * The default ZombiesConfig instance.
+     */
+    public static final ZombiesConfig DEFAULT =
+            new ZombiesConfig(DEFAULT_SCENE_TICK_MODE, DEFAULT_SCENE_TICK_THREADS, DEFAULT_BUFFER_CLIENT_BLOCKS,
+                    DEFAULT_WAVE_SPAWNS_PER_TICK, DEFAULT_WAVE_SPAWN_NANOS, DEFAULT_WARM_SCENES,
+                    DEFAULT_SCENE_CREATION_THREADS);
+
+    /**
+     * Creates config for the Zombies game.
+     *
+     * @param sceneTickMode        How Zombies scenes should be ticked
+     * @param sceneTickThreads     The number of threads used to tick scenes, if ticking is not sequential
+     * @param bufferClientBlocks   Whether client block changes should be buffered and sent once per tick
+     * @param waveSpawnsPerTick    The maximum number of wave mobs spawned per tick in a single scene
+     * @param waveSpawnNanos       The maximum time spent spawning wave mobs per tick in a single scene, in nanoseconds
+     * @param warmScenes           The number of scenes each map keeps created ahead of time
+     * @param sceneCreationThreads The number of threads used to create warm scenes
+     */
+    public ZombiesConfig {
+        Objects.requireNonNull(sceneTickMode, "sceneTickMode");
+    }
+}
@@ -1,8 +1,13 @@
 package org.phantazm.zombies.map;
 
 import com.github.steanky.ethylene.core.ConfigCodec;
+import com.github.steanky.ethylene.core.ConfigElement;
 import com.github.steanky.ethylene.core.bridge.Configuration;
+import com.github.steanky.ethylene.core.collection.ArrayConfigList;
+import com.github.steanky.ethylene.core.collection.ConfigList;
 import com.github.steanky.ethylene.core.collection.ConfigNode;
+import com.github.steanky.ethylene.core.collection.LinkedConfigNode;
+import com.github.steanky.ethylene.core.processor.ConfigProcessor;
 import com.github.steanky.vector.Bounds3I;
 import com.github.steanky.vector.Vec3I;
 import org.jetbrains.annotations.NotNull;
@@ -10,15 +15,31 @@ import org.jetbrains.annotations.Unmodifiable;
 import org.phantazm.commons.FileUtils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiPredicate;
 import java.util.stream.Stream;
 
 /**
  * A {@link Loader} implementation that loads maps from a filesystem.
+ * <p>
+ * Map data files remain the source of truth. When bundling is enabled, the elements decoded from a map's files are
+ * also compiled into a {@link MapBundle} inside the map directory the first time the map is loaded, and later loads
+ * read the bundle instead, until any of the map's files change.
+ * <p>
+ * Data files are read on an {@link Executor}, so the files of a map, and several maps loaded through
+ * {@link FileSystemMapLoader#loadAsync(String)}, may be read at once. Files within each category are always read in
+ * order of their paths, so the order of the lists in the loaded {@link MapInfo} does not depend on the executor.
  */
 public class FileSystemMapLoader extends FilesystemLoader<MapInfo> {
     private static final String ROOMS_PATH = "rooms";
@@ -30,20 +51,46 @@ public class FileSystemMapLoader extends FilesystemLoader<MapInfo> {
     private static final String SPAWNPOINTS_PATH = "spawnpoints";
     private static final String SIDEBAR_PATH = "sidebar";
 
+    /**
+     * The name of the bundle file written to each map directory.
+     */
+    public static final String BUNDLE_NAME = "map.bundle";
+
+    private static final String SETTINGS_KEY = "settings";
+
     private final String mapInfoName;
     private final BiPredicate<Path, BasicFileAttributes> configPredicate;
     private final ConfigCodec codec;
+    private final boolean bundling;
+    private final Executor executor;
 
     /**
      * Constructs a new instance of this class from the provided root path and using the provided {@link ConfigCodec} to
-     * serialize/deserialize map data files.
+     * serialize/deserialize map data files. Maps are always read from their data files, on the calling thread, and no
+     * bundles are written.
      *
      * @param root  the root path from which to search for map information
      * @param codec the codec used to serialize/deserialize map data files
      */
     public FileSystemMapLoader(@NotNull Path root, @NotNull ConfigCodec codec) {
+        this(root, codec, false, Runnable::run);
+    }
+
+    /**
+     * Constructs a new instance of this class from the provided root path and using the provided {@link ConfigCodec} to
+     * serialize/deserialize map data files.
+     *
+     * @param root     the root path from which to search for map information
+     * @param codec    the codec used to serialize/deserialize map data files
+     * @param bundling whether maps should be compiled to, and loaded from, {@link MapBundle}s
+     * @param executor the executor data files are read on
+     */
+    public FileSystemMapLoader(@NotNull Path root, @NotNull ConfigCodec codec, boolean bundling,
+            @NotNull Executor executor) {
         super(root);
         this.codec = Objects.requireNonNull(codec, "codec");
+        this.bundling = bundling;
+        this.executor = Objects.requireNonNull(executor, "executor");
 
         Set<String> preferredExtensions = codec.getPreferredExtensions();
         if (preferredExtensions.isEmpty()) {
@@ -70,54 +117,209 @@ public class FileSystemMapLoader extends FilesystemLoader<MapInfo> {
 
     @Override
     public @NotNull MapInfo load(@NotNull String mapName) throws IOException {
-        Path mapDirectory = mapDirectoryFromName(mapName);
+        try {
+            return loadAsync(mapName).join();
+        }
+        catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * No task this loader submits to its executor waits on another, so a bounded executor may be shared by any number
+     * of concurrent loads. It should not be shared with tasks that block for long periods, such as instance preloads,
+     * which would hold up the loader's tasks behind them.
+     */
+    @Override
+    public @NotNull CompletableFuture<MapInfo> loadAsync(@NotNull String mapName) {
+        return supply(() -> {
+            Path mapDirectory = mapDirectoryFromName(mapName);
+            if (!bundling) {
+                return new Located(mapDirectory, null, null);
+            }
+
+            byte[] fingerprint = fingerprint(mapDirectory);
+            return new Located(mapDirectory, fingerprint, readBundle(mapDirectory, fingerprint));
+        }).thenCompose(located -> {
+            if (located.bundled != null) {
+                return CompletableFuture.completedFuture(located.bundled);
+            }
+
+            return readSource(located.mapDirectory).thenCompose(source -> supply(() -> {
+                MapInfo mapInfo = process(source);
+                if (located.fingerprint != null) {
+                    writeBundle(located.mapDirectory, located.fingerprint, source);
+                }
 
-        Path mapInfoFile = mapDirectory.resolve(mapInfoName);
+                return mapInfo;
+            }));
+        });
+    }
 
-        MapSettingsInfo mapSettingsInfo = Configuration.read(mapInfoFile, codec, MapProcessors.mapInfo());
+    private static MapInfo readBundle(Path mapDirectory, byte[] fingerprint) {
+        try {
+            ConfigElement bundled = MapBundle.read(mapDirectory.resolve(BUNDLE_NAME), fingerprint);
+            if (bundled != null && bundled.isNode()) {
+                return process(bundled.asNode());
+            }
+        }
+        catch (IOException ignored) {
+            //a malformed bundle is recompiled from the source files
+        }
+
+        return null;
+    }
+
+    private static void writeBundle(Path mapDirectory, byte[] fingerprint, ConfigNode source) {
+        try {
+            MapBundle.write(mapDirectory.resolve(BUNDLE_NAME), fingerprint, source);
+        }
+        catch (IOException ignored) {
+            //the bundle only speeds up later loads; the map itself was read successfully
+        }
+    }
+
+    private CompletableFuture<ConfigNode> readSource(Path mapDirectory) {
         FolderPaths paths = new FolderPaths(mapDirectory);
-        List<RoomInfo> rooms = new ArrayList<>();
-        List<DoorInfo> doors = new ArrayList<>();
-        List<ShopInfo> shops = new ArrayList<>();
-        List<WindowInfo> windows = new ArrayList<>();
-        List<RoundInfo> rounds = new ArrayList<>();
-        List<SpawnruleInfo> spawnrules = new ArrayList<>();
-        List<SpawnpointInfo> spawnpoints = new ArrayList<>();
+        String sidebarSettingsPath =
+                "settings" + (codec.getPreferredExtensions().isEmpty() ? "" : "." + codec.getPreferredExtension());
 
-        FileUtils.forEachFileMatching(paths.rooms, configPredicate,
-                file -> rooms.add(Configuration.read(file, codec, MapProcessors.roomInfo())));
+        Map<String, CompletableFuture<? extends ConfigElement>> categories = new LinkedHashMap<>(9);
+        categories.put(SETTINGS_KEY, supply(() -> Configuration.read(mapDirectory.resolve(mapInfoName), codec)));
+        categories.put(ROOMS_PATH, readFolder(paths.rooms));
+        categories.put(DOORS_PATH, readFolder(paths.doors));
+        categories.put(SHOPS_PATH, readFolder(paths.shops));
+        categories.put(WINDOWS_PATH, readFolder(paths.windows));
+        categories.put(ROUNDS_PATH, readFolder(paths.rounds));
+        categories.put(SPAWNRULES_PATH, readFolder(paths.spawnrules));
+        categories.put(SPAWNPOINTS_PATH, readFolder(paths.spawnpoints));
+        categories.put(SIDEBAR_PATH,
+                supply(() -> Configuration.read(paths.sidebar.resolve(sidebarSettingsPath), codec)));
+
+        return CompletableFuture.allOf(categories.values().toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            ConfigNode source = new LinkedConfigNode(categories.size());
+            for (Map.Entry<String, CompletableFuture<? extends ConfigElement>> entry : categories.entrySet()) {
+                source.put(entry.getKey(), entry.getValue().join());
+            }
+
+            return source;
+        });
+    }
 
-        FileUtils.forEachFileMatching(paths.doors, configPredicate,
-                file -> doors.add(Configuration.read(file, codec, MapProcessors.doorInfo())));
+    private CompletableFuture<ConfigList> readFolder(Path folder) {
+        return supply(() -> listFiles(folder)).thenCompose(files -> {
+            List<CompletableFuture<ConfigElement>> reads = new ArrayList<>(files.size());
+            for (Path file : files) {
+                reads.add(supply(() -> Configuration.read(file, codec)));
+            }
+
+            return CompletableFuture.allOf(reads.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+                ConfigList elements = new ArrayConfigList(reads.size());
+                for (CompletableFuture<ConfigElement> read : reads) {
+                    elements.add(read.join());
+                }
 
-        FileUtils.forEachFileMatching(paths.shops, configPredicate,
-                file -> shops.add(Configuration.read(file, codec, MapProcessors.shopInfo())));
+                return elements;
+            });
+        });
+    }
 
-        FileUtils.forEachFileMatching(paths.windows, configPredicate,
-                file -> windows.add(Configuration.read(file, codec, MapProcessors.windowInfo())));
+    private List<Path> listFiles(Path folder) throws IOException {
+        if (!Files.exists(folder)) {
+            return List.of();
+        }
 
-        FileUtils.forEachFileMatching(paths.rounds, configPredicate,
-                file -> rounds.add(Configuration.read(file, codec, MapProcessors.roundInfo())));
+        try (Stream<Path> stream = Files.find(folder, 1, configPredicate, FileVisitOption.FOLLOW_LINKS)) {
+            return stream.sorted().toList();
+        }
+    }
+
+    private <T> CompletableFuture<T> supply(FileUtils.IOSupplier<? extends T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(supplier.get());
+            }
+            catch (IOException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+
+        return future;
+    }
+
+    private static MapInfo process(ConfigNode source) throws IOException {
+        MapSettingsInfo mapSettingsInfo =
+                MapProcessors.mapInfo().dataFromElement(source.getElementOrThrow(SETTINGS_KEY));
+        List<RoomInfo> rooms = processList(source, ROOMS_PATH, MapProcessors.roomInfo());
+        List<DoorInfo> doors = processList(source, DOORS_PATH, MapProcessors.doorInfo());
+        List<ShopInfo> shops = processList(source, SHOPS_PATH, MapProcessors.shopInfo());
+        List<WindowInfo> windows = processList(source, WINDOWS_PATH, MapProcessors.windowInfo());
+        List<RoundInfo> rounds = processList(source, ROUNDS_PATH, MapProcessors.roundInfo());
         rounds.sort(Comparator.comparingInt(RoundInfo::round));
+        List<SpawnruleInfo> spawnrules = processList(source, SPAWNRULES_PATH, MapProcessors.spawnruleInfo());
+        List<SpawnpointInfo> spawnpoints = processList(source, SPAWNPOINTS_PATH, MapProcessors.spawnpointInfo());
+        ConfigNode scoreboard = MapProcessors.sidebar().dataFromElement(source.getElementOrThrow(SIDEBAR_PATH));
 
-        FileUtils.forEachFileMatching(paths.spawnrules, configPredicate,
-                file -> spawnrules.add(Configuration.read(file, codec, MapProcessors.spawnruleInfo())));
+        return new MapInfo(mapSettingsInfo, rooms, doors, shops, windows, rounds, spawnrules, spawnpoints, scoreboard);
+    }
 
-        FileUtils.forEachFileMatching(paths.spawnpoints, configPredicate,
-                file -> spawnpoints.add(Configuration.read(file, codec, MapProcessors.spawnpointInfo())));
+    private static <T> List<T> processList(ConfigNode source, String key, ConfigProcessor<T> processor)
+            throws IOException {
+        ConfigList elements = source.getListOrThrow(key);
+        List<T> data = new ArrayList<>(elements.size());
+        for (ConfigElement element : elements) {
+            data.add(processor.dataFromElement(element));
+        }
 
-        String sidebarSettingsPath =
-                "settings" + (codec.getPreferredExtensions().isEmpty() ? "" : "." + codec.getPreferredExtension());
-        ConfigNode scoreboard =
-                Configuration.read(paths.sidebar.resolve(sidebarSettingsPath), codec, MapProcessors.sidebar());
+        return data;
+    }
 
-        return new MapInfo(mapSettingsInfo, rooms, doors, shops, windows, rounds, spawnrules, spawnpoints, scoreboard);
+    //changes to any data file, including ones added or removed, change the fingerprint and make the bundle stale
+    private byte[] fingerprint(Path mapDirectory) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.find(mapDirectory, 2,
+                (path, attr) -> configPredicate.test(path, attr) && attr.isRegularFile() &&
+                        !path.getFileName().toString().startsWith(BUNDLE_NAME), FileVisitOption.FOLLOW_LINKS)) {
+            files = stream.sorted().toList();
+        }
+
+        ByteBuffer attributes = ByteBuffer.allocate(2 * Long.BYTES);
+        for (Path file : files) {
+            BasicFileAttributes attr = Files.readAttributes(file, BasicFileAttributes.class);
+            digest.update(mapDirectory.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+            attributes.clear();
+            attributes.putLong(attr.size()).putLong(attr.lastModifiedTime().toMillis());
+            digest.update(attributes.array());
+        }
+
+        return digest.digest();
     }
 
     @Override
     public void save(@NotNull MapInfo data) throws IOException {
         Path mapDirectory = root.resolve(data.settings().id().value());
         FileUtils.createDirectories(mapDirectory);
+        Files.deleteIfExists(mapDirectory.resolve(BUNDLE_NAME));
 
         MapSettingsInfo mapSettingsInfo = data.settings();
         Configuration.write(mapDirectory.resolve(mapInfoName), MapProcessors.mapInfo().elementFromData(mapSettingsInfo),
@@ -216,6 +418,9 @@ public class FileSystemMapLoader extends FilesystemLoader<MapInfo> {
         return position.x() + "_" + position.y() + "_" + position.z();
     }
 
+    private record Located(Path mapDirectory, byte[] fingerprint, MapInfo bundled) {
+    }
+
     private record FolderPaths(Path rooms,
                                Path doors,
                                Path shops,
@@ -6,6 +6,7 @@ import org.jetbrains.annotations.Unmodifiable;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A loader for a (usually configurable) feature. The loader may load from a filesystem, a network resource, or even
@@ -23,6 +24,23 @@ public interface Loader<T extends Keyed> {
      */
     @NotNull T load(@NotNull String dataName) throws IOException;
 
+    /**
+     * Loads some data, possibly asynchronously. If the data does not exist, the returned future completes
+     * exceptionally with an {@link IOException}. The default implementation calls {@link Loader#load(String)} on the
+     * calling thread.
+     *
+     * @param dataName the name of the data to load
+     * @return a {@link CompletableFuture} completing with the data object
+     */
+    default @NotNull CompletableFuture<T> loadAsync(@NotNull String dataName) {
+        try {
+            return CompletableFuture.completedFuture(load(dataName));
+        }
+        catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Saves (writes) some data to this loader. This is an optional operation. Implementations may be read-only, in
      * which case this method will throw an {@link UnsupportedOperationException}.
@@ -0,0 +1,358 @@
+package org.phantazm.zombies.map;
+
+import com.github.steanky.ethylene.core.ConfigElement;
+import com.github.steanky.ethylene.core.ConfigPrimitive;
+import com.github.steanky.ethylene.core.collection.ArrayConfigList;
+import com.github.steanky.ethylene.core.collection.ConfigList;
+import com.github.steanky.ethylene.core.collection.ConfigNode;
+import com.github.steanky.ethylene.core.collection.LinkedConfigNode;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * <p>Reads and writes map bundles: a compact binary encoding of the {@link ConfigElement}s a map's data files decode
+ * to, so a map can be read back with a single sequential read instead of parsing every one of its files.</p>
+ *
+ * <p>A bundle starts with a magic number, the format version and a fingerprint of the files it was compiled from. A
+ * bundle whose version or fingerprint does not match is stale, and is not read. Repeated strings are written once and
+ * referred to by index afterwards.</p>
+ */
+public final class MapBundle {
+    /**
+     * The current bundle format version. Bundles written using a different version are considered stale.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x505A4D42;
+
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte BYTE = 3;
+    private static final byte SHORT = 4;
+    private static final byte INT = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte BIG_INTEGER = 9;
+    private static final byte BIG_DECIMAL = 10;
+    private static final byte CHAR = 11;
+    private static final byte STRING = 12;
+    private static final byte STRING_REF = 13;
+    private static final byte NODE = 14;
+    private static final byte LIST = 15;
+
+    private MapBundle() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Reads the element stored in a bundle, if the bundle exists and is not stale.
+     *
+     * @param file        the bundle file
+     * @param fingerprint the fingerprint of the files the bundle should have been compiled from
+     * @return the stored element, or null if the file does not exist or is stale
+     * @throws IOException if the file exists but is malformed, or an IO error occurs
+     */
+    public static @Nullable ConfigElement read(@NotNull Path file, byte @NotNull [] fingerprint) throws IOException {
+        Objects.requireNonNull(file, "file");
+        Objects.requireNonNull(fingerprint, "fingerprint");
+
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)));
+        if (input.readInt() != MAGIC) {
+            throw new IOException("File " + file + " is not a map bundle");
+        }
+
+        if (input.readInt() != FORMAT_VERSION) {
+            return null;
+        }
+
+        byte[] storedFingerprint = new byte[readSize(input)];
+        input.readFully(storedFingerprint);
+        if (!Arrays.equals(storedFingerprint, fingerprint)) {
+            return null;
+        }
+
+        return readElement(input, new ArrayList<>());
+    }
+
+    /**
+     * Writes an element to a bundle, replacing any existing bundle once the new one has been written in full.
+     *
+     * @param file        the bundle file
+     * @param fingerprint the fingerprint of the files the element was read from
+     * @param element     the element to store
+     * @throws IOException if {@code element} contains a scalar which cannot be encoded, or an IO error occurs
+     */
+    public static void write(@NotNull Path file, byte @NotNull [] fingerprint, @NotNull ConfigElement element)
+            throws IOException {
+        Objects.requireNonNull(file, "file");
+        Objects.requireNonNull(fingerprint, "fingerprint");
+        Objects.requireNonNull(element, "element");
+
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            writeVarInt(output, fingerprint.length);
+            output.write(fingerprint);
+            writeElement(output, element, new HashMap<>());
+        }
+
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeElement(DataOutputStream output, ConfigElement element, Map<String, Integer> strings)
+            throws IOException {
+        if (element.isNode()) {
+            ConfigNode node = element.asNode();
+            output.writeByte(NODE);
+            writeVarInt(output, node.size());
+            for (Map.Entry<String, ConfigElement> entry : node.entrySet()) {
+                writeString(output, entry.getKey(), strings);
+                writeElement(output, entry.getValue(), strings);
+            }
+
+            return;
+        }
+
+        if (element.isList()) {
+            ConfigList list = element.asList();
+            output.writeByte(LIST);
+            writeVarInt(output, list.size());
+            for (ConfigElement child : list) {
+                writeElement(output, child, strings);
+            }
+
+            return;
+        }
+
+        Object scalar = element.asScalar();
+        if (scalar == null) {
+            output.writeByte(NULL);
+        }
+        else if (scalar instanceof Boolean bool) {
+            output.writeByte(bool ? TRUE : FALSE);
+        }
+        else if (scalar instanceof String string) {
+            writeString(output, string, strings);
+        }
+        else if (scalar instanceof Integer integer) {
+            output.writeByte(INT);
+            writeVarLong(output, integer);
+        }
+        else if (scalar instanceof Long longValue) {
+            output.writeByte(LONG);
+            writeVarLong(output, longValue);
+        }
+        else if (scalar instanceof Double doubleValue) {
+            output.writeByte(DOUBLE);
+            output.writeDouble(doubleValue);
+        }
+        else if (scalar instanceof Float floatValue) {
+            output.writeByte(FLOAT);
+            output.writeFloat(floatValue);
+        }
+        else if (scalar instanceof Byte byteValue) {
+            output.writeByte(BYTE);
+            output.writeByte(byteValue);
+        }
+        else if (scalar instanceof Short shortValue) {
+            output.writeByte(SHORT);
+            output.writeShort(shortValue);
+        }
+        else if (scalar instanceof Character character) {
+            output.writeByte(CHAR);
+            output.writeChar(character);
+        }
+        else if (scalar instanceof BigInteger bigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, bigInteger.toByteArray());
+        }
+        else if (scalar instanceof BigDecimal bigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            writeBytes(output, bigDecimal.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        else {
+            throw new IOException("Unsupported scalar type " + scalar.getClass().getName());
+        }
+    }
+
+    private static ConfigElement readElement(DataInputStream input, List<String> strings) throws IOException {
+        byte tag = input.readByte();
+        switch (tag) {
+            case NODE -> {
+                int size = readSize(input);
+                ConfigNode node = new LinkedConfigNode(size);
+                for (int i = 0; i < size; i++) {
+                    node.put(readString(input, input.readByte(), strings), readElement(input, strings));
+                }
+
+                return node;
+            }
+            case LIST -> {
+                int size = readSize(input);
+                ConfigList list = new ArrayConfigList(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readElement(input, strings));
+                }
+
+                return list;
+            }
+            case NULL -> {
+                return ConfigPrimitive.NULL;
+            }
+            case FALSE -> {
+                return ConfigPrimitive.of(false);
+            }
+            case TRUE -> {
+                return ConfigPrimitive.of(true);
+            }
+            case STRING, STRING_REF -> {
+                return ConfigPrimitive.of(readString(input, tag, strings));
+            }
+            case INT -> {
+                return ConfigPrimitive.of((int)readVarLong(input));
+            }
+            case LONG -> {
+                return ConfigPrimitive.of(readVarLong(input));
+            }
+            case DOUBLE -> {
+                return ConfigPrimitive.of(input.readDouble());
+            }
+            case FLOAT -> {
+                return ConfigPrimitive.of(input.readFloat());
+            }
+            case BYTE -> {
+                return ConfigPrimitive.of(input.readByte());
+            }
+            case SHORT -> {
+                return ConfigPrimitive.of(input.readShort());
+            }
+            case CHAR -> {
+                return ConfigPrimitive.of(input.readChar());
+            }
+            case BIG_INTEGER -> {
+                return ConfigPrimitive.of(new BigInteger(readBytes(input)));
+            }
+            case BIG_DECIMAL -> {
+                return ConfigPrimitive.of(new BigDecimal(new String(readBytes(input), StandardCharsets.UTF_8)));
+            }
+            default -> throw new IOException("Unknown element tag " + tag);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String string, Map<String, Integer> strings)
+            throws IOException {
+        Integer index = strings.get(string);
+        if (index != null) {
+            output.writeByte(STRING_REF);
+            writeVarInt(output, index);
+            return;
+        }
+
+        strings.put(string, strings.size());
+        output.writeByte(STRING);
+        writeBytes(output, string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream input, byte tag, List<String> strings) throws IOException {
+        if (tag == STRING_REF) {
+            int index = readVarInt(input);
+            if (index < 0 || index >= strings.size()) {
+                throw new IOException("String reference " + index + " out of bounds");
+            }
+
+            return strings.get(index);
+        }
+
+        if (tag != STRING) {
+            throw new IOException("Expected a string, found tag " + tag);
+        }
+
+        String string = new String(readBytes(input), StandardCharsets.UTF_8);
+        strings.add(string);
+        return string;
+    }
+
+    private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+        writeVarInt(output, bytes.length);
+        output.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[readSize(input)];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        output.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream input) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte current = input.readByte();
+            value |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("Malformed varint");
+    }
+
+    //every entry takes at least one byte, so a size larger than what is left to read is never valid
+    private static int readSize(DataInputStream input) throws IOException {
+        int size = readVarInt(input);
+        if (size < 0 || size > input.available()) {
+            throw new IOException("Invalid size " + size);
+        }
+
+        return size;
+    }
+
+    //zigzag encoding keeps small negative numbers small
+    private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            output.writeByte((int)((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+
+        output.writeByte((int)zigzag);
+    }
+
+    private static long readVarLong(DataInputStream input) throws IOException {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte current = input.readByte();
+            zigzag |= (long)(current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+
+        throw new IOException("Malformed varlong");
+    }
+}
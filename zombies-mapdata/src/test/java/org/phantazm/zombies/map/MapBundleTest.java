@@ -0,0 +1,79 @@
+package org.phantazm.zombies.map;
+
+import com.github.steanky.ethylene.core.ConfigElement;
+import com.github.steanky.ethylene.core.ConfigPrimitive;
+import com.github.steanky.ethylene.core.collection.ArrayConfigList;
+import com.github.steanky.ethylene.core.collection.ConfigList;
+import com.github.steanky.ethylene.core.collection.ConfigNode;
+import com.github.steanky.ethylene.core.collection.LinkedConfigNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapBundleTest {
+    private static final byte[] FINGERPRINT = {1, 2, 3, 4};
+
+    private static ConfigNode source() {
+        ConfigNode room = new LinkedConfigNode(3);
+        room.put("id", ConfigPrimitive.of("phantazm:spawn"));
+        room.put("isSpawn", ConfigPrimitive.of(true));
+        room.put("displayName", ConfigPrimitive.NULL);
+
+        ConfigNode otherRoom = new LinkedConfigNode(2);
+        otherRoom.put("id", ConfigPrimitive.of("phantazm:courtyard"));
+        otherRoom.put("isSpawn", ConfigPrimitive.of(false));
+
+        ConfigList rooms = new ArrayConfigList(2);
+        rooms.add(room);
+        rooms.add(otherRoom);
+
+        ConfigNode settings = new LinkedConfigNode(4);
+        settings.put("minY", ConfigPrimitive.of(-64));
+        settings.put("seed", ConfigPrimitive.of(Long.MIN_VALUE));
+        settings.put("speed", ConfigPrimitive.of(0.25));
+        settings.put("name", ConfigPrimitive.of("Prison ☠"));
+
+        ConfigNode source = new LinkedConfigNode(2);
+        source.put("settings", settings);
+        source.put("rooms", rooms);
+        return source;
+    }
+
+    @Test
+    public void testRoundTrip(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve(FileSystemMapLoader.BUNDLE_NAME);
+        ConfigNode source = source();
+        MapBundle.write(file, FINGERPRINT, source);
+
+        ConfigElement read = MapBundle.read(file, FINGERPRINT);
+        assertEquals(source, read);
+    }
+
+    @Test
+    public void testStaleBundleIsNotRead(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve(FileSystemMapLoader.BUNDLE_NAME);
+        MapBundle.write(file, FINGERPRINT, source());
+
+        assertNull(MapBundle.read(file, new byte[] {1, 2, 3, 5}));
+        assertNull(MapBundle.read(directory.resolve("missing.bundle"), FINGERPRINT));
+    }
+
+    @Test
+    public void testMalformedBundleThrows(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve(FileSystemMapLoader.BUNDLE_NAME);
+        MapBundle.write(file, FINGERPRINT, source());
+
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(IOException.class, () -> MapBundle.read(file, FINGERPRINT));
+
+        Files.writeString(file, "rooms: []");
+        assertThrows(IOException.class, () -> MapBundle.read(file, FINGERPRINT));
+    }
+}
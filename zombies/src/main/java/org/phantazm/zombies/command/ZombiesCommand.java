@@ -42,5 +42,6 @@ public class ZombiesCommand extends Command {
         addSubcommand(new FlagToggleCommand(sceneMapper, keyParser));
         addSubcommand(new QuitCommand(router, fallback, viewProvider));
         addSubcommand(new ZombiesRejoinCommand(router, viewProvider, parties));
+        addSubcommand(new ZombiesScenesCommand(router));
     }
 }
@@ -14,7 +14,6 @@ import org.phantazm.core.guild.party.Party;
 import org.phantazm.core.player.PlayerView;
 import org.phantazm.core.player.PlayerViewProvider;
 import org.phantazm.zombies.scene.ZombiesRouteRequest;
-import org.phantazm.zombies.scene.ZombiesScene;
 import org.phantazm.zombies.scene.ZombiesSceneRouter;
 
 import java.util.*;
@@ -35,14 +34,14 @@ public class ZombiesRejoinCommand extends Command {
             }
 
             UUID uuid = player.getUuid();
-            for (ZombiesScene scene : router.getScenes()) {
+            router.getScene(uuid).ifPresent(scene -> {
                 if (!scene.getPlayers().containsKey(uuid)) {
-                    continue;
+                    return;
                 }
 
                 SuggestionEntry entry = new SuggestionEntry(scene.getUuid().toString(), scene.getMapSettingsInfo().displayName());
                 suggestion.addEntry(entry);
-            }
+            });
         }));
 
         addConditionalSyntax((sender, commandString) -> {
@@ -55,15 +54,7 @@ public class ZombiesRejoinCommand extends Command {
         }, (sender, context) -> {
             UUID targetGame = context.get(targetGameArgument);
 
-            boolean anyMatch = false;
-            for (ZombiesScene scene : router.getScenes()) {
-                if (scene.getUuid().equals(targetGame)) {
-                    anyMatch = true;
-                    break;
-                }
-            }
-
-            if (!anyMatch) {
+            if (router.getGameScene(targetGame).isEmpty()) {
                 sender.sendMessage(Component.text("Invalid game!", NamedTextColor.RED));
                 return;
             }
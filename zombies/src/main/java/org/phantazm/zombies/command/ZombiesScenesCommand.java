@@ -0,0 +1,33 @@
+package org.phantazm.zombies.command;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.command.builder.Command;
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.zombies.scene.ZombiesScene;
+import org.phantazm.zombies.scene.ZombiesSceneRouter;
+import org.phantazm.zombies.stage.Stage;
+
+import java.util.Objects;
+
+public class ZombiesScenesCommand extends Command {
+    public ZombiesScenesCommand(@NotNull ZombiesSceneRouter router) {
+        super("scenes");
+        Objects.requireNonNull(router, "router");
+
+        setDefaultExecutor((sender, context) -> {
+            sender.sendMessage(Component.text(
+                    String.format("%d scenes, %d players in game", router.getScenes().size(),
+                            router.getIngamePlayerCount()), NamedTextColor.YELLOW));
+
+            for (ZombiesScene scene : router.getScenes()) {
+                Stage stage = scene.getCurrentStage();
+                sender.sendMessage(Component.text(
+                        String.format("%s (%s): stage %s, %d players, last tick %.2fms",
+                                scene.getMapSettingsInfo().id().asString(), scene.getUuid(),
+                                stage == null ? "none" : stage.key().asString(), scene.getZombiesPlayers().size(),
+                                scene.getLastTickNanos() / 1_000_000D)));
+            }
+        });
+    }
+}
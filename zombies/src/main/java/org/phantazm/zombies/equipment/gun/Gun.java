@@ -15,7 +15,6 @@ import org.phantazm.zombies.equipment.gun.visual.GunStackMapper;
 import org.phantazm.zombies.event.GunLoseAmmoEvent;
 
 import java.util.*;
-import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -28,10 +27,12 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
     private final Supplier<Optional<? extends Entity>> entitySupplier;
     private final GunModel model;
     private final Set<GunLevel> tickingLevels;
+    private final GunState.Builder mutableState;
     private Key levelKey;
     private GunLevel level;
     private GunState state;
     private boolean reloadComplete = false;
+    private Object[] stackKeys;
 
     /**
      * Creates a new gun.
@@ -50,19 +51,19 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
         tickingLevels.add(level);
 
         GunStats stats = level.stats();
-        this.state = new GunState(stats.shootSpeed(), stats.shotInterval(), stats.reloadSpeed(), stats.maxAmmo(),
-                stats.maxClip(), false, 0);
+        this.mutableState = new GunState.Builder().setTicksSinceLastShot(stats.shootSpeed())
+                .setTicksSinceLastFire(stats.shotInterval()).setTicksSinceLastReload(stats.reloadSpeed())
+                .setAmmo(stats.maxAmmo()).setClip(stats.maxClip()).setMainEquipment(false).setQueuedShots(0);
     }
 
     /**
      * Shoots the gun. A gun may fire multiple times in one shot.
      */
     public void shoot() {
-        if (level.shootTester().shouldShoot(state)) {
-            modifyState(state -> {
-                state.setQueuedShots(level.stats().shots() - 1);
-                state.setTicksSinceLastShot(0L);
-            });
+        if (level.shootTester().shouldShoot(getState())) {
+            mutableState.setQueuedShots(level.stats().shots() - 1);
+            mutableState.setTicksSinceLastShot(0L);
+            stateChanged();
             fire();
         }
     }
@@ -84,29 +85,28 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
             ammoLoss = 1;
         }
 
-        modifyState(builder -> {
-            builder.setTicksSinceLastFire(0L);
-            builder.setAmmo(builder.getAmmo() - ammoLoss);
-            builder.setClip(builder.getClip() - ammoLoss);
-        });
+        mutableState.setTicksSinceLastFire(0L);
+        mutableState.setAmmo(mutableState.getAmmo() - ammoLoss);
+        mutableState.setClip(mutableState.getClip() - ammoLoss);
+        stateChanged();
 
-        if (state.clip() == 0) {
-            if (state.ammo() > 0) {
+        if (mutableState.getClip() == 0) {
+            if (mutableState.getAmmo() > 0) {
                 reload();
             }
             else {
                 for (GunEffect effect : level.noAmmoEffects()) {
-                    effect.apply(state);
+                    effect.apply(getState());
                 }
             }
         }
 
         entitySupplier.get().ifPresent(entity -> {
             Pos start = entity.getPosition().add(0, entity.getEyeHeight(), 0);
-            level.firer().fire(this, state, start, new HashSet<>());
+            level.firer().fire(this, getState(), start, new HashSet<>());
         });
         for (GunEffect effect : level.shootEffects()) {
-            effect.apply(state);
+            effect.apply(getState());
         }
     }
 
@@ -114,11 +114,12 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
      * Reloads the gun.
      */
     public void reload() {
-        if (level.reloadTester().shouldReload(state)) {
-            modifyState(builder -> builder.setTicksSinceLastReload(0L));
+        if (level.reloadTester().shouldReload(getState())) {
+            mutableState.setTicksSinceLastReload(0L);
+            stateChanged();
             reloadComplete = false;
             for (GunEffect reloadEffect : level.reloadEffects()) {
-                reloadEffect.apply(state);
+                reloadEffect.apply(getState());
             }
         }
     }
@@ -127,16 +128,16 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
      * Refills the gun's ammo and clip.
      */
     public void refill() {
-        modifyState(builder -> {
-            builder.setAmmo(level.stats().maxAmmo());
-            builder.setClip(level.stats().maxClip());
-            builder.setTicksSinceLastReload(level.stats().reloadSpeed());
-        });
+        mutableState.setAmmo(level.stats().maxAmmo());
+        mutableState.setClip(level.stats().maxClip());
+        mutableState.setTicksSinceLastReload(level.stats().reloadSpeed());
+        stateChanged();
     }
 
     @Override
     public void setSelected(boolean selected) {
-        modifyState(builder -> builder.setMainEquipment(selected));
+        mutableState.setMainEquipment(selected);
+        stateChanged();
     }
 
     @Override
@@ -150,23 +151,28 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
     }
 
     /**
-     * Gets the current {@link GunState} of the {@link Gun}
+     * Gets the current {@link GunState} of the {@link Gun}. The returned object is an immutable snapshot, which is only
+     * re-created after the state has changed.
      *
      * @return The current {@link GunState} of the {@link Gun}
      */
     public @NotNull GunState getState() {
+        GunState state = this.state;
+        if (state == null) {
+            this.state = state = mutableState.build();
+        }
+
         return state;
     }
 
-    private void modifyState(@NotNull Consumer<GunState.Builder> consumer) {
-        GunState.Builder builder = state.toBuilder();
-        consumer.accept(builder);
-        state = builder.build();
+    private void stateChanged() {
+        state = null;
     }
 
     @Override
     protected @NotNull ItemStack computeStack() {
         ItemStack stack = level.data().stack();
+        GunState state = getState();
         for (GunStackMapper mapper : level.gunStackMappers()) {
             stack = mapper.map(state, stack);
         }
@@ -176,33 +182,45 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
 
     @Override
     public void tick(long time) {
-        modifyState(builder -> {
-            if (level.shootTester().isShooting(state)) {
-                builder.setTicksSinceLastShot(builder.getTicksSinceLastShot() + 1);
-            }
-            if (level.shootTester().isFiring(state)) {
-                builder.setTicksSinceLastFire(builder.getTicksSinceLastFire() + 1);
-            }
-            if (level.reloadTester().isReloading(state)) {
-                builder.setTicksSinceLastReload(builder.getTicksSinceLastReload() + 1);
-            }
-            else if (!reloadComplete) {
-                builder.setClip(Math.min(level.stats().maxClip(), getState().ammo()));
-                reloadComplete = true;
-            }
-        });
+        //testers see the state from the start of the tick, as counters are updated in place
+        GunState previous = getState();
+        boolean changed = false;
+        if (level.shootTester().isShooting(previous)) {
+            mutableState.setTicksSinceLastShot(mutableState.getTicksSinceLastShot() + 1);
+            changed = true;
+        }
+        if (level.shootTester().isFiring(previous)) {
+            mutableState.setTicksSinceLastFire(mutableState.getTicksSinceLastFire() + 1);
+            changed = true;
+        }
+        if (level.reloadTester().isReloading(previous)) {
+            mutableState.setTicksSinceLastReload(mutableState.getTicksSinceLastReload() + 1);
+            changed = true;
+        }
+        else if (!reloadComplete) {
+            mutableState.setClip(Math.min(level.stats().maxClip(), previous.ammo()));
+            reloadComplete = true;
+            changed = true;
+        }
 
-        if (state.queuedShots() > 0) {
-            if (level.shootTester().canFire(state)) {
+        if (changed) {
+            stateChanged();
+        }
+
+        if (mutableState.getQueuedShots() > 0) {
+            if (level.shootTester().canFire(getState())) {
                 fire();
-                modifyState(builder -> builder.setQueuedShots(state.queuedShots() - 1));
+                mutableState.setQueuedShots(mutableState.getQueuedShots() - 1);
+                stateChanged();
             }
-            else if (!level.shootTester().isFiring(state)) {
-                modifyState(builder -> builder.setQueuedShots(0));
+            else if (!level.shootTester().isFiring(getState())) {
+                mutableState.setQueuedShots(0);
+                stateChanged();
             }
 
         }
 
+        GunState state = getState();
         for (GunLevel tickingLevel : tickingLevels) {
             tickingLevel.firer().tick(state, time);
             for (GunEffect effect : tickingLevel.shootEffects()) {
@@ -219,7 +237,33 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
             effect.apply(state);
         }
 
-        setDirty();
+        updateDirty();
+    }
+
+    private void updateDirty() {
+        Collection<GunStackMapper> mappers = level.gunStackMappers();
+        Object[] keys = stackKeys;
+        boolean changed = false;
+        if (keys == null || keys.length != mappers.size()) {
+            stackKeys = keys = new Object[mappers.size()];
+            changed = true;
+        }
+
+        int i = 0;
+        GunState state = getState();
+        for (GunStackMapper mapper : mappers) {
+            Object key = mapper.stackKey(state);
+            if (!key.equals(keys[i])) {
+                keys[i] = key;
+                changed = true;
+            }
+
+            i++;
+        }
+
+        if (changed) {
+            setDirty();
+        }
     }
 
     @Override
@@ -251,16 +295,16 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
         levelKey = key;
         level = newLevel;
         tickingLevels.add(newLevel);
-
-        modifyState(builder -> {
-            builder.setAmmo(newLevel.stats().maxAmmo());
-            builder.setClip(newLevel.stats().maxClip());
-            builder.setTicksSinceLastReload(newLevel.stats().reloadSpeed());
-            builder.setTicksSinceLastShot(newLevel.stats().shootSpeed());
-            builder.setTicksSinceLastFire(newLevel.stats().shotInterval());
-        });
+        stackKeys = null;
+
+        mutableState.setAmmo(newLevel.stats().maxAmmo());
+        mutableState.setClip(newLevel.stats().maxClip());
+        mutableState.setTicksSinceLastReload(newLevel.stats().reloadSpeed());
+        mutableState.setTicksSinceLastShot(newLevel.stats().shootSpeed());
+        mutableState.setTicksSinceLastFire(newLevel.stats().shotInterval());
+        stateChanged();
         for (GunEffect effect : level.activateEffects()) {
-            effect.apply(state);
+            effect.apply(getState());
         }
     }
 
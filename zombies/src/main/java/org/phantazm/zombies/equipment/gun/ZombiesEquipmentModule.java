@@ -12,6 +12,7 @@ import org.phantazm.core.player.PlayerView;
 import org.phantazm.mob.MobModel;
 import org.phantazm.mob.MobStore;
 import org.phantazm.mob.spawner.MobSpawner;
+import org.phantazm.zombies.equipment.gun.shoot.fire.projectile.ProjectileSimulation;
 import org.phantazm.zombies.map.objects.MapObjects;
 import org.phantazm.zombies.player.ZombiesPlayer;
 
@@ -32,12 +33,14 @@ public class ZombiesEquipmentModule implements DependencyModule {
     private final MapObjects mapObjects;
     private final Supplier<? extends ZombiesPlayer> zombiesPlayerSupplier;
     private final Function<? super Key, ? extends MobModel> mobModelFunction;
+    private final ProjectileSimulation projectileSimulation;
 
     public ZombiesEquipmentModule(@NotNull Map<? super UUID, ? extends ZombiesPlayer> playerMap,
             @NotNull PlayerView playerView, @NotNull MobSpawner mobSpawner, @NotNull MobStore mobStore,
             @NotNull EventNode<Event> eventNode, @NotNull Random random, @NotNull MapObjects mapObjects,
             @NotNull Supplier<? extends ZombiesPlayer> zombiesPlayerSupplier,
-            @NotNull Function<? super Key, ? extends MobModel> mobModelFunction) {
+            @NotNull Function<? super Key, ? extends MobModel> mobModelFunction,
+            @NotNull ProjectileSimulation projectileSimulation) {
         this.playerMap = Objects.requireNonNull(playerMap, "playerMap");
         this.playerView = Objects.requireNonNull(playerView, "playerView");
         this.mobSpawner = Objects.requireNonNull(mobSpawner, "mobSpawner");
@@ -47,6 +50,7 @@ public class ZombiesEquipmentModule implements DependencyModule {
         this.mapObjects = Objects.requireNonNull(mapObjects, "mapObjects");
         this.zombiesPlayerSupplier = Objects.requireNonNull(zombiesPlayerSupplier, "zombiesPlayerSupplier");
         this.mobModelFunction = Objects.requireNonNull(mobModelFunction, "mobModelFunction");
+        this.projectileSimulation = Objects.requireNonNull(projectileSimulation, "projectileSimulation");
     }
 
     public @NotNull Map<? super UUID, ? extends ZombiesPlayer> getPlayerMap() {
@@ -92,4 +96,8 @@ public class ZombiesEquipmentModule implements DependencyModule {
     public @NotNull Function<? super Key, ? extends MobModel> getMobModelFunction() {
         return mobModelFunction;
     }
+
+    public @NotNull ProjectileSimulation getProjectileSimulation() {
+        return projectileSimulation;
+    }
 }
@@ -0,0 +1,183 @@
+package org.phantazm.zombies.equipment.gun.shoot;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.core.RayUtils;
+import org.phantazm.core.entity.SpatialEntityIndex;
+import org.phantazm.zombies.equipment.gun.shoot.fire.SpreadFirer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Shared state for a volley of rays fired from a common origin, such as the pellets of a {@link SpreadFirer}.
+ * Blocks are looked up from the {@link Instance} at most once per visited cell, no matter how many rays pass through
+ * it. Entity candidates are gathered once for the bounds of the whole cone, and each ray then only tests the shared
+ * candidates against its own segment.</p>
+ *
+ * <p>A trace should only be used for the duration of a single volley, as neither cached blocks nor candidates are
+ * refreshed. This class is not thread-safe.</p>
+ */
+public class ConeTrace {
+    private static final double CANDIDATE_MARGIN = 2;
+
+    private final Instance instance;
+    private final Pos origin;
+    private final List<Vec> directions;
+    private final Long2ObjectMap<Block> blocks;
+
+    private List<LivingEntity> candidates;
+    private double gatheredRange;
+    private double minX;
+    private double minY;
+    private double minZ;
+    private double maxX;
+    private double maxY;
+    private double maxZ;
+
+    /**
+     * Creates a new {@link ConeTrace}.
+     *
+     * @param instance   The {@link Instance} the volley is fired in
+     * @param origin     The shared origin of the volley's rays
+     * @param directions The normalized directions of the volley's rays
+     */
+    public ConeTrace(@NotNull Instance instance, @NotNull Pos origin, @NotNull Collection<Vec> directions) {
+        this.instance = Objects.requireNonNull(instance, "instance");
+        this.origin = Objects.requireNonNull(origin, "origin");
+        this.directions = List.copyOf(directions);
+        this.blocks = new Long2ObjectOpenHashMap<>();
+    }
+
+    /**
+     * Gets the {@link Instance} this trace reads from.
+     *
+     * @return The {@link Instance} of the volley
+     */
+    public @NotNull Instance instance() {
+        return instance;
+    }
+
+    /**
+     * Gets the block at the given block location, reading it from the {@link Instance} only the first time the cell
+     * is visited.
+     *
+     * @param blockLocation The location of the block
+     * @return The block at the location
+     */
+    public @NotNull Block getBlock(@NotNull Point blockLocation) {
+        int x = blockLocation.blockX();
+        int y = blockLocation.blockY();
+        int z = blockLocation.blockZ();
+
+        long key = pack(x, y, z);
+        Block block = blocks.get(key);
+        if (block == null) {
+            block = instance.getBlock(x, y, z, Block.Getter.Condition.NONE);
+            blocks.put(key, block);
+        }
+
+        return block;
+    }
+
+    /**
+     * Finds the shared entity candidates whose bounding boxes intersect the segment between start and end. This is
+     * equivalent to a ray trace candidate search of the {@link Instance}, but only queries the instance again if the
+     * segment reaches further than any previous segment or leaves the bounds of the cone.
+     *
+     * @param start The start of the segment, whose direction is used
+     * @param end   The end of the segment
+     * @return A new {@link Collection} of {@link LivingEntity}s which may be hit by the segment
+     */
+    public @NotNull Collection<LivingEntity> findCandidates(@NotNull Pos start, @NotNull Point end) {
+        double range = Math.max(origin.distance(start), origin.distance(end));
+        if (candidates == null || range > gatheredRange || !isGathered(start) || !isGathered(end)) {
+            gatherCandidates(Math.max(range, gatheredRange), start, end);
+        }
+
+        double lengthSquared = start.distanceSquared(end);
+        Collection<LivingEntity> hits = new ArrayList<>();
+        for (LivingEntity candidate : candidates) {
+            RayUtils.rayTrace(candidate.getBoundingBox(), candidate.getPosition(), start).ifPresent(hit -> {
+                if (start.distanceSquared(hit) <= lengthSquared) {
+                    hits.add(candidate);
+                }
+            });
+        }
+
+        return hits;
+    }
+
+    private boolean isGathered(Point point) {
+        return point.x() >= minX && point.x() <= maxX && point.y() >= minY && point.y() <= maxY &&
+                point.z() >= minZ && point.z() <= maxZ;
+    }
+
+    private void gatherCandidates(double range, Point start, Point end) {
+        minX = Math.min(start.x(), end.x());
+        minY = Math.min(start.y(), end.y());
+        minZ = Math.min(start.z(), end.z());
+        maxX = Math.max(start.x(), end.x());
+        maxY = Math.max(start.y(), end.y());
+        maxZ = Math.max(start.z(), end.z());
+
+        //cover every ray of the cone up to the requested range, so later rays can reuse the same candidates
+        includePoint(origin.x(), origin.y(), origin.z());
+        for (Vec direction : directions) {
+            includePoint(origin.x() + direction.x() * range, origin.y() + direction.y() * range,
+                    origin.z() + direction.z() * range);
+        }
+
+        minX -= CANDIDATE_MARGIN;
+        minY -= CANDIDATE_MARGIN;
+        minZ -= CANDIDATE_MARGIN;
+        maxX += CANDIDATE_MARGIN;
+        maxY += CANDIDATE_MARGIN;
+        maxZ += CANDIDATE_MARGIN;
+
+        double halfX = (maxX - minX) / 2;
+        double halfY = (maxY - minY) / 2;
+        double halfZ = (maxZ - minZ) / 2;
+        Vec center = new Vec(minX + halfX, minY + halfY, minZ + halfZ);
+        double radius = Math.sqrt(halfX * halfX + halfY * halfY + halfZ * halfZ);
+
+        List<LivingEntity> gathered = new ArrayList<>();
+        for (LivingEntity entity : SpatialEntityIndex.nearby(instance, center, radius, LivingEntity.class)) {
+            BoundingBox boundingBox = entity.getBoundingBox();
+            Pos position = entity.getPosition();
+            if (position.x() + boundingBox.maxX() < minX || position.x() + boundingBox.minX() > maxX ||
+                    position.y() + boundingBox.maxY() < minY || position.y() + boundingBox.minY() > maxY ||
+                    position.z() + boundingBox.maxZ() < minZ || position.z() + boundingBox.minZ() > maxZ) {
+                continue;
+            }
+
+            gathered.add(entity);
+        }
+
+        candidates = gathered;
+        gatheredRange = range;
+    }
+
+    private void includePoint(double x, double y, double z) {
+        minX = Math.min(minX, x);
+        minY = Math.min(minY, y);
+        minZ = Math.min(minZ, z);
+        maxX = Math.max(maxX, x);
+        maxY = Math.max(maxY, y);
+        maxZ = Math.max(maxZ, z);
+    }
+
+    private static long pack(int x, int y, int z) {
+        return ((long)x & 0x3FFFFFF) << 38 | ((long)z & 0x3FFFFFF) << 12 | ((long)y & 0xFFF);
+    }
+}
@@ -11,9 +11,11 @@ import net.minestom.server.instance.block.Block;
 import net.minestom.server.utils.block.BlockIterator;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.core.RayUtils;
+import org.phantazm.zombies.equipment.gun.shoot.ConeTrace;
 import org.phantazm.zombies.equipment.gun.shoot.blockiteration.BlockIteration;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -44,7 +46,6 @@ public class BasicShotEndpointSelector implements ShotEndpointSelector {
         this.blockIterations = List.copyOf(blockIteration);
     }
 
-    @SuppressWarnings("UnstableApiUsage")
     @Override
     public @NotNull Optional<Point> getEnd(@NotNull Pos start) {
         return entitySupplier.get().map(player -> {
@@ -53,47 +54,68 @@ public class BasicShotEndpointSelector implements ShotEndpointSelector {
                 return null;
             }
 
-            Collection<BlockIteration.Context> contexts = new ArrayList<>(blockIterations.size());
-            for (BlockIteration blockIteration : blockIterations) {
-                contexts.add(blockIteration.createContext());
+            return findEnd(start, instance::getBlock);
+        });
+    }
+
+    @Override
+    public @NotNull Optional<Point> getEnd(@NotNull Pos start, @NotNull ConeTrace trace) {
+        return entitySupplier.get().map(player -> {
+            Instance instance = player.getInstance();
+            if (instance == null) {
+                return null;
             }
-            Iterator<Point> it = new BlockIterator(start, 0, data.maxDistance());
-            Point blockLocation = null;
-            Block block = null;
 
-            blockLoop:
-            while (it.hasNext()) {
-                blockLocation = it.next();
-                block = instance.getBlock(blockLocation);
+            if (instance != trace.instance()) {
+                return findEnd(start, instance::getBlock);
+            }
 
+            return findEnd(start, trace::getBlock);
+        });
+    }
+
+    @SuppressWarnings("UnstableApiUsage")
+    private Point findEnd(Pos start, Function<? super Point, ? extends Block> blockGetter) {
+        Collection<BlockIteration.Context> contexts = new ArrayList<>(blockIterations.size());
+        for (BlockIteration blockIteration : blockIterations) {
+            contexts.add(blockIteration.createContext());
+        }
+        Iterator<Point> it = new BlockIterator(start, 0, data.maxDistance());
+        Point blockLocation = null;
+        Block block = null;
+
+        blockLoop:
+        while (it.hasNext()) {
+            blockLocation = it.next();
+            block = blockGetter.apply(blockLocation);
+
+            for (BlockIteration.Context context : contexts) {
+                if (!context.isValidEndpoint(blockLocation, block)) {
+                    block = null;
+                    continue blockLoop;
+                }
+            }
+
+            Shape shape = block.registry().collisionShape();
+            Optional<Vec> intersectionOptional = RayUtils.getIntersectionPosition(shape, blockLocation, start);
+            if (intersectionOptional.isPresent()) {
+                Vec intersection = intersectionOptional.get();
                 for (BlockIteration.Context context : contexts) {
-                    if (!context.isValidEndpoint(blockLocation, block)) {
+                    if (!context.acceptRaytracedBlock(intersection, block)) {
                         block = null;
                         continue blockLoop;
                     }
-                }
 
-                Shape shape = block.registry().collisionShape();
-                Optional<Vec> intersectionOptional = RayUtils.getIntersectionPosition(shape, blockLocation, start);
-                if (intersectionOptional.isPresent()) {
-                    Vec intersection = intersectionOptional.get();
-                    for (BlockIteration.Context context : contexts) {
-                        if (!context.acceptRaytracedBlock(intersection, block)) {
-                            block = null;
-                            continue blockLoop;
-                        }
-
-                        return intersection;
-                    }
+                    return intersection;
                 }
             }
+        }
 
-            if (block != null) {
-                return RayUtils.rayTrace(block.registry().collisionShape(), blockLocation, start).orElse(null);
-            }
+        if (block != null) {
+            return RayUtils.rayTrace(block.registry().collisionShape(), blockLocation, start).orElse(null);
+        }
 
-            return null;
-        });
+        return null;
     }
 
     /**
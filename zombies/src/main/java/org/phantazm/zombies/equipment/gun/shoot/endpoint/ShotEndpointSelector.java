@@ -3,6 +3,7 @@ package org.phantazm.zombies.equipment.gun.shoot.endpoint;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
 import org.jetbrains.annotations.NotNull;
+import org.phantazm.zombies.equipment.gun.shoot.ConeTrace;
 
 import java.util.Optional;
 
@@ -20,4 +21,16 @@ public interface ShotEndpointSelector {
      */
     @NotNull Optional<Point> getEnd(@NotNull Pos start);
 
+    /**
+     * Finds the endpoint of a shot, reading blocks through a {@link ConeTrace} shared by other shots of the same volley.
+     * By default, the trace is ignored.
+     *
+     * @param start The start position of the shot
+     * @param trace The {@link ConeTrace} shared by the volley
+     * @return The endpoint of the shot
+     */
+    default @NotNull Optional<Point> getEnd(@NotNull Pos start, @NotNull ConeTrace trace) {
+        return getEnd(start);
+    }
+
 }
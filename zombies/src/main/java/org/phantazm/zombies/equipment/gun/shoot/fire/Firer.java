@@ -5,6 +5,7 @@ import org.jetbrains.annotations.NotNull;
 import org.phantazm.zombies.equipment.gun.Gun;
 import org.phantazm.zombies.equipment.gun.GunState;
 import org.phantazm.zombies.equipment.gun.effect.GunTickEffect;
+import org.phantazm.zombies.equipment.gun.shoot.ConeTrace;
 import org.phantazm.zombies.equipment.gun.shoot.handler.ShotHandler;
 
 import java.util.Collection;
@@ -25,6 +26,21 @@ public interface Firer extends GunTickEffect {
      */
     void fire(@NotNull Gun gun, @NotNull GunState state, @NotNull Pos start, @NotNull Collection<UUID> previousHits);
 
+    /**
+     * Fires a shot as part of a volley sharing a {@link ConeTrace}. Implementations which trace blocks or search for
+     * entities should use the trace instead of querying the instance directly. By default, the trace is ignored.
+     *
+     * @param gun          The {@link Gun} that is firing
+     * @param state        The {@link GunState} of the gun
+     * @param start        The start position of the shot
+     * @param previousHits Previously hit entities by other {@link Firer}s
+     * @param trace        The {@link ConeTrace} shared by the volley
+     */
+    default void fire(@NotNull Gun gun, @NotNull GunState state, @NotNull Pos start,
+            @NotNull Collection<UUID> previousHits, @NotNull ConeTrace trace) {
+        fire(gun, state, start, previousHits);
+    }
+
     void addExtraShotHandler(ShotHandler shotHandler);
 
     void removeExtraShotHandler(ShotHandler shotHandler);
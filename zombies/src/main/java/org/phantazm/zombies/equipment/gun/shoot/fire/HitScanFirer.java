@@ -7,6 +7,7 @@ import net.minestom.server.entity.Entity;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.zombies.equipment.gun.Gun;
 import org.phantazm.zombies.equipment.gun.GunState;
+import org.phantazm.zombies.equipment.gun.shoot.ConeTrace;
 import org.phantazm.zombies.equipment.gun.shoot.GunHit;
 import org.phantazm.zombies.equipment.gun.shoot.GunShot;
 import org.phantazm.zombies.equipment.gun.shoot.endpoint.ShotEndpointSelector;
@@ -56,20 +57,40 @@ public class HitScanFirer implements Firer {
             }
             Point end = endOptional.get();
 
-            TargetFinder.Result target = targetFinder.findTarget(player, start, end, previousHits);
-            for (GunHit hit : target.regular()) {
-                previousHits.add(hit.entity().getUuid());
-            }
-            for (GunHit hit : target.headshot()) {
-                previousHits.add(hit.entity().getUuid());
-            }
-            for (ShotHandler shotHandler : shotHandlers) {
-                shotHandler.handle(gun, state, player, previousHits,
-                        new GunShot(start, end, target.regular(), target.headshot()));
+            handleShot(gun, state, player, start, end, previousHits,
+                    targetFinder.findTarget(player, start, end, previousHits));
+        });
+    }
+
+    @Override
+    public void fire(@NotNull Gun gun, @NotNull GunState state, @NotNull Pos start,
+            @NotNull Collection<UUID> previousHits, @NotNull ConeTrace trace) {
+        entitySupplier.get().ifPresent(player -> {
+            Optional<Point> endOptional = endSelector.getEnd(start, trace);
+            if (endOptional.isEmpty()) {
+                return;
             }
+            Point end = endOptional.get();
+
+            handleShot(gun, state, player, start, end, previousHits,
+                    targetFinder.findTarget(player, start, end, previousHits, trace));
         });
     }
 
+    private void handleShot(Gun gun, GunState state, Entity player, Pos start, Point end,
+            Collection<UUID> previousHits, TargetFinder.Result target) {
+        for (GunHit hit : target.regular()) {
+            previousHits.add(hit.entity().getUuid());
+        }
+        for (GunHit hit : target.headshot()) {
+            previousHits.add(hit.entity().getUuid());
+        }
+        for (ShotHandler shotHandler : shotHandlers) {
+            shotHandler.handle(gun, state, player, previousHits,
+                    new GunShot(start, end, target.regular(), target.headshot()));
+        }
+    }
+
     @Override
     public void addExtraShotHandler(ShotHandler shotHandler) {
 
@@ -3,16 +3,21 @@ package org.phantazm.zombies.equipment.gun.shoot.fire;
 import com.github.steanky.element.core.annotation.*;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.zombies.equipment.gun.Gun;
 import org.phantazm.zombies.equipment.gun.GunState;
+import org.phantazm.zombies.equipment.gun.shoot.ConeTrace;
 import org.phantazm.zombies.equipment.gun.shoot.handler.ShotHandler;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * A {@link Firer} which delegates to multiple sub-{@link Firer}.
  * Sub-{@link Firer}s may shoot at a slightly different angle than the direction of the original shot.
+ * All sub-{@link Firer}s share a single {@link ConeTrace}, so blocks and entities are only looked up once per volley.
  */
 @Model("zombies.gun.firer.spread")
 @Cache(false)
@@ -20,46 +25,81 @@ public class SpreadFirer implements Firer {
 
     private final Data data;
     private final Random random;
+    private final Supplier<Optional<? extends Entity>> entitySupplier;
     private final Collection<Firer> subFirers;
 
     /**
      * Creates a {@link SpreadFirer}.
      *
-     * @param data      The {@link SpreadFirer}'s {@link Data}
-     * @param random    The {@link Random} to use for angle variance
-     * @param subFirers A {@link Collection} of sub-{@link Firer}s
+     * @param data           The {@link SpreadFirer}'s {@link Data}
+     * @param random         The {@link Random} to use for angle variance
+     * @param entitySupplier A {@link Supplier} for the {@link Entity} shooter
+     * @param subFirers      A {@link Collection} of sub-{@link Firer}s
      */
     @FactoryMethod
     public SpreadFirer(@NotNull Data data, @NotNull Random random,
+            @NotNull Supplier<Optional<? extends Entity>> entitySupplier,
             @NotNull @Child("sub_firers") Collection<Firer> subFirers) {
         this.data = Objects.requireNonNull(data, "data");
         this.random = Objects.requireNonNull(random, "random");
+        this.entitySupplier = Objects.requireNonNull(entitySupplier, "entitySupplier");
         this.subFirers = List.copyOf(subFirers);
     }
 
     @Override
     public void fire(@NotNull Gun gun, @NotNull GunState state, @NotNull Pos start,
             @NotNull Collection<UUID> previousHits) {
-        if (data.angleVariance() == 0) {
-            for (Firer subFirer : subFirers) {
-                subFirer.fire(gun, state, start, previousHits);
-            }
+        List<Vec> directions = spreadDirections(start);
+        Instance instance = entitySupplier.get().map(Entity::getInstance).orElse(null);
+        if (instance == null || subFirers.size() < 2) {
+            fireSubFirers(gun, state, start, previousHits, directions, null);
             return;
         }
 
+        ConeTrace trace = new ConeTrace(instance, start, directions == null ? List.of(start.direction()) : directions);
+        fireSubFirers(gun, state, start, previousHits, directions, trace);
+    }
+
+    @Override
+    public void fire(@NotNull Gun gun, @NotNull GunState state, @NotNull Pos start,
+            @NotNull Collection<UUID> previousHits, @NotNull ConeTrace trace) {
+        fireSubFirers(gun, state, start, previousHits, spreadDirections(start), trace);
+    }
+
+    private void fireSubFirers(Gun gun, GunState state, Pos start, Collection<UUID> previousHits,
+            List<Vec> directions, ConeTrace trace) {
+        int i = 0;
+        for (Firer subFirer : subFirers) {
+            Pos subStart = directions == null ? start : start.withDirection(directions.get(i++));
+            if (trace == null) {
+                subFirer.fire(gun, state, subStart, previousHits);
+            }
+            else {
+                subFirer.fire(gun, state, subStart, previousHits, trace);
+            }
+        }
+    }
+
+    private List<Vec> spreadDirections(Pos start) {
+        if (data.angleVariance() == 0) {
+            return null;
+        }
+
         Vec direction = start.direction();
         double yaw = Math.atan2(direction.z(), direction.x());
         double noYMagnitude = Math.sqrt(direction.x() * direction.x() + direction.z() * direction.z());
         double pitch = Math.atan2(direction.y(), noYMagnitude);
 
-        for (Firer subFirer : subFirers) {
+        List<Vec> directions = new ArrayList<>(subFirers.size());
+        for (int i = 0; i < subFirers.size(); i++) {
             double newYaw = yaw + data.angleVariance() * (2 * random.nextDouble() - 1);
             double newPitch = pitch + data.angleVariance() * (2 * random.nextDouble() - 1);
 
-            Vec newDirection = new Vec(Math.cos(newYaw) * Math.cos(newPitch), Math.sin(newPitch),
-                    Math.sin(newYaw) * Math.cos(newPitch));
-            subFirer.fire(gun, state, start.withDirection(newDirection), previousHits);
+            directions.add(new Vec(Math.cos(newYaw) * Math.cos(newPitch), Math.sin(newPitch),
+                    Math.sin(newYaw) * Math.cos(newPitch)));
         }
+
+        return directions;
     }
 
     @Override
@@ -0,0 +1,27 @@
+package org.phantazm.zombies.equipment.gun.shoot.fire.projectile;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives collisions for a single projectile simulated by a {@link ProjectileSimulation}.
+ */
+public interface ProjectileCollisionHandler {
+    /**
+     * Tests whether the projectile should collide with the given {@link Entity}. Entities for which this returns false
+     * are passed through.
+     *
+     * @param entity The {@link Entity} the projectile is touching
+     * @return Whether the projectile should collide with the entity
+     */
+    boolean canCollide(@NotNull Entity entity);
+
+    /**
+     * Called once when the projectile collides with a block or an entity, or when it expires. The projectile has
+     * already been removed from the simulation when this is called.
+     *
+     * @param position The position of the projectile when it collided
+     */
+    void onCollision(@NotNull Point position);
+}
@@ -0,0 +1,351 @@
+package org.phantazm.zombies.equipment.gun.shoot.fire.projectile;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.phantazm.core.entity.SpatialEntityIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * <p>Simulates ballistic projectiles without backing each one by a mob. Projectile state is kept in parallel primitive
+ * arrays, and slots are reused as projectiles are removed. Each projectile is shown to clients using a plain
+ * {@link Entity} without physics, which is only ever teleported along the simulated path.</p>
+ *
+ * <p>Every tick, each projectile's movement is swept against blocks and nearby {@link LivingEntity} bounding boxes.
+ * The first collision is reported to the projectile's {@link ProjectileCollisionHandler}, after which the projectile
+ * is removed. Since each projectile carries its own handler, collisions are routed directly to whatever launched
+ * the projectile. A single simulation is shared by every projectile-firing gun in a scene.</p>
+ *
+ * <p>This class is thread-safe. Collision handlers are called while holding this simulation's lock, so they may
+ * launch new projectiles.</p>
+ */
+public class ProjectileSimulation {
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int COLLISION_TICK_THRESHOLD = 3;
+    private static final BoundingBox DEFAULT_BOUNDING_BOX = new BoundingBox(0.25, 0.25, 0.25);
+
+    /**
+     * Downward acceleration applied to projectiles with gravity, in blocks per tick squared. Matches arrows.
+     */
+    public static final double GRAVITY = 0.05;
+
+    /**
+     * Multiplier applied to the velocity of projectiles with gravity every tick. Matches arrows.
+     */
+    public static final double DRAG = 0.99;
+
+    private int size;
+
+    private double[] x;
+    private double[] y;
+    private double[] z;
+    private double[] velocityX;
+    private double[] velocityY;
+    private double[] velocityZ;
+    private boolean[] gravity;
+    private long[] ticksAlive;
+    private long[] maxTicks;
+    private Instance[] instances;
+    private Entity[] shooters;
+    private Entity[] visuals;
+    private ProjectileCollisionHandler[] handlers;
+
+    /**
+     * Creates a new, empty simulation.
+     */
+    public ProjectileSimulation() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        x = Arrays.copyOf(x == null ? new double[0] : x, capacity);
+        y = Arrays.copyOf(y == null ? new double[0] : y, capacity);
+        z = Arrays.copyOf(z == null ? new double[0] : z, capacity);
+        velocityX = Arrays.copyOf(velocityX == null ? new double[0] : velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY == null ? new double[0] : velocityY, capacity);
+        velocityZ = Arrays.copyOf(velocityZ == null ? new double[0] : velocityZ, capacity);
+        gravity = Arrays.copyOf(gravity == null ? new boolean[0] : gravity, capacity);
+        ticksAlive = Arrays.copyOf(ticksAlive == null ? new long[0] : ticksAlive, capacity);
+        maxTicks = Arrays.copyOf(maxTicks == null ? new long[0] : maxTicks, capacity);
+        instances = Arrays.copyOf(instances == null ? new Instance[0] : instances, capacity);
+        shooters = Arrays.copyOf(shooters == null ? new Entity[0] : shooters, capacity);
+        visuals = Arrays.copyOf(visuals == null ? new Entity[0] : visuals, capacity);
+        handlers = Arrays.copyOf(handlers == null ? new ProjectileCollisionHandler[0] : handlers, capacity);
+    }
+
+    /**
+     * Launches a new projectile.
+     *
+     * @param instance   The {@link Instance} to launch the projectile in
+     * @param shooter    The {@link Entity} that launched the projectile, which it cannot hit for the first few ticks
+     * @param start      The starting position of the projectile
+     * @param velocity   The initial velocity of the projectile, in blocks per tick
+     * @param hasGravity Whether the projectile is affected by gravity
+     * @param maxTicks   The number of ticks after which the projectile will collide where it is
+     * @param visualType The {@link EntityType} used to show the projectile to clients, or null to not show it
+     * @param handler    The {@link ProjectileCollisionHandler} which will receive this projectile's collision
+     */
+    public synchronized void launch(@NotNull Instance instance, @NotNull Entity shooter, @NotNull Pos start,
+            @NotNull Vec velocity, boolean hasGravity, long maxTicks, @Nullable EntityType visualType,
+            @NotNull ProjectileCollisionHandler handler) {
+        Objects.requireNonNull(instance, "instance");
+        Objects.requireNonNull(shooter, "shooter");
+        Objects.requireNonNull(start, "start");
+        Objects.requireNonNull(velocity, "velocity");
+        Objects.requireNonNull(handler, "handler");
+
+        if (size == x.length) {
+            allocate(size * 2);
+        }
+
+        int i = size++;
+        x[i] = start.x();
+        y[i] = start.y();
+        z[i] = start.z();
+        velocityX[i] = velocity.x();
+        velocityY[i] = velocity.y();
+        velocityZ[i] = velocity.z();
+        gravity[i] = hasGravity;
+        ticksAlive[i] = 0;
+        this.maxTicks[i] = maxTicks;
+        instances[i] = instance;
+        shooters[i] = shooter;
+        handlers[i] = handler;
+
+        if (visualType != null) {
+            Entity visual = new Entity(visualType);
+            visual.setNoGravity(true);
+            visual.setHasPhysics(false);
+            visual.setInstance(instance, start.withView(yaw(velocity.x(), velocity.z()),
+                    pitch(velocity.x(), velocity.y(), velocity.z())));
+            visuals[i] = visual;
+        }
+        else {
+            visuals[i] = null;
+        }
+    }
+
+    /**
+     * Gets the number of projectiles currently being simulated.
+     *
+     * @return The number of live projectiles
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Advances every projectile by one tick.
+     */
+    public synchronized void tick() {
+        int i = 0;
+        while (i < size) {
+            if (tickProjectile(i)) {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Removes every projectile launched by the given shooter, without reporting any collisions.
+     *
+     * @param shooterUUID The UUID of the shooter whose projectiles should be removed
+     */
+    public synchronized void release(@NotNull UUID shooterUUID) {
+        Objects.requireNonNull(shooterUUID, "shooterUUID");
+
+        int i = 0;
+        while (i < size) {
+            if (shooters[i].getUuid().equals(shooterUUID)) {
+                remove(i);
+            }
+            else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Removes every projectile without reporting any collisions.
+     */
+    public synchronized void clear() {
+        for (int i = 0; i < size; i++) {
+            Entity visual = visuals[i];
+            if (visual != null) {
+                visual.remove();
+            }
+        }
+
+        Arrays.fill(instances, 0, size, null);
+        Arrays.fill(shooters, 0, size, null);
+        Arrays.fill(visuals, 0, size, null);
+        Arrays.fill(handlers, 0, size, null);
+        size = 0;
+    }
+
+    private boolean tickProjectile(int i) {
+        Instance instance = instances[i];
+        if (!instance.isRegistered()) {
+            remove(i);
+            return false;
+        }
+
+        if (ticksAlive[i]++ >= maxTicks[i]) {
+            collide(i, x[i], y[i], z[i]);
+            return false;
+        }
+
+        double startX = x[i];
+        double startY = y[i];
+        double startZ = z[i];
+        double dx = velocityX[i];
+        double dy = velocityY[i];
+        double dz = velocityZ[i];
+
+        Entity visual = visuals[i];
+        BoundingBox boundingBox = visual == null ? DEFAULT_BOUNDING_BOX : visual.getBoundingBox();
+
+        double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        int steps = Math.max(1, (int)Math.ceil(length / (boundingBox.width() / 2)));
+
+        List<LivingEntity> candidates = findCandidates(i, instance, startX + dx / 2, startY + dy / 2, startZ + dz / 2,
+                length / 2 + boundingBox.width());
+        boolean checkBlocks = ticksAlive[i] >= COLLISION_TICK_THRESHOLD;
+
+        int blockX = Integer.MIN_VALUE;
+        int blockY = Integer.MIN_VALUE;
+        int blockZ = Integer.MIN_VALUE;
+        Block block = null;
+        for (int step = 1; step <= steps; step++) {
+            double progress = (double)step / steps;
+            double px = startX + dx * progress;
+            double py = startY + dy * progress;
+            double pz = startZ + dz * progress;
+
+            if (checkBlocks) {
+                int bx = (int)Math.floor(px);
+                int by = (int)Math.floor(py);
+                int bz = (int)Math.floor(pz);
+                if (block == null || bx != blockX || by != blockY || bz != blockZ) {
+                    block = instance.getBlock(bx, by, bz, Block.Getter.Condition.TYPE);
+                    blockX = bx;
+                    blockY = by;
+                    blockZ = bz;
+                }
+
+                if (block != null && block.isSolid() && !block.compare(Block.BARRIER) &&
+                        block.registry().collisionShape().intersectBox(new Vec(px - bx, py - by, pz - bz),
+                                boundingBox)) {
+                    collide(i, px, py, pz);
+                    return false;
+                }
+            }
+
+            if (!candidates.isEmpty()) {
+                Vec point = new Vec(px, py, pz);
+                for (LivingEntity candidate : candidates) {
+                    if (boundingBox.intersectEntity(point, candidate)) {
+                        collide(i, px, py, pz);
+                        return false;
+                    }
+                }
+            }
+        }
+
+        x[i] = startX + dx;
+        y[i] = startY + dy;
+        z[i] = startZ + dz;
+
+        if (gravity[i]) {
+            velocityX[i] = dx * DRAG;
+            velocityY[i] = (dy - GRAVITY) * DRAG;
+            velocityZ[i] = dz * DRAG;
+        }
+
+        if (visual != null) {
+            visual.teleport(new Pos(x[i], y[i], z[i], yaw(dx, dz), pitch(dx, dy, dz)));
+        }
+
+        return true;
+    }
+
+    private List<LivingEntity> findCandidates(int i, Instance instance, double centerX, double centerY,
+            double centerZ, double range) {
+        List<LivingEntity> candidates = null;
+        Entity shooter = shooters[i];
+        Entity visual = visuals[i];
+        boolean ignoreShooter = ticksAlive[i] < COLLISION_TICK_THRESHOLD;
+        ProjectileCollisionHandler handler = handlers[i];
+
+        for (LivingEntity entity : SpatialEntityIndex.nearby(instance, new Vec(centerX, centerY, centerZ), range,
+                LivingEntity.class)) {
+            if (entity == visual ||
+                    (ignoreShooter && entity == shooter) || !handler.canCollide(entity)) {
+                continue;
+            }
+
+            if (candidates == null) {
+                candidates = new ArrayList<>(2);
+            }
+
+            candidates.add(entity);
+        }
+
+        return candidates == null ? List.of() : candidates;
+    }
+
+    private void collide(int i, double px, double py, double pz) {
+        ProjectileCollisionHandler handler = handlers[i];
+        remove(i);
+        handler.onCollision(new Vec(px, py, pz));
+    }
+
+    private void remove(int i) {
+        Entity visual = visuals[i];
+        if (visual != null) {
+            visual.remove();
+        }
+
+        int last = --size;
+        if (i != last) {
+            x[i] = x[last];
+            y[i] = y[last];
+            z[i] = z[last];
+            velocityX[i] = velocityX[last];
+            velocityY[i] = velocityY[last];
+            velocityZ[i] = velocityZ[last];
+            gravity[i] = gravity[last];
+            ticksAlive[i] = ticksAlive[last];
+            maxTicks[i] = maxTicks[last];
+            instances[i] = instances[last];
+            shooters[i] = shooters[last];
+            visuals[i] = visuals[last];
+            handlers[i] = handlers[last];
+        }
+
+        instances[last] = null;
+        shooters[last] = null;
+        visuals[last] = null;
+        handlers[last] = null;
+    }
+
+    private static float yaw(double dx, double dz) {
+        return (float)Math.toDegrees(Math.atan2(dx, dz));
+    }
+
+    private static float pitch(double dx, double dy, double dz) {
+        return (float)Math.toDegrees(Math.atan2(dy, Math.sqrt(dx * dx + dz * dz)));
+    }
+}
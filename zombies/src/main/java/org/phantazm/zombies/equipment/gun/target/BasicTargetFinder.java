@@ -9,6 +9,7 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
+import org.phantazm.zombies.equipment.gun.shoot.ConeTrace;
 import org.phantazm.zombies.equipment.gun.shoot.GunHit;
 import org.phantazm.zombies.equipment.gun.target.entityfinder.directional.DirectionalEntityFinder;
 import org.phantazm.zombies.equipment.gun.target.headshot.HeadshotTester;
@@ -60,7 +61,22 @@ public class BasicTargetFinder implements TargetFinder {
             return new Result(new ArrayList<>(0), new ArrayList<>(0));
         }
 
-        Collection<LivingEntity> nearbyEntities = entityFinder.findEntities(instance, start, end);
+        return findTarget(shooter, start, end, previousHits, entityFinder.findEntities(instance, start, end));
+    }
+
+    @Override
+    public @NotNull Result findTarget(@NotNull Entity shooter, @NotNull Pos start, @NotNull Point end,
+            @NotNull Collection<UUID> previousHits, @NotNull ConeTrace trace) {
+        Instance instance = shooter.getInstance();
+        if (instance == null) {
+            return new Result(new ArrayList<>(0), new ArrayList<>(0));
+        }
+
+        return findTarget(shooter, start, end, previousHits, entityFinder.findEntities(instance, start, end, trace));
+    }
+
+    private Result findTarget(Entity shooter, Pos start, Point end, Collection<UUID> previousHits,
+            Collection<LivingEntity> nearbyEntities) {
         List<Pair<? extends LivingEntity, Vec>> locations = new ArrayList<>(nearbyEntities.size());
 
         double distanceLimitSquared = start.distanceSquared(end);
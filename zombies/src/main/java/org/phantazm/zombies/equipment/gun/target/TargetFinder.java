@@ -4,6 +4,7 @@ import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.Entity;
 import org.jetbrains.annotations.NotNull;
+import org.phantazm.zombies.equipment.gun.shoot.ConeTrace;
 import org.phantazm.zombies.equipment.gun.shoot.GunHit;
 
 import java.util.Collection;
@@ -32,6 +33,22 @@ public interface TargetFinder {
     @NotNull Result findTarget(@NotNull Entity shooter, @NotNull Pos start, @NotNull Point end,
             @NotNull Collection<UUID> previousHits);
 
+    /**
+     * Finds the target of a shot, searching for entities through a {@link ConeTrace} shared by other shots of the same
+     * volley. By default, the trace is ignored.
+     *
+     * @param shooter      The {@link Entity} that shot
+     * @param start        The start position of the shot
+     * @param end          The endpoint of the shot
+     * @param previousHits A {@link Collection} of {@link UUID}s of previous targets
+     * @param trace        The {@link ConeTrace} shared by the volley
+     * @return The {@link Result} of the target finding
+     */
+    default @NotNull Result findTarget(@NotNull Entity shooter, @NotNull Pos start, @NotNull Point end,
+            @NotNull Collection<UUID> previousHits, @NotNull ConeTrace trace) {
+        return findTarget(shooter, start, end, previousHits);
+    }
+
     /**
      * The result of a target finding.
      *
@@ -8,12 +8,11 @@ import com.github.steanky.ethylene.core.processor.ConfigProcessException;
 import com.github.steanky.ethylene.core.processor.ConfigProcessor;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
-import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
+import org.phantazm.core.entity.SpatialEntityIndex;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Objects;
 
@@ -68,15 +67,7 @@ public class AroundEndFinder implements DirectionalEntityFinder {
     @Override
     public @NotNull Collection<LivingEntity> findEntities(@NotNull Instance instance, @NotNull Pos start,
             @NotNull Point end) {
-        Collection<Entity> entities = instance.getNearbyEntities(end, data.range());
-        Collection<LivingEntity> livingEntities = new ArrayList<>(entities.size());
-        for (Entity entity : entities) {
-            if (entity instanceof LivingEntity livingEntity) {
-                livingEntities.add(livingEntity);
-            }
-        }
-
-        return livingEntities;
+        return SpatialEntityIndex.nearby(instance, end, data.range(), LivingEntity.class);
     }
 
     /**
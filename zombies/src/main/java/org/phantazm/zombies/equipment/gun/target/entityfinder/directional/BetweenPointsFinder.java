@@ -9,6 +9,7 @@ import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.instance.EntityTracker;
 import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
+import org.phantazm.zombies.equipment.gun.shoot.ConeTrace;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -33,4 +34,14 @@ public class BetweenPointsFinder implements DirectionalEntityFinder {
 
         return entities;
     }
+
+    @Override
+    public @NotNull Collection<LivingEntity> findEntities(@NotNull Instance instance, @NotNull Pos start,
+            @NotNull Point end, @NotNull ConeTrace trace) {
+        if (trace.instance() != instance) {
+            return findEntities(instance, start, end);
+        }
+
+        return trace.findCandidates(start, end);
+    }
 }
@@ -5,6 +5,7 @@ import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
+import org.phantazm.zombies.equipment.gun.shoot.ConeTrace;
 
 import java.util.Collection;
 
@@ -24,4 +25,19 @@ public interface DirectionalEntityFinder {
      */
     @NotNull Collection<LivingEntity> findEntities(@NotNull Instance instance, @NotNull Pos start, @NotNull Point end);
 
+    /**
+     * Finds entities given the start and end of a shot, which is part of a volley sharing a {@link ConeTrace}. By
+     * default, the trace is ignored.
+     *
+     * @param instance The instance to search in
+     * @param start    The start of the shot
+     * @param end      The end of the shot
+     * @param trace    The {@link ConeTrace} shared by the volley
+     * @return A {@link Collection} of {@link LivingEntity}s
+     */
+    default @NotNull Collection<LivingEntity> findEntities(@NotNull Instance instance, @NotNull Pos start,
+            @NotNull Point end, @NotNull ConeTrace trace) {
+        return findEntities(instance, start, end);
+    }
+
 }
@@ -8,6 +8,7 @@ import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
+import org.phantazm.core.entity.SpatialEntityIndex;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -33,7 +34,7 @@ public class NearbyEntityFinder implements PositionalEntityFinder {
 
     @Override
     public @NotNull Collection<Entity> findEntities(@NotNull Instance instance, @NotNull Point start) {
-        return instance.getNearbyEntities(start, data.range());
+        return SpatialEntityIndex.nearby(instance, start, data.range(), Entity.class);
     }
 
     /**
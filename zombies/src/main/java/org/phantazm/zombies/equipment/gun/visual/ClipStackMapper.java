@@ -36,6 +36,12 @@ public class ClipStackMapper implements GunStackMapper {
         return intermediate;
     }
 
+    @Override
+    public @NotNull Object stackKey(@NotNull GunState state) {
+        //the clip is not shown while reloading
+        return reloadTester.isReloading(state) ? -1 : state.clip();
+    }
+
     /**
      * Data for a {@link ClipStackMapper}.
      *
@@ -19,4 +19,16 @@ public interface GunStackMapper {
      */
     @NotNull ItemStack map(@NotNull GunState state, @NotNull ItemStack intermediate);
 
+    /**
+     * Extracts the parts of a {@link GunState} that this mapper's output depends on. If two states produce equal keys,
+     * {@link GunStackMapper#map(GunState, ItemStack)} must produce equal stacks for both, so a gun only needs to be
+     * redrawn when a key changes. The default implementation returns the state itself, which is always safe.
+     *
+     * @param state The state of the gun
+     * @return An object representing the relevant parts of the state
+     */
+    default @NotNull Object stackKey(@NotNull GunState state) {
+        return state;
+    }
+
 }
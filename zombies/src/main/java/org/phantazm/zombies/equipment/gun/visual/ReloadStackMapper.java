@@ -45,6 +45,11 @@ public class ReloadStackMapper implements GunStackMapper {
         return intermediate;
     }
 
+    @Override
+    public @NotNull Object stackKey(@NotNull GunState state) {
+        return reloadTester.isReloading(state) ? state.ticksSinceLastReload() : -1L;
+    }
+
     /**
      * Data for a {@link ReloadStackMapper}.
      *
@@ -14,6 +14,7 @@ import org.jetbrains.annotations.Unmodifiable;
 import org.phantazm.core.VecUtils;
 import org.phantazm.core.hologram.Hologram;
 import org.phantazm.core.hologram.InstanceHologram;
+import org.phantazm.core.instance.BlockBatch;
 import org.phantazm.core.tracker.BoundedBase;
 import org.phantazm.zombies.map.action.Action;
 import org.phantazm.zombies.map.objects.MapObjects;
@@ -89,8 +90,6 @@ public class Door extends BoundedBase {
         List<HologramInfo> hologramInfo = doorInfo.holograms();
         holograms = new ArrayList<>(hologramInfo.size());
 
-        initHolograms(hologramInfo);
-
         this.openActions = List.copyOf(openActions);
         this.closeActions = List.copyOf(closeActions);
         this.failOpenActions = List.copyOf(failOpenActions);
@@ -111,6 +110,17 @@ public class Door extends BoundedBase {
         }
     }
 
+    /**
+     * Places this door's holograms. Must be called once the door's instance has been registered.
+     */
+    public void initialize() {
+        synchronized (sync) {
+            if (!isOpen && holograms.isEmpty()) {
+                initHolograms(doorInfo.holograms());
+            }
+        }
+    }
+
     /**
      * Determines if this door is currently open or not.
      *
@@ -121,14 +131,17 @@ public class Door extends BoundedBase {
     }
 
     private void removeBlocksAndHolograms() {
+        BlockBatch batch = new BlockBatch();
         for (Bounds3I region : regions) {
             region.forEach((x, y, z) -> {
                 Block oldBlock = instance.getBlock(x, y, z);
                 blockMappings.put(x, y, z, oldBlock);
-                instance.setBlock(x, y, z, fillBlock);
+                batch.setBlock(x, y, z, fillBlock);
             });
         }
 
+        batch.apply(instance);
+
         for (Hologram hologram : holograms) {
             hologram.clear();
             hologram.trimToSize();
@@ -238,7 +251,9 @@ public class Door extends BoundedBase {
 
             this.lastInteractor = interactor;
             isOpen = false;
-            blockMappings.forEach((x, y, z, block) -> instance.setBlock(x, y, z, block));
+            BlockBatch batch = new BlockBatch();
+            blockMappings.forEach(batch::setBlock);
+            batch.apply(instance);
 
             initHolograms(doorInfo.holograms());
             blockMappings.clear();
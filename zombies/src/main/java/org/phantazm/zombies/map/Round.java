@@ -2,11 +2,14 @@ package org.phantazm.zombies.map;
 
 import net.minestom.server.MinecraftServer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 import org.phantazm.commons.Tickable;
 import org.phantazm.mob.PhantazmMob;
 import org.phantazm.zombies.map.action.Action;
 import org.phantazm.zombies.spawn.SpawnDistributor;
+import org.phantazm.zombies.spawn.SpawnPlan;
+import org.phantazm.zombies.spawn.SpawnQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,7 +27,8 @@ public class Round implements Tickable {
     private final SpawnDistributor spawnDistributor;
     private final List<Spawnpoint> spawnpoints;
     private final List<PhantazmMob> spawnedMobs;
-    
+    private final SpawnQueue spawnQueue;
+
     private boolean isActive;
     private long waveStartTime;
     private Wave currentWave;
@@ -34,11 +38,12 @@ public class Round implements Tickable {
     /**
      * Constructs a new instance of this class.
      *
-     * @param roundInfo the backing data object
+     * @param roundInfo  the backing data object
+     * @param spawnQueue the {@link SpawnQueue} used to spread each wave's spawns over multiple ticks
      */
     public Round(@NotNull RoundInfo roundInfo, @NotNull List<Wave> waves, @NotNull List<Action<Round>> startActions,
             @NotNull List<Action<Round>> endActions, @NotNull SpawnDistributor spawnDistributor,
-            @NotNull List<Spawnpoint> spawnpoints) {
+            @NotNull List<Spawnpoint> spawnpoints, @NotNull SpawnQueue spawnQueue) {
         List<WaveInfo> waveInfo = roundInfo.waves();
         if (waveInfo.isEmpty()) {
             LOGGER.warn("Round {} has no waves", roundInfo);
@@ -52,6 +57,7 @@ public class Round implements Tickable {
 
         this.spawnedMobs = new ArrayList<>();
         this.spawnpoints = Objects.requireNonNull(spawnpoints, "spawnpoints");
+        this.spawnQueue = Objects.requireNonNull(spawnQueue, "spawnQueue");
     }
 
     public @NotNull RoundInfo getRoundInfo() {
@@ -122,32 +128,73 @@ public class Round implements Tickable {
         waveStartTime = 0;
         totalMobCount = 0;
 
+        spawnQueue.clear();
         spawnedMobs.clear();
     }
 
-    public @NotNull List<PhantazmMob> spawnMobs(@NotNull List<SpawnInfo> spawnInfo) {
-        return spawnMobs(spawnInfo, spawnDistributor, false);
-    }
-
-    private @NotNull List<PhantazmMob> spawnMobs(@NotNull List<SpawnInfo> spawnInfo,
-            @NotNull SpawnDistributor spawnDistributor, boolean isWave) {
+    /**
+     * Queues mobs to be spawned in addition to this round's waves. Like wave spawns, they are spawned through this
+     * round's {@link SpawnQueue}, so they may not have spawned yet when this method returns. Queued mobs count towards
+     * the total mob count immediately.
+     *
+     * @param spawnInfo the mobs to spawn
+     */
+    public void spawnMobs(@NotNull List<SpawnInfo> spawnInfo) {
         if (!isActive) {
             throw new IllegalStateException("Round must be active to spawn mobs");
         }
 
-        List<PhantazmMob> spawns = spawnDistributor.distributeSpawns(spawnpoints, spawnInfo);
-        spawnedMobs.addAll(spawns);
+        SpawnPlan plan = spawnDistributor.planSpawns(spawnpoints, spawnInfo);
+        totalMobCount += plan.remaining();
+        spawnQueue.enqueue(plan, new SpawnListener());
+    }
+
+    private void queueWave(Wave wave) {
+        SpawnPlan plan = spawnDistributor.planSpawns(spawnpoints, wave.getWaveInfo().spawns());
+
+        //adjust for mobs that could not be planned, queued mobs still count towards the total
+        totalMobCount -= wave.mobCount() - plan.remaining();
+        spawnQueue.enqueue(plan, new WaveListener(wave, plan.remaining()));
+    }
+
+    private class SpawnListener implements SpawnQueue.Listener {
+        @Override
+        public void onSpawn(@Nullable PhantazmMob mob) {
+            if (mob == null) {
+                //adjust for mobs that failed to spawn
+                totalMobCount--;
+                return;
+            }
 
-        if (isWave) {
-            //adjust for mobs that may have failed to spawn
-            //only reached when calling internally
-            totalMobCount -= currentWave.mobCount() - spawns.size();
+            spawnedMobs.add(mob);
         }
-        else {
-            totalMobCount += spawns.size();
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    private class WaveListener extends SpawnListener {
+        private final Wave wave;
+        private final List<PhantazmMob> mobs;
+
+        private WaveListener(Wave wave, int mobCount) {
+            this.wave = wave;
+            this.mobs = new ArrayList<>(mobCount);
         }
 
-        return spawns;
+        @Override
+        public void onSpawn(@Nullable PhantazmMob mob) {
+            super.onSpawn(mob);
+            if (mob != null) {
+                mobs.add(mob);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            wave.onSpawn(mobs);
+        }
     }
 
     @Override
@@ -160,16 +207,15 @@ public class Round implements Tickable {
 
             long timeSinceLastWave = (time - waveStartTime) / MinecraftServer.TICK_MS;
             if (waveIndex < waves.size() && timeSinceLastWave > currentWave.getWaveInfo().delayTicks()) {
-                List<PhantazmMob> mobs = spawnMobs(currentWave.getWaveInfo().spawns(), spawnDistributor, true);
-                currentWave.onSpawn(mobs);
+                queueWave(currentWave);
 
                 waveStartTime = time;
-                if (++waveIndex >= waves.size()) {
-                    return;
+                if (++waveIndex < waves.size()) {
+                    currentWave = waves.get(waveIndex);
                 }
-
-                currentWave = waves.get(waveIndex);
             }
+
+            spawnQueue.tick(time);
         }
     }
 }
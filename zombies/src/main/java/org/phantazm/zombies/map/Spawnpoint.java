@@ -7,6 +7,7 @@ import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.phantazm.core.tracker.BoundedTracker;
 import org.phantazm.mob.MobModel;
 import org.phantazm.mob.PhantazmMob;
@@ -28,20 +29,23 @@ public class Spawnpoint {
     private static final Logger LOGGER = LoggerFactory.getLogger(Spawnpoint.class);
 
     private final SpawnpointInfo spawnInfo;
-    private final Function<? super Key, ? extends SpawnruleInfo> spawnrules;
+    private final SpawnruleInfo spawnrule;
     private final Instance instance;
     private final Pos spawnPoint;
     private final MobSpawner mobSpawner;
 
     private final Window linkedWindow;
     private final Room linkedRoom;
+    private final Room room;
+    private final boolean isLinked;
 
     /**
      * Constructs a new instance of this class.
      *
      * @param spawnInfo         the backing data object
      * @param instance          the instance which this MapObject is in
-     * @param spawnruleFunction the function used to resolve {@link SpawnruleInfo} data from keys
+     * @param spawnruleFunction the function used to resolve {@link SpawnruleInfo} data from keys, which is only
+     *                          called once
      * @param mobSpawner        the function used to actually spawn mobs in the world
      */
     public Spawnpoint(@NotNull Point mapOrigin, @NotNull SpawnpointInfo spawnInfo, @NotNull Instance instance,
@@ -52,7 +56,7 @@ public class Spawnpoint {
         Vec3I spawnPosition = spawnInfo.position();
         this.spawnPoint =
                 Pos.fromPoint(mapOrigin.add(spawnPosition.x() + 0.5, spawnPosition.y(), spawnPosition.z() + 0.5));
-        this.spawnrules = Objects.requireNonNull(spawnruleFunction, "spawnrules");
+        Objects.requireNonNull(spawnruleFunction, "spawnruleFunction");
         this.instance = Objects.requireNonNull(instance, "instance");
         this.mobSpawner = Objects.requireNonNull(mobSpawner, "mobSpawner");
 
@@ -89,6 +93,26 @@ public class Spawnpoint {
         if (linkedRoom == null && linkedWindow == null) {
             LOGGER.warn("No linked room or window found for spawnpoint at ~" + spawnPoint);
         }
+
+        if (linkedWindow != null) {
+            this.room = linkedWindow.getLinkedRoom().orElse(null);
+            this.isLinked = room != null;
+            if (!isLinked) {
+                LOGGER.warn("Linked window at ~" + linkedWindow.getCenter() + " does not have a linked room, for" +
+                        " spawnpoint at ~" + spawnPoint);
+                LOGGER.warn("Because of the missing link, spawning will be disallowed");
+            }
+        }
+        else {
+            this.room = linkedRoom;
+            this.isLinked = true;
+        }
+
+        Key spawnruleKey = spawnInfo.spawnRule();
+        this.spawnrule = spawnruleFunction.apply(spawnruleKey);
+        if (spawnrule == null) {
+            LOGGER.warn("Unrecognized spawnrule " + spawnruleKey + " at " + spawnPoint + "; mobs not allowed to spawn");
+        }
     }
 
     public @NotNull Point spawnPoint() {
@@ -96,39 +120,71 @@ public class Spawnpoint {
     }
 
     /**
-     * Check if this spawnpoint is capable of spawning any mobs.
+     * Gets the spawnrule of this spawnpoint, which is resolved once when the spawnpoint is created.
      *
-     * @param zombiesPlayers the zombies players in the game
-     * @return true if this spawnpoint can spawn at least one kind of mob; false otherwise
+     * @return the spawnrule, or null if it could not be resolved
      */
-    public boolean canSpawnAny(@NotNull Collection<? extends ZombiesPlayer> zombiesPlayers) {
-        if (linkedWindow != null) {
-            Optional<Room> linkedRoom = linkedWindow.getLinkedRoom();
-            if (linkedRoom.isEmpty()) {
-                LOGGER.warn("Linked window at ~" + linkedWindow.getCenter() + " does not have a linked room, for" +
-                        " spawnpoint at ~" + spawnPoint);
-                LOGGER.warn("Because of the missing link, spawning will be disallowed");
-                return false;
-            }
+    public @Nullable SpawnruleInfo spawnrule() {
+        return spawnrule;
+    }
 
-            Room room = linkedRoom.get();
-            if (!room.isOpen()) {
-                return false;
-            }
-        }
-        else if (linkedRoom != null && !linkedRoom.isOpen()) {
+    /**
+     * Gets the {@link Room} that must be open for this spawnpoint to spawn mobs. If this spawnpoint is linked to a
+     * window, this is the window's room.
+     *
+     * @return the room controlling this spawnpoint, or null if there is none
+     */
+    public @Nullable Room room() {
+        return room;
+    }
+
+    /**
+     * Checks if this spawnpoint could ever spawn mobs. Spawnpoints whose spawnrule could not be resolved, or which are
+     * linked to a window without a room, will never spawn anything.
+     *
+     * @return true if this spawnpoint may spawn mobs under some conditions, false otherwise
+     */
+    public boolean isUsable() {
+        return isLinked && spawnrule != null;
+    }
+
+    /**
+     * Checks if this spawnpoint's room, if any, is open.
+     *
+     * @return true if this spawnpoint is usable and its room is open, false otherwise
+     */
+    public boolean isOpen() {
+        return isUsable() && (room == null || room.isOpen());
+    }
+
+    /**
+     * Determines if this spawnpoint's spawnrule accepts a {@link MobModel}. This does not consider whether the
+     * spawnpoint is open or in range of any players.
+     *
+     * @param model     the model to spawn
+     * @param spawnType the spawntype, which must match the spawnrule's spawn type
+     * @return true if the spawnrule accepts the mob, false otherwise
+     */
+    public boolean accepts(@NotNull MobModel model, @NotNull Key spawnType) {
+        if (spawnrule == null || !spawnrule.spawnType().equals(spawnType)) {
             return false;
         }
 
-        Key spawnruleKey = spawnInfo.spawnRule();
-        SpawnruleInfo spawnrule = spawnrules.apply(spawnruleKey);
-        if (spawnrule == null) {
-            LOGGER.warn("Unrecognized spawnrule " + spawnruleKey + " at " + spawnPoint + "; mob not allowed to spawn");
+        return spawnrule.isBlacklist() != spawnrule.spawns().contains(model.key());
+    }
+
+    /**
+     * Check if this spawnpoint is capable of spawning any mobs.
+     *
+     * @param zombiesPlayers the zombies players in the game
+     * @return true if this spawnpoint can spawn at least one kind of mob; false otherwise
+     */
+    public boolean canSpawnAny(@NotNull Collection<? extends ZombiesPlayer> zombiesPlayers) {
+        if (!isOpen()) {
             return false;
         }
 
         double slaSquared = spawnrule.slaSquared();
-        boolean inRange = false;
         for (ZombiesPlayer player : zombiesPlayers) {
             ZombiesPlayerModule module = player.module();
             if (!(module.getMeta().canTriggerSLA())) {
@@ -138,13 +194,12 @@ public class Spawnpoint {
             Optional<Player> playerOptional = module.getPlayerView().getPlayer();
             if (playerOptional.isPresent()) {
                 if (playerOptional.get().getPosition().distanceSquared(spawnPoint) < slaSquared) {
-                    inRange = true;
-                    break;
+                    return true;
                 }
             }
         }
 
-        return inRange;
+        return false;
     }
 
     /**
@@ -157,16 +212,7 @@ public class Spawnpoint {
      */
     public boolean canSpawn(@NotNull MobModel model, @NotNull Key spawnType,
             @NotNull Collection<? extends ZombiesPlayer> zombiesPlayers) {
-        if (!canSpawnAny(zombiesPlayers)) {
-            return false;
-        }
-
-        SpawnruleInfo spawnrule = spawnrules.apply(spawnInfo.spawnRule());
-        if (!spawnrule.spawnType().equals(spawnType)) {
-            return false;
-        }
-
-        return spawnrule.isBlacklist() != spawnrule.spawns().contains(model.key());
+        return canSpawnAny(zombiesPlayers) && accepts(model, spawnType);
     }
 
     /**
@@ -6,6 +6,7 @@ import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.core.ClientBlockHandler;
+import org.phantazm.core.instance.BlockBatch;
 import org.phantazm.core.tracker.BoundedBase;
 import org.phantazm.core.tracker.BoundedTracker;
 import org.phantazm.zombies.map.action.Action;
@@ -135,10 +136,15 @@ public class Window extends BoundedBase {
                 //play the break sound
                 instance.playSound(newIndex == 0 ? windowInfo.breakAllSound() : windowInfo.breakSound(), center);
 
+                BlockBatch batch = new BlockBatch();
                 for (int i = index - 1; i >= newIndex; i--) {
-                    Point breakLocation = indexToCoordinate(i);
-                    instance.setBlock(breakLocation, Block.AIR);
-                    clientBlockHandler.setClientBlock(Block.BARRIER, breakLocation);
+                    batch.setBlock(indexToCoordinate(i), Block.AIR);
+                }
+
+                //client barriers must be sent after the batch, or it would overwrite them
+                batch.apply(instance);
+                for (int i = index - 1; i >= newIndex; i--) {
+                    clientBlockHandler.setClientBlock(Block.BARRIER, indexToCoordinate(i));
                 }
 
                 for (Action<Window> breakAction : breakActions) {
@@ -149,12 +155,15 @@ public class Window extends BoundedBase {
                 //play the repair sound
                 instance.playSound(newIndex == volume ? windowInfo.repairAllSound() : windowInfo.repairSound(), center);
 
+                BlockBatch batch = new BlockBatch();
                 for (int i = index; i < newIndex; i++) {
                     Point repairLocation = indexToCoordinate(i);
-                    instance.setBlock(repairLocation, repairBlocks.get(i));
+                    batch.setBlock(repairLocation, repairBlocks.get(i));
                     clientBlockHandler.removeClientBlock(repairLocation);
                 }
 
+                batch.apply(instance);
+
                 for (Action<Window> repairAction : repairActions) {
                     repairAction.perform(this);
                 }
@@ -2,8 +2,10 @@ package org.phantazm.zombies.map;
 
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.commons.Tickable;
+import org.phantazm.core.entity.SpatialEntityIndex;
 import org.phantazm.core.sound.SongPlayer;
 import org.phantazm.mob.MobStore;
+import org.phantazm.zombies.equipment.gun.shoot.fire.projectile.ProjectileSimulation;
 import org.phantazm.zombies.map.handler.DoorHandler;
 import org.phantazm.zombies.map.handler.RoundHandler;
 import org.phantazm.zombies.map.handler.ShopHandler;
@@ -22,11 +24,14 @@ public class ZombiesMap implements Tickable {
     private final WindowHandler windowHandler;
     private final DoorHandler doorHandler;
     private final MobStore mobStore;
+    private final ProjectileSimulation projectileSimulation;
+    private final SpatialEntityIndex entityIndex;
 
     public ZombiesMap(@NotNull MapObjects mapObjects, @NotNull SongPlayer songPlayer,
             @NotNull PowerupHandler powerupHandler, @NotNull RoundHandler roundHandler,
             @NotNull ShopHandler shopHandler, @NotNull WindowHandler windowHandler, @NotNull DoorHandler doorHandler,
-            @NotNull MobStore mobStore) {
+            @NotNull MobStore mobStore, @NotNull ProjectileSimulation projectileSimulation,
+            @NotNull SpatialEntityIndex entityIndex) {
         this.mapObjects = Objects.requireNonNull(mapObjects, "mapObjects");
         this.songPlayer = Objects.requireNonNull(songPlayer, "songPlayer");
         this.powerupHandler = Objects.requireNonNull(powerupHandler, "powerupHandler");
@@ -35,6 +40,8 @@ public class ZombiesMap implements Tickable {
         this.windowHandler = Objects.requireNonNull(windowHandler, "windowHandler");
         this.doorHandler = Objects.requireNonNull(doorHandler, "doorHandler");
         this.mobStore = Objects.requireNonNull(mobStore, "mobStore");
+        this.projectileSimulation = Objects.requireNonNull(projectileSimulation, "projectileSimulation");
+        this.entityIndex = Objects.requireNonNull(entityIndex, "entityIndex");
     }
 
     public @NotNull MapObjects mapObjects() {
@@ -65,8 +72,17 @@ public class ZombiesMap implements Tickable {
         return doorHandler;
     }
 
+    public @NotNull ProjectileSimulation projectileSimulation() {
+        return projectileSimulation;
+    }
+
+    public @NotNull SpatialEntityIndex entityIndex() {
+        return entityIndex;
+    }
+
     @Override
     public void tick(long time) {
+        entityIndex.tick(time);
         mapObjects.tick(time);
         songPlayer.tick(time);
         powerupHandler.tick(time);
@@ -74,5 +90,6 @@ public class ZombiesMap implements Tickable {
         shopHandler.tick(time);
         windowHandler.tick(time);
         mobStore.tick(time);
+        projectileSimulation.tick();
     }
 }
@@ -84,4 +84,11 @@ public class BasicDoorHandler implements DoorHandler {
 
         return handled.get();
     }
+
+    @Override
+    public void initialize() {
+        for (Door door : doorTracker.items()) {
+            door.initialize();
+        }
+    }
 }
@@ -12,6 +12,8 @@ public interface DoorHandler {
 
     boolean handleRightClick(@NotNull ZombiesPlayer player, @NotNull Point clicked);
 
+    void initialize();
+
     interface Source {
         @NotNull DoorHandler make(@NotNull BoundedTracker<Door> doorTracker, @NotNull BoundedTracker<Room> roomTracker);
     }
@@ -45,7 +45,9 @@ import org.phantazm.zombies.mob.MobSpawnerSource;
 import org.phantazm.zombies.player.ZombiesPlayer;
 import org.phantazm.zombies.powerup.PowerupHandler;
 import org.phantazm.zombies.spawn.BasicSpawnDistributor;
+import org.phantazm.zombies.spawn.SpawnBudget;
 import org.phantazm.zombies.spawn.SpawnDistributor;
+import org.phantazm.zombies.spawn.SpawnQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,16 +65,19 @@ public class BasicMapObjectsSource implements MapObjects.Source {
     private final Map<Key, MobModel> mobModels;
     private final ClientBlockHandlerSource clientBlockHandlerSource;
     private final KeyParser keyParser;
+    private final SpawnBudget spawnBudget;
 
     public BasicMapObjectsSource(@NotNull MapInfo mapInfo, @NotNull ContextManager contextManager,
             @NotNull MobSpawnerSource mobSpawnerSource, @NotNull Map<Key, MobModel> mobModels,
-            @NotNull ClientBlockHandlerSource clientBlockHandlerSource, @NotNull KeyParser keyParser) {
+            @NotNull ClientBlockHandlerSource clientBlockHandlerSource, @NotNull KeyParser keyParser,
+            @NotNull SpawnBudget spawnBudget) {
         this.mapInfo = Objects.requireNonNull(mapInfo, "mapInfo");
         this.contextManager = Objects.requireNonNull(contextManager, "contextManager");
         this.mobSpawnerSource = Objects.requireNonNull(mobSpawnerSource, "mobSpawnerSource");
         this.mobModels = Objects.requireNonNull(mobModels, "mobModels");
         this.clientBlockHandlerSource = Objects.requireNonNull(clientBlockHandlerSource, "clientBlockHandlerSource");
         this.keyParser = Objects.requireNonNull(keyParser, "keyParser");
+        this.spawnBudget = Objects.requireNonNull(spawnBudget, "spawnBudget");
     }
 
     @Override
@@ -84,6 +89,7 @@ public class BasicMapObjectsSource implements MapObjects.Source {
         Random random = new Random();
         ClientBlockHandler clientBlockHandler = clientBlockHandlerSource.forInstance(instance);
         SpawnDistributor spawnDistributor = new BasicSpawnDistributor(mobModels::get, random, playerMap.values());
+        SpawnQueue spawnQueue = new SpawnQueue(spawnBudget);
 
         Flaggable flaggable = new BasicFlaggable();
         TransactionModifierSource transactionModifierSource = new BasicTransactionModifierSource();
@@ -125,7 +131,7 @@ public class BasicMapObjectsSource implements MapObjects.Source {
                 buildSpawnpoints(origin, mapInfo.spawnpoints(), spawnruleInfoMap, instance, mobSpawner, windowTracker,
                         roomTracker);
 
-        List<Round> rounds = buildRounds(mapInfo.rounds(), spawnpoints, provider, spawnDistributor);
+        List<Round> rounds = buildRounds(mapInfo.rounds(), spawnpoints, provider, spawnDistributor, spawnQueue);
 
         MapObjects mapObjects =
                 new BasicMapObjects(spawnpoints, windowTracker, shopTracker, doorTracker, roomTracker, rounds, provider,
@@ -232,7 +238,7 @@ public class BasicMapObjectsSource implements MapObjects.Source {
     }
 
     private List<Round> buildRounds(List<RoundInfo> roundInfoList, List<Spawnpoint> spawnpoints,
-            DependencyProvider dependencyProvider, SpawnDistributor spawnDistributor) {
+            DependencyProvider dependencyProvider, SpawnDistributor spawnDistributor, SpawnQueue spawnQueue) {
         List<Round> rounds = new ArrayList<>(roundInfoList.size());
         for (RoundInfo roundInfo : roundInfoList) {
             List<Action<Round>> startActions = contextManager.makeContext(roundInfo.startActions())
@@ -250,7 +256,8 @@ public class BasicMapObjectsSource implements MapObjects.Source {
                 waves.add(new Wave(wave, spawnActions));
             }
 
-            rounds.add(new Round(roundInfo, waves, startActions, endActions, spawnDistributor, spawnpoints));
+            rounds.add(
+                    new Round(roundInfo, waves, startActions, endActions, spawnDistributor, spawnpoints, spawnQueue));
         }
 
         return rounds;
@@ -0,0 +1,148 @@
+package org.phantazm.zombies.mob;
+
+import com.github.steanky.ethylene.core.ConfigElement;
+import com.github.steanky.ethylene.core.collection.ConfigNode;
+import com.github.steanky.ethylene.core.processor.ConfigProcessException;
+import com.github.steanky.ethylene.core.processor.ConfigProcessor;
+import it.unimi.dsi.fastutil.booleans.BooleanObjectPair;
+import net.minestom.server.entity.metadata.EntityMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Applies the meta config of a mob model to an {@link EntityMeta}. The setters of the meta class are matched against
+ * the config, and each value is converted exactly once, when the applier is compiled. Applying it afterwards only
+ * invokes the resolved setters with the already-converted values.
+ */
+public class EntityMetaApplier {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntityMetaApplier.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private record Setter(String key, MethodHandle handle, Object value) {
+    }
+
+    private final Class<?> metaClass;
+    private final Setter[] setters;
+
+    private EntityMetaApplier(Class<?> metaClass, Setter[] setters) {
+        this.metaClass = metaClass;
+        this.setters = setters;
+    }
+
+    /**
+     * Compiles the given meta config for a specific meta class. Config entries which do not match a setter, or whose
+     * values cannot be converted, are skipped.
+     *
+     * @param metaClass    the class of {@link EntityMeta} the applier will be used with
+     * @param metaNode     the meta config
+     * @param processorMap the {@link ConfigProcessor}s used to convert config values, keyed by whether the setter's
+     *                     parameter is optional and the name of its type
+     * @return a new applier
+     */
+    public static @NotNull EntityMetaApplier compile(@NotNull Class<? extends EntityMeta> metaClass,
+            @NotNull ConfigNode metaNode, @NotNull Map<BooleanObjectPair<String>, ConfigProcessor<?>> processorMap) {
+        Objects.requireNonNull(metaClass, "metaClass");
+        Objects.requireNonNull(metaNode, "metaNode");
+        Objects.requireNonNull(processorMap, "processorMap");
+
+        List<Setter> setters = new ArrayList<>(metaNode.size());
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (Method method : metaClass.getMethods()) {
+            if (!Modifier.isPublic(method.getModifiers()) || method.getReturnType() != void.class) {
+                continue;
+            }
+
+            Parameter[] parameters = method.getParameters();
+            if (parameters.length != 1) {
+                continue;
+            }
+
+            String methodName = method.getName();
+            if (!methodName.startsWith("set") || methodName.length() < 4) {
+                continue;
+            }
+            String key = Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
+
+            ConfigElement element = metaNode.getElement(key);
+            if (element == null) {
+                continue;
+            }
+
+            Parameter parameter = parameters[0];
+            NotNull notNull = parameter.getAnnotation(NotNull.class);
+            Nullable nullable = parameter.getAnnotation(Nullable.class);
+            Class<?> type = parameter.getType();
+            boolean optional = !type.isPrimitive() && (nullable != null || notNull == null);
+
+            ConfigProcessor<?> processor = processorMap.get(BooleanObjectPair.of(optional, type.getName()));
+            if (processor == null) {
+                continue;
+            }
+
+            Object data;
+            try {
+                data = processor.dataFromElement(element);
+            }
+            catch (ConfigProcessException e) {
+                LOGGER.warn("Failed to process meta config for meta key '{}'", key, e);
+                continue;
+            }
+            if (data instanceof Optional<?> dataOptional) {
+                data = dataOptional.orElse(null);
+            }
+
+            MethodHandle handle;
+            try {
+                handle = lookup.unreflect(method).asType(SETTER_TYPE);
+            }
+            catch (IllegalAccessException e) {
+                LOGGER.warn("Failed to access meta setter for meta key '{}' and method name '{}'", key, methodName, e);
+                continue;
+            }
+
+            setters.add(new Setter(key, handle, data));
+        }
+
+        return new EntityMetaApplier(metaClass, setters.toArray(Setter[]::new));
+    }
+
+    /**
+     * Gets the meta class this applier was compiled for.
+     *
+     * @return the meta class
+     */
+    public @NotNull Class<?> metaClass() {
+        return metaClass;
+    }
+
+    /**
+     * Sets every compiled meta value on the given meta, which should be an instance of this applier's meta class.
+     *
+     * @param meta the meta to modify
+     */
+    public void apply(@NotNull EntityMeta meta) {
+        Objects.requireNonNull(meta, "meta");
+        for (Setter setter : setters) {
+            try {
+                setter.handle.invokeExact((Object)meta, setter.value);
+            }
+            catch (Throwable e) {
+                LOGGER.warn("Failed to set meta value for meta key '{}'", setter.key, e);
+            }
+        }
+    }
+}
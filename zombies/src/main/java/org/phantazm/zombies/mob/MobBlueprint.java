@@ -0,0 +1,173 @@
+package org.phantazm.zombies.mob;
+
+import com.github.steanky.element.core.ElementException;
+import com.github.steanky.element.core.context.ElementContext;
+import com.github.steanky.element.core.dependency.DependencyProvider;
+import com.github.steanky.element.core.key.KeyParser;
+import com.github.steanky.element.core.path.ElementPath;
+import com.github.steanky.ethylene.core.collection.ConfigEntry;
+import com.github.steanky.ethylene.core.collection.ConfigNode;
+import com.github.steanky.ethylene.core.collection.LinkedConfigNode;
+import it.unimi.dsi.fastutil.objects.Object2FloatMap;
+import net.kyori.adventure.key.Key;
+import net.minestom.server.attribute.Attribute;
+import net.minestom.server.entity.LivingEntity;
+import org.intellij.lang.annotations.Subst;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import org.phantazm.mob.MobModel;
+import org.phantazm.mob.goal.GoalApplier;
+import org.phantazm.mob.skill.Skill;
+import org.phantazm.mob.skill.SkillState;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * <p>Everything about spawning a {@link MobModel} that does not change between spawns in the same scene. The model's
+ * element graph is resolved once, when the blueprint is compiled: its triggers' skills and its goal appliers are
+ * created using the scene's {@link DependencyProvider}, the layout of their per-mob state is declared, and attribute
+ * keys are resolved.</p>
+ *
+ * <p>Skills and goal appliers keep any per-mob state in the mob's {@link SkillState}, or in the goals they create for
+ * it, so the instances held by a blueprint are shared by every mob spawned from it. The per-spawn work is limited to
+ * creating a new {@link SkillState} and the mob's goals.</p>
+ */
+public class MobBlueprint {
+    private static final ElementPath GOAL_APPLIERS_PATH = ElementPath.of("goalAppliers");
+    private static final ElementPath TRIGGERS_PATH = ElementPath.of("triggers");
+
+    private final Map<Key, Collection<Skill>> triggers;
+    private final Collection<GoalApplier> goalAppliers;
+    private final SkillState.Layout stateLayout;
+    private final Attribute[] attributes;
+    private final float[] attributeValues;
+
+    private MobBlueprint(Map<Key, Collection<Skill>> triggers, Collection<GoalApplier> goalAppliers,
+            SkillState.Layout stateLayout, Attribute[] attributes, float[] attributeValues) {
+        this.triggers = triggers;
+        this.goalAppliers = goalAppliers;
+        this.stateLayout = stateLayout;
+        this.attributes = attributes;
+        this.attributeValues = attributeValues;
+    }
+
+    /**
+     * Compiles a blueprint for a model.
+     *
+     * @param model              the model to compile
+     * @param keyParser          the {@link KeyParser} used to parse trigger keys
+     * @param dependencyProvider the {@link DependencyProvider} of the scene the model will be spawned in
+     * @param triggerHandler     the handler for exceptions thrown while creating skills
+     * @param goalHandler        the handler for exceptions thrown while creating goal appliers
+     * @return a new blueprint
+     */
+    public static @NotNull MobBlueprint compile(@NotNull MobModel model, @NotNull KeyParser keyParser,
+            @NotNull DependencyProvider dependencyProvider,
+            @NotNull Consumer<? super ElementException> triggerHandler,
+            @NotNull Consumer<? super ElementException> goalHandler) {
+        Objects.requireNonNull(model, "model");
+        Objects.requireNonNull(keyParser, "keyParser");
+        Objects.requireNonNull(dependencyProvider, "dependencyProvider");
+        Objects.requireNonNull(triggerHandler, "triggerHandler");
+        Objects.requireNonNull(goalHandler, "goalHandler");
+
+        ElementContext context = model.getContext();
+        ConfigNode triggerNode = context.root().getNodeOrDefault(LinkedConfigNode::new, "triggers");
+        Map<Key, Collection<Skill>> triggers = new HashMap<>(triggerNode.size());
+        for (ConfigEntry entry : triggerNode.entryCollection()) {
+            @Subst("key")
+            String stringKey = entry.getKey();
+            if (!keyParser.isValidKey(stringKey)) {
+                continue;
+            }
+
+            Collection<Skill> skills =
+                    context.provideCollection(TRIGGERS_PATH.append(stringKey), dependencyProvider, triggerHandler);
+            if (!skills.isEmpty()) {
+                triggers.put(keyParser.parseKey(stringKey), List.copyOf(skills));
+            }
+        }
+
+        Collection<GoalApplier> goalAppliers = List.of();
+        if (context.root().asNode().containsKey("goalAppliers")) {
+            goalAppliers =
+                    List.copyOf(context.provideCollection(GOAL_APPLIERS_PATH, dependencyProvider, goalHandler));
+        }
+
+        List<Attribute> attributes = new ArrayList<>(model.getAttributes().size());
+        float[] attributeValues = new float[model.getAttributes().size()];
+        for (Object2FloatMap.Entry<String> entry : model.getAttributes().object2FloatEntrySet()) {
+            Attribute attribute = Attribute.fromKey(entry.getKey());
+            if (attribute != null) {
+                attributeValues[attributes.size()] = entry.getFloatValue();
+                attributes.add(attribute);
+            }
+        }
+
+        return new MobBlueprint(Map.copyOf(triggers), goalAppliers, declareState(triggers, goalAppliers),
+                attributes.toArray(Attribute[]::new), Arrays.copyOf(attributeValues, attributes.size()));
+    }
+
+    /**
+     * Declares the state of every skill a mob can use, whether through a trigger or through one of its goals.
+     *
+     * @param triggers     the mob's trigger skills
+     * @param goalAppliers the mob's goal appliers
+     * @return a layout with room for the state of every skill
+     */
+    static @NotNull SkillState.Layout declareState(@NotNull Map<Key, Collection<Skill>> triggers,
+            @NotNull Collection<GoalApplier> goalAppliers) {
+        SkillState.Layout stateLayout = new SkillState.Layout();
+        for (Collection<Skill> skills : triggers.values()) {
+            for (Skill skill : skills) {
+                skill.declareState(stateLayout);
+            }
+        }
+
+        for (GoalApplier applier : goalAppliers) {
+            applier.declareState(stateLayout);
+        }
+
+        return stateLayout;
+    }
+
+    /**
+     * Sets the base value of every attribute configured by the model.
+     *
+     * @param entity the entity whose attributes should be set
+     */
+    public void applyAttributes(@NotNull LivingEntity entity) {
+        for (int i = 0; i < attributes.length; i++) {
+            entity.getAttribute(attributes[i]).setBaseValue(attributeValues[i]);
+        }
+    }
+
+    /**
+     * Gets the skills of every trigger, shared by all mobs spawned from this blueprint. Triggers without any skills
+     * are left out.
+     *
+     * @return an unmodifiable map of trigger keys to skills
+     */
+    public @NotNull @Unmodifiable Map<Key, Collection<Skill>> triggers() {
+        return triggers;
+    }
+
+    /**
+     * Gets the model's goal appliers, shared by all mobs spawned from this blueprint.
+     *
+     * @return an unmodifiable collection of goal appliers, which is empty if the model has none
+     */
+    public @NotNull @Unmodifiable Collection<GoalApplier> goalAppliers() {
+        return goalAppliers;
+    }
+
+    /**
+     * Creates the {@link SkillState} for a newly spawned mob.
+     *
+     * @return a new SkillState, with every slot set to its default value
+     */
+    public @NotNull SkillState newSkillState() {
+        return stateLayout.newState();
+    }
+}
@@ -3,6 +3,7 @@ package org.phantazm.zombies.player;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
 import net.minestom.server.entity.Player;
+import net.minestom.server.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.core.inventory.InventoryObject;
 import org.phantazm.core.inventory.InventoryProfile;
@@ -76,7 +77,12 @@ public class BasicZombiesPlayer implements ZombiesPlayer, ForwardingAudience {
                     inventoryObject.tick(time);
 
                     if (inventoryObject.shouldRedraw()) {
-                        player.getInventory().setItemStack(slot, inventoryObject.getItemStack());
+                        ItemStack stack = inventoryObject.getItemStack();
+
+                        //avoid sending a slot update if the client already has this stack
+                        if (!stack.equals(player.getInventory().getItemStack(slot))) {
+                            player.getInventory().setItemStack(slot, stack);
+                        }
                     }
                 }
             }
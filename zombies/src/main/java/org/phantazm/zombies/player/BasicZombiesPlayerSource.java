@@ -41,6 +41,7 @@ import org.phantazm.zombies.coin.TransactionModifierSource;
 import org.phantazm.zombies.coin.component.BasicTransactionComponentCreator;
 import org.phantazm.zombies.corpse.Corpse;
 import org.phantazm.zombies.equipment.gun.ZombiesEquipmentModule;
+import org.phantazm.zombies.equipment.gun.shoot.fire.projectile.ProjectileSimulation;
 import org.phantazm.zombies.kill.BasicPlayerKills;
 import org.phantazm.zombies.kill.PlayerKills;
 import org.phantazm.zombies.map.EquipmentGroupInfo;
@@ -89,7 +90,8 @@ public class BasicZombiesPlayerSource implements ZombiesPlayer.Source {
             @NotNull MapSettingsInfo mapSettingsInfo, @NotNull Instance instance, @NotNull PlayerView playerView,
             @NotNull TransactionModifierSource mapTransactionModifierSource, @NotNull Flaggable flaggable,
             @NotNull EventNode<Event> eventNode, @NotNull Random random, @NotNull MapObjects mapObjects,
-            @NotNull MobStore mobStore, @NotNull MobSpawner mobSpawner) {
+            @NotNull MobStore mobStore, @NotNull MobSpawner mobSpawner,
+            @NotNull ProjectileSimulation projectileSimulation) {
         TransactionModifierSource playerTransactionModifierSource = new BasicTransactionModifierSource();
 
         ZombiesPlayerMeta meta = new ZombiesPlayerMeta();
@@ -141,7 +143,7 @@ public class BasicZombiesPlayerSource implements ZombiesPlayer.Source {
         Wrapper<ZombiesPlayer> zombiesPlayerWrapper = Wrapper.ofNull();
         ZombiesEquipmentModule equipmentModule =
                 new ZombiesEquipmentModule(zombiesPlayers, playerView, mobSpawner, mobStore, eventNode, random,
-                        mapObjects, zombiesPlayerWrapper, mobModelMap::get);
+                        mapObjects, zombiesPlayerWrapper, mobModelMap::get, projectileSimulation);
         EquipmentCreator equipmentCreator = equipmentCreatorFunction.apply(equipmentModule);
 
         Sidebar sidebar = new Sidebar(
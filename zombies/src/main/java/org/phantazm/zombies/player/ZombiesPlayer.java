@@ -16,6 +16,7 @@ import org.phantazm.core.player.PlayerView;
 import org.phantazm.mob.MobStore;
 import org.phantazm.mob.spawner.MobSpawner;
 import org.phantazm.zombies.coin.TransactionModifierSource;
+import org.phantazm.zombies.equipment.gun.shoot.fire.projectile.ProjectileSimulation;
 import org.phantazm.zombies.map.Door;
 import org.phantazm.zombies.map.Flaggable;
 import org.phantazm.zombies.map.MapSettingsInfo;
@@ -30,7 +31,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 
 public interface ZombiesPlayer extends Activable, Flaggable.Source, Audience {
@@ -129,14 +129,14 @@ public interface ZombiesPlayer extends Activable, Flaggable.Source, Audience {
         return getScene().getCurrentStage().key().equals(stageKey);
     }
 
+    /**
+     * Gets the username of this player without blocking.
+     *
+     * @return the username of this player, or a placeholder if it has not been resolved yet
+     * @see PlayerView#getUsernameNow()
+     */
     default @NotNull String getUsername() {
-        PlayerView view = module().getPlayerView();
-        try {
-            return view.getUsername().get();
-        }
-        catch (InterruptedException | ExecutionException e) {
-            return view.getUUID().toString();
-        }
+        return module().getPlayerView().getUsernameNow();
     }
 
     interface Source {
@@ -146,7 +146,8 @@ public interface ZombiesPlayer extends Activable, Flaggable.Source, Audience {
                 @NotNull MapSettingsInfo mapSettingsInfo, @NotNull Instance instance, @NotNull PlayerView playerView,
                 @NotNull TransactionModifierSource mapTransactionModifierSource, @NotNull Flaggable flaggable,
                 @NotNull EventNode<Event> eventNode, @NotNull Random random, @NotNull MapObjects mapObjects,
-                @NotNull MobStore mobStore, @NotNull MobSpawner mobSpawner);
+                @NotNull MobStore mobStore, @NotNull MobSpawner mobSpawner,
+                @NotNull ProjectileSimulation projectileSimulation);
 
     }
 
@@ -2,10 +2,11 @@ package org.phantazm.zombies.powerup;
 
 import net.kyori.adventure.key.Key;
 import net.minestom.server.coordinate.Vec;
-import net.minestom.server.instance.EntityTracker;
+import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.UnmodifiableView;
+import org.phantazm.core.entity.SpatialEntityIndex;
 import org.phantazm.zombies.player.ZombiesPlayer;
 import org.phantazm.zombies.powerup.action.PowerupAction;
 import org.phantazm.zombies.powerup.predicate.DeactivationPredicate;
@@ -69,17 +70,22 @@ public class BasicPowerupHandler implements PowerupHandler {
     }
 
     private void maybePickup(Powerup powerup, long time) {
-        instance.getEntityTracker()
-                .nearbyEntitiesUntil(powerup.spawnLocation(), powerupPickupRadius, EntityTracker.Target.PLAYERS,
-                        player -> {
-                            ZombiesPlayer zombiesPlayer = playerMap.get(player.getUuid());
-                            if (zombiesPlayer != null && zombiesPlayer.canPickupPowerup(powerup)) {
-                                powerup.activate(zombiesPlayer, time);
-                                return true;
-                            }
-
-                            return false;
-                        });
+        for (Player player : SpatialEntityIndex.nearby(instance, powerup.spawnLocation(), powerupPickupRadius,
+                Player.class)) {
+            if (tryPickup(powerup, player, time)) {
+                return;
+            }
+        }
+    }
+
+    private boolean tryPickup(Powerup powerup, Player player, long time) {
+        ZombiesPlayer zombiesPlayer = playerMap.get(player.getUuid());
+        if (zombiesPlayer != null && zombiesPlayer.canPickupPowerup(powerup)) {
+            powerup.activate(zombiesPlayer, time);
+            return true;
+        }
+
+        return false;
     }
 
     @Override
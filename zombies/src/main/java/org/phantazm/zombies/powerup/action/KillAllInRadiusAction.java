@@ -4,9 +4,10 @@ import com.github.steanky.element.core.annotation.DataObject;
 import com.github.steanky.element.core.annotation.FactoryMethod;
 import com.github.steanky.element.core.annotation.Model;
 import net.kyori.adventure.key.Key;
-import net.minestom.server.instance.EntityTracker;
+import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
+import org.phantazm.core.entity.SpatialEntityIndex;
 import org.phantazm.mob.MobStore;
 import org.phantazm.mob.PhantazmMob;
 import org.phantazm.zombies.ExtraNodeKeys;
@@ -55,29 +56,33 @@ public class KillAllInRadiusAction implements Supplier<PowerupAction> {
 
         @Override
         public void activate(@NotNull Powerup powerup, @NotNull ZombiesPlayer player, long time) {
-            instance.getEntityTracker()
-                    .nearbyEntitiesUntil(powerup.spawnLocation(), data.radius, EntityTracker.Target.LIVING_ENTITIES,
-                            entity -> {
-                                PhantazmMob mob = mobStore.getMob(entity.getUuid());
-                                if (mob != null && !mob.model().getExtraNode()
-                                        .getBooleanOrDefault(false, ExtraNodeKeys.RESIST_INSTAKILL)) {
-                                    PlayerCoins coins = player.module().getCoins();
+            for (LivingEntity entity : SpatialEntityIndex.nearby(instance, powerup.spawnLocation(), data.radius,
+                    LivingEntity.class)) {
+                if (!tryKill(entity, player)) {
+                    return;
+                }
+            }
+        }
+
+        private boolean tryKill(LivingEntity entity, ZombiesPlayer player) {
+            PhantazmMob mob = mobStore.getMob(entity.getUuid());
+            if (mob == null ||
+                    mob.model().getExtraNode().getBooleanOrDefault(false, ExtraNodeKeys.RESIST_INSTAKILL)) {
+                return true;
+            }
 
-                                    TransactionResult result = coins.runTransaction(new Transaction(
-                                            player.module().compositeTransactionModifiers().modifiers(data.modifier),
-                                            data.coinsPerKill));
+            PlayerCoins coins = player.module().getCoins();
+            TransactionResult result = coins.runTransaction(
+                    new Transaction(player.module().compositeTransactionModifiers().modifiers(data.modifier),
+                            data.coinsPerKill));
 
-                                    if (result.applyIfAffordable(coins)) {
-                                        entity.setTag(Tags.LAST_HIT_BY, player.getUUID());
-                                        entity.kill();
-                                    }
-                                    else {
-                                        return true;
-                                    }
-                                }
+            if (!result.applyIfAffordable(coins)) {
+                return false;
+            }
 
-                                return false;
-                            });
+            entity.setTag(Tags.LAST_HIT_BY, player.getUUID());
+            entity.kill();
+            return true;
         }
     }
 }
@@ -5,6 +5,7 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.core.game.scene.RouteResult;
 import org.phantazm.core.player.PlayerView;
+import org.phantazm.zombies.equipment.gun.shoot.fire.projectile.ProjectileSimulation;
 import org.phantazm.zombies.player.ZombiesPlayer;
 import org.phantazm.zombies.player.state.ZombiesPlayerStateKeys;
 import org.phantazm.zombies.player.state.context.QuitPlayerStateContext;
@@ -14,6 +15,7 @@ import org.phantazm.zombies.stage.StageTransition;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class LeaveHandler {
 
@@ -23,11 +25,18 @@ public class LeaveHandler {
 
     private final Map<? super UUID, ? extends ZombiesPlayer> zombiesPlayers;
 
+    private final ProjectileSimulation projectileSimulation;
+
+    private final AtomicInteger ingamePlayers;
+
     public LeaveHandler(@NotNull StageTransition stageTransition, @NotNull Map<? super UUID, ? extends PlayerView> players,
-            @NotNull Map<? super UUID, ? extends ZombiesPlayer> zombiesPlayers) {
+            @NotNull Map<? super UUID, ? extends ZombiesPlayer> zombiesPlayers,
+            @NotNull ProjectileSimulation projectileSimulation, @NotNull AtomicInteger ingamePlayers) {
         this.stageTransition = Objects.requireNonNull(stageTransition, "stageTransition");
         this.players = Objects.requireNonNull(players, "players");
         this.zombiesPlayers = Objects.requireNonNull(zombiesPlayers, "zombiesPlayers");
+        this.projectileSimulation = Objects.requireNonNull(projectileSimulation, "projectileSimulation");
+        this.ingamePlayers = Objects.requireNonNull(ingamePlayers, "ingamePlayers");
     }
 
     public RouteResult leave(@NotNull Iterable<UUID> leavers) {
@@ -39,7 +48,11 @@ public class LeaveHandler {
         }
 
         for (UUID leaver : leavers) {
-            players.remove(leaver);
+            if (players.remove(leaver) != null) {
+                ingamePlayers.decrementAndGet();
+            }
+
+            projectileSimulation.release(leaver);
 
             Stage stage = stageTransition.getCurrentStage();
             ZombiesPlayer zombiesPlayer;
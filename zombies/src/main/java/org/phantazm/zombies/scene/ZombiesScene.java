@@ -29,6 +29,8 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 public class ZombiesScene extends InstanceScene<ZombiesJoinRequest> {
@@ -42,14 +44,19 @@ public class ZombiesScene extends InstanceScene<ZombiesJoinRequest> {
     private final StageTransition stageTransition;
     private final LeaveHandler leaveHandler;
     private final Function<? super PlayerView, ? extends ZombiesPlayer> playerCreator;
+    private final Executor afterTickExecutor;
+    private final AtomicInteger ingamePlayers;
 
     private boolean joinable = true;
+    private boolean shutdownScheduled;
+    private volatile long lastTickNanos;
 
     public ZombiesScene(@NotNull UUID uuid, @NotNull ConnectionManager connectionManager, @NotNull ZombiesMap map,
             @NotNull Map<UUID, PlayerView> players, @NotNull Map<UUID, ZombiesPlayer> zombiesPlayers,
             @NotNull Instance instance, @NotNull SceneFallback fallback, @NotNull MapSettingsInfo mapSettingsInfo,
             @NotNull StageTransition stageTransition, @NotNull LeaveHandler leaveHandler,
-            @NotNull Function<? super PlayerView, ? extends ZombiesPlayer> playerCreator) {
+            @NotNull Function<? super PlayerView, ? extends ZombiesPlayer> playerCreator,
+            @NotNull Executor afterTickExecutor, @NotNull AtomicInteger ingamePlayers) {
         super(instance, players, fallback);
         this.uuid = Objects.requireNonNull(uuid, "uuid");
         this.connectionManager = Objects.requireNonNull(connectionManager, "connectionManager");
@@ -59,6 +66,8 @@ public class ZombiesScene extends InstanceScene<ZombiesJoinRequest> {
         this.stageTransition = Objects.requireNonNull(stageTransition, "stageTransition");
         this.leaveHandler = Objects.requireNonNull(leaveHandler, "leaveHandler");
         this.playerCreator = Objects.requireNonNull(playerCreator, "playerCreator");
+        this.afterTickExecutor = Objects.requireNonNull(afterTickExecutor, "afterTickExecutor");
+        this.ingamePlayers = Objects.requireNonNull(ingamePlayers, "ingamePlayers");
     }
 
     public @NotNull Map<UUID, ZombiesPlayer> getZombiesPlayers() {
@@ -89,6 +98,15 @@ public class ZombiesScene extends InstanceScene<ZombiesJoinRequest> {
         return stageTransition;
     }
 
+    /**
+     * Gets the wall-clock time taken by the most recent call to {@link ZombiesScene#tick(long)}.
+     *
+     * @return the duration of the last tick, in nanoseconds
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
     @Override
     public @NotNull RouteResult join(@NotNull ZombiesJoinRequest joinRequest) {
         Collection<ZombiesPlayer> oldPlayers = new ArrayList<>(joinRequest.getPlayers().size());
@@ -168,7 +186,9 @@ public class ZombiesScene extends InstanceScene<ZombiesJoinRequest> {
                 zombiesPlayer.start();
                 zombiesPlayer.setState(ZombiesPlayerStateKeys.ALIVE, NoContext.INSTANCE);
                 zombiesPlayers.put(view.getUUID(), zombiesPlayer);
-                players.put(view.getUUID(), view);
+                if (players.put(view.getUUID(), view) == null) {
+                    ingamePlayers.incrementAndGet();
+                }
 
                 stage.onJoin(zombiesPlayer);
             }
@@ -258,21 +278,38 @@ public class ZombiesScene extends InstanceScene<ZombiesJoinRequest> {
         for (ZombiesPlayer zombiesPlayer : zombiesPlayers.values()) {
             zombiesPlayer.end();
         }
+        map.projectileSimulation().clear();
+        ingamePlayers.addAndGet(-players.size());
         super.shutdown();
     }
 
     @Override
     public void tick(long time) {
-        super.tick(time);
-        if (!isShutdown() && stageTransition.isComplete()) {
-            shutdown();
-            return;
-        }
+        long start = System.nanoTime();
+        try {
+            super.tick(time);
+            if (!isShutdown() && stageTransition.isComplete()) {
+                //shutting down sends players to the fallback, which must not happen while other scenes are ticking
+                if (!shutdownScheduled) {
+                    shutdownScheduled = true;
+                    afterTickExecutor.execute(() -> {
+                        if (!isShutdown()) {
+                            shutdown();
+                        }
+                    });
+                }
 
-        map.tick(time);
-        stageTransition.tick(time);
-        for (ZombiesPlayer zombiesPlayer : zombiesPlayers.values()) {
-            zombiesPlayer.tick(time);
+                return;
+            }
+
+            map.tick(time);
+            stageTransition.tick(time);
+            for (ZombiesPlayer zombiesPlayer : zombiesPlayers.values()) {
+                zombiesPlayer.tick(time);
+            }
+        }
+        finally {
+            lastTickNanos = System.nanoTime() - start;
         }
     }
 }
@@ -16,6 +16,8 @@ import net.minestom.server.event.Event;
 import net.minestom.server.event.EventNode;
 import net.minestom.server.event.entity.EntityDamageEvent;
 import net.minestom.server.event.entity.EntityDeathEvent;
+import net.minestom.server.event.entity.EntitySpawnEvent;
+import net.minestom.server.event.instance.RemoveEntityFromInstanceEvent;
 import net.minestom.server.event.inventory.InventoryPreClickEvent;
 import net.minestom.server.event.item.ItemDropEvent;
 import net.minestom.server.event.player.*;
@@ -25,7 +27,9 @@ import net.minestom.server.network.ConnectionManager;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.core.ClientBlockHandlerSource;
 import org.phantazm.core.VecUtils;
+import org.phantazm.core.entity.SpatialEntityIndex;
 import org.phantazm.core.game.scene.SceneProviderAbstract;
+import org.phantazm.core.game.scene.SceneTicker;
 import org.phantazm.core.game.scene.fallback.SceneFallback;
 import org.phantazm.core.instance.InstanceLoader;
 import org.phantazm.core.player.PlayerView;
@@ -39,8 +43,10 @@ import org.phantazm.mob.MobModel;
 import org.phantazm.mob.MobStore;
 import org.phantazm.mob.trigger.EventTrigger;
 import org.phantazm.mob.trigger.EventTriggers;
+import org.phantazm.proxima.bindings.minestom.InstanceSpaceHandler;
 import org.phantazm.proxima.bindings.minestom.InstanceSpawner;
 import org.phantazm.zombies.Attributes;
+import org.phantazm.zombies.equipment.gun.shoot.fire.projectile.ProjectileSimulation;
 import org.phantazm.zombies.event.EntityDamageByGunEvent;
 import org.phantazm.zombies.listener.*;
 import org.phantazm.zombies.map.*;
@@ -56,13 +62,32 @@ import org.phantazm.zombies.powerup.PowerupInfo;
 import org.phantazm.zombies.sidebar.ElementSidebarUpdaterCreator;
 import org.phantazm.zombies.sidebar.SidebarModule;
 import org.phantazm.zombies.sidebar.SidebarUpdater;
+import org.phantazm.zombies.spawn.SpawnBudget;
 import org.phantazm.zombies.stage.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+/**
+ * Provides {@link ZombiesScene}s for a single map. Up to a configurable number of scenes are kept warm: they are
+ * created ahead of time on a separate executor, so joining a map without an open scene does not have to wait for the
+ * instance copy and the construction of every map object. Warm scenes are built on an unregistered instance, so it is
+ * not ticked while under construction. Registering the instance, attaching the scene's event node, configuring its
+ * pathfinding space and spawning its entities happen on the thread ticking this provider. If building a warm scene
+ * fails, the next attempt is delayed, doubling the delay for every consecutive failure.
+ */
 public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, ZombiesJoinRequest> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZombiesSceneProvider.class);
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 1000L;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000L;
+
     private final Function<? super Instance, ? extends InstanceSpawner.InstanceSettings> instanceSpaceFunction;
     private final IdentityHashMap<ZombiesScene, SceneContext> contexts;
     private final MapInfo mapInfo;
@@ -81,6 +106,19 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
     private final WindowHandler.Source windowHandlerSource;
     private final DoorHandler.Source doorHandlerSource;
 
+    private final int maximumScenes;
+    private final int warmScenes;
+    private final Executor creationExecutor;
+    private final Executor afterTickExecutor;
+    private final AtomicInteger ingamePlayers;
+    private final Deque<ZombiesScene> readyScenes;
+    private final Queue<PreparedScene> preparedScenes;
+    private final AtomicInteger pendingScenes;
+
+    private volatile long retryDelayMillis;
+    private volatile long nextAttemptMillis;
+    private boolean shutdown;
+
     public ZombiesSceneProvider(int maximumScenes,
             @NotNull Function<? super Instance, ? extends InstanceSpawner.InstanceSettings> instanceSpaceFunction,
             @NotNull MapInfo mapInfo, @NotNull ConnectionManager connectionManager,
@@ -89,8 +127,18 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
             @NotNull MobSpawnerSource mobSpawnerSource, @NotNull Map<Key, MobModel> mobModels,
             @NotNull ClientBlockHandlerSource clientBlockHandlerSource, @NotNull ContextManager contextManager,
             @NotNull KeyParser keyParser, @NotNull Map<Key, PowerupInfo> powerups,
-            @NotNull ZombiesPlayer.Source zombiesPlayerSource) {
-        super(maximumScenes);
+            @NotNull ZombiesPlayer.Source zombiesPlayerSource, @NotNull SceneTicker sceneTicker,
+            @NotNull SpawnBudget spawnBudget, int warmScenes, @NotNull Executor creationExecutor,
+            @NotNull Executor afterTickExecutor, @NotNull AtomicInteger ingamePlayers) {
+        super(maximumScenes, sceneTicker);
+        this.maximumScenes = maximumScenes;
+        this.warmScenes = warmScenes;
+        this.creationExecutor = Objects.requireNonNull(creationExecutor, "creationExecutor");
+        this.afterTickExecutor = Objects.requireNonNull(afterTickExecutor, "afterTickExecutor");
+        this.ingamePlayers = Objects.requireNonNull(ingamePlayers, "ingamePlayers");
+        this.readyScenes = new ArrayDeque<>(warmScenes);
+        this.preparedScenes = new ConcurrentLinkedQueue<>();
+        this.pendingScenes = new AtomicInteger();
         this.instanceSpaceFunction = Objects.requireNonNull(instanceSpaceFunction, "instanceSpaceFunction");
         this.contexts = new IdentityHashMap<>(maximumScenes);
         this.mapInfo = Objects.requireNonNull(mapInfo, "mapInfo");
@@ -106,7 +154,7 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
         MapSettingsInfo settingsInfo = mapInfo.settings();
 
         this.mapObjectSource = new BasicMapObjectsSource(mapInfo, contextManager, mobSpawnerSource, mobModels,
-                clientBlockHandlerSource, keyParser);
+                clientBlockHandlerSource, keyParser, spawnBudget);
         this.zombiesPlayerSource = Objects.requireNonNull(zombiesPlayerSource, "zombiesPlayerSource");
         this.powerupHandlerSource =
                 new BasicPowerupHandlerSource(powerups, contextManager, settingsInfo.powerupPickupRadius());
@@ -142,10 +190,100 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
 
     @Override
     protected @NotNull ZombiesScene createScene(@NotNull ZombiesJoinRequest request) {
+        activatePreparedScenes();
+        ZombiesScene scene = readyScenes.poll();
+        if (scene != null) {
+            return scene;
+        }
+
+        return activate(prepareScene());
+    }
+
+    @Override
+    public void tick(long time) {
+        super.tick(time);
+        activatePreparedScenes();
+        fillWarmPool();
+    }
+
+    @Override
+    public void forceShutdown() {
+        super.forceShutdown();
+        shutdown = true;
+
+        activatePreparedScenes();
+        ZombiesScene scene;
+        while ((scene = readyScenes.poll()) != null) {
+            scene.shutdown();
+            cleanupScene(scene);
+        }
+    }
+
+    private void fillWarmPool() {
+        if (shutdown || System.currentTimeMillis() < nextAttemptMillis) {
+            return;
+        }
+
+        while (readyScenes.size() + pendingScenes.get() < warmScenes &&
+                getScenes().size() + readyScenes.size() + pendingScenes.get() < maximumScenes) {
+            pendingScenes.incrementAndGet();
+            CompletableFuture.supplyAsync(this::prepareScene, creationExecutor).whenComplete((prepared, error) -> {
+                if (error != null) {
+                    long delay = retryDelayMillis == 0 ? INITIAL_RETRY_DELAY_MILLIS :
+                            Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+                    retryDelayMillis = delay;
+                    nextAttemptMillis = System.currentTimeMillis() + delay;
+                    LOGGER.warn("Failed to create a warm scene for map {}; retrying in {}ms", mapInfo.settings().id(),
+                            delay, error);
+                }
+                else {
+                    retryDelayMillis = 0;
+                    preparedScenes.add(prepared);
+                }
+
+                pendingScenes.decrementAndGet();
+            });
+        }
+    }
+
+    private void activatePreparedScenes() {
+        PreparedScene prepared;
+        while ((prepared = preparedScenes.poll()) != null) {
+            if (shutdown) {
+                prepared.scene.shutdown();
+                continue;
+            }
+
+            readyScenes.add(activate(prepared));
+        }
+    }
+
+    private ZombiesScene activate(PreparedScene prepared) {
+        ZombiesScene scene = prepared.scene;
+        eventNode.addChild(prepared.node);
+        instanceManager.registerInstance(prepared.instance);
+
+        WindowHandler windowHandler = prepared.windowHandler;
+        InstanceSpawner.InstanceSettings instanceSettings = instanceSpaceFunction.apply(prepared.instance);
+        contexts.put(scene, new SceneContext(prepared.node, instanceSettings.spaceHandler()));
+        instanceSettings.spaceHandler().space().setOverrideFunction((x, y, z) -> {
+            if (windowHandler.tracker().atPoint(x, y, z).isPresent()) {
+                return Solid.EMPTY;
+            }
+
+            return null;
+        });
+
+        //entities can only be spawned once the instance is registered, and the node is attached to index them
+        prepared.doorHandler.initialize();
+        return scene;
+    }
+
+    private PreparedScene prepareScene() {
         MapSettingsInfo settings = mapInfo.settings();
         Pos spawnPos = VecUtils.toPos(settings.origin().add(settings.spawn()));
 
-        Instance instance = instanceLoader.loadInstance(settings.instancePath());
+        Instance instance = instanceLoader.createInstance(settings.instancePath());
 
         instance.setTime(settings.worldTime());
         instance.setTimeRate(0);
@@ -154,6 +292,9 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
         Map<UUID, ZombiesPlayer> zombiesPlayers = new LinkedHashMap<>(settings.maxPlayers());
 
         MobStore mobStore = new MobStore();
+        SpatialEntityIndex entityIndex = new SpatialEntityIndex(instance);
+        instance.setTag(SpatialEntityIndex.TAG, entityIndex);
+        ProjectileSimulation projectileSimulation = new ProjectileSimulation();
 
         Wrapper<RoundHandler> roundHandlerWrapper = Wrapper.ofNull();
         Wrapper<PowerupHandler> powerupHandlerWrapper = Wrapper.ofNull();
@@ -181,7 +322,7 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
 
         ZombiesMap map =
                 new ZombiesMap(mapObjects, songPlayer, powerupHandler, roundHandler, shopHandler, windowHandler,
-                        doorHandler, mobStore);
+                        doorHandler, mobStore, projectileSimulation, entityIndex);
 
         Wrapper<Long> ticksSinceStart = Wrapper.of(0L);
         SidebarModule sidebarModule =
@@ -192,12 +333,13 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
                         zombiesPlayers.values(), spawnPos, roundHandler, ticksSinceStart, sidebarModule, shopHandler);
 
         Map<UUID, PlayerView> players = new HashMap<>();
-        LeaveHandler leaveHandler = new LeaveHandler(stageTransition, players, zombiesPlayers);
+        LeaveHandler leaveHandler =
+                new LeaveHandler(stageTransition, players, zombiesPlayers, projectileSimulation, ingamePlayers);
 
         EventNode<Event> childNode =
                 createEventNode(instance, zombiesPlayers, mapObjects, roundHandler, shopHandler, windowHandler,
                         doorHandler, mapObjects.roomTracker(), mapObjects.windowTracker(), powerupHandler, mobStore,
-                        leaveHandler);
+                        leaveHandler, entityIndex);
         eventNodeWrapper.set(childNode);
 
         Wrapper<ZombiesScene> sceneWrapper = Wrapper.ofNull();
@@ -209,27 +351,16 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
 
             return zombiesPlayerSource.createPlayer(sceneWrapper.get(), zombiesPlayers, settings, instance, playerView,
                     mapObjects.module().modifierSource(), new BasicFlaggable(), childNode, mapObjects.module().random(),
-                    mapObjects, mobStore, mapObjects.mobSpawner());
+                    mapObjects, mobStore, mapObjects.mobSpawner(), projectileSimulation);
         };
 
         ZombiesScene scene =
                 new ZombiesScene(UUID.randomUUID(), connectionManager, map, players, zombiesPlayers, instance,
-                        sceneFallback, settings, stageTransition, leaveHandler, playerCreator);
+                        sceneFallback, settings, stageTransition, leaveHandler, playerCreator, afterTickExecutor,
+                        ingamePlayers);
         sceneWrapper.set(scene);
 
-        eventNode.addChild(childNode);
-        contexts.put(scene, new SceneContext(childNode));
-
-        InstanceSpawner.InstanceSettings instanceSettings = instanceSpaceFunction.apply(instance);
-        instanceSettings.spaceHandler().space().setOverrideFunction((x, y, z) -> {
-            if (windowHandler.tracker().atPoint(x, y, z).isPresent()) {
-                return Solid.EMPTY;
-            }
-
-            return null;
-        });
-
-        return scene;
+        return new PreparedScene(scene, childNode, instance, windowHandler, doorHandler);
     }
 
     @Override
@@ -240,6 +371,7 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
         }
 
         eventNode.removeChild(context.node());
+        context.spaceHandler().flowFields().clear();
     }
 
     private MapObjects createMapObjects(Instance instance, Map<? super UUID, ? extends ZombiesPlayer> zombiesPlayers,
@@ -273,7 +405,7 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
             @NotNull RoundHandler roundHandler, @NotNull ShopHandler shopHandler, @NotNull WindowHandler windowHandler,
             @NotNull DoorHandler doorHandler, @NotNull BoundedTracker<Room> roomTracker,
             @NotNull BoundedTracker<Window> windowTracker, @NotNull PowerupHandler powerupHandler,
-            @NotNull MobStore mobStore, @NotNull LeaveHandler leaveHandler) {
+            @NotNull MobStore mobStore, @NotNull LeaveHandler leaveHandler, @NotNull SpatialEntityIndex entityIndex) {
         EventNode<Event> node = EventNode.all("phantazm_zombies_instance_{" + instance.getUniqueId() + "}");
         MapSettingsInfo settings = mapInfo.settings();
 
@@ -285,6 +417,18 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
         node.addListener(EntityDamageByGunEvent.class,
                 new EntityDamageByGunEventListener(instance, mobStore, mapObjects, zombiesPlayers));
 
+        //spatial index
+        node.addListener(EntitySpawnEvent.class, event -> {
+            if (event.getSpawnInstance() == instance) {
+                entityIndex.add(event.getEntity());
+            }
+        });
+        node.addListener(RemoveEntityFromInstanceEvent.class, event -> {
+            if (event.getInstance() == instance) {
+                entityIndex.remove(event.getEntity());
+            }
+        });
+
         //player events
         node.addListener(EntityDamageEvent.class, new PlayerDamageEventListener(instance, zombiesPlayers, mapObjects));
         node.addListener(PlayerHandAnimationEvent.class,
@@ -355,10 +499,18 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
         return new ElementSidebarUpdaterCreator(sidebarModule, context, keyParser, scoreboardSubNode);
     }
 
-    private record SceneContext(@NotNull EventNode<?> node) {
+    private record PreparedScene(@NotNull ZombiesScene scene,
+                                 @NotNull EventNode<Event> node,
+                                 @NotNull Instance instance,
+                                 @NotNull WindowHandler windowHandler,
+                                 @NotNull DoorHandler doorHandler) {
+    }
+
+    private record SceneContext(@NotNull EventNode<?> node, @NotNull InstanceSpaceHandler spaceHandler) {
 
         public SceneContext {
             Objects.requireNonNull(node, "node");
+            Objects.requireNonNull(spaceHandler, "spaceHandler");
         }
 
     }
@@ -4,26 +4,109 @@ import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.UnmodifiableView;
+import org.phantazm.commons.LockUtils;
 import org.phantazm.core.game.scene.RouteResult;
 import org.phantazm.core.game.scene.Scene;
 import org.phantazm.core.game.scene.SceneProvider;
+import org.phantazm.core.game.scene.SceneTicker;
 import org.phantazm.core.player.PlayerView;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class ZombiesSceneRouter implements Scene<ZombiesRouteRequest>, SceneContainer<ZombiesScene> {
     private final Map<Key, ? extends SceneProvider<ZombiesScene, ZombiesJoinRequest>> sceneProviders;
-    private final Map<UUID, ZombiesScene> playerSceneMap = new HashMap<>();
+    private final Map<UUID, ZombiesScene> playerSceneMap = new ConcurrentHashMap<>();
+    private final Map<UUID, ZombiesScene> gameSceneMap = new ConcurrentHashMap<>();
 
-    private final Map<UUID, PlayerView> unmodifiablePlayers = new AbstractMap<>() {
+    private final Collection<ZombiesScene> scenes = new AbstractCollection<>() {
+        @Override
+        public @NotNull Iterator<ZombiesScene> iterator() {
+            return new Iterator<>() {
+                private final Iterator<? extends SceneProvider<ZombiesScene, ZombiesJoinRequest>> providerIterator =
+                        sceneProviders.values().iterator();
+                private Iterator<ZombiesScene> sceneIterator = Collections.emptyIterator();
+
+                @Override
+                public boolean hasNext() {
+                    while (!sceneIterator.hasNext()) {
+                        if (!providerIterator.hasNext()) {
+                            return false;
+                        }
+
+                        sceneIterator = providerIterator.next().getScenes().iterator();
+                    }
+
+                    return true;
+                }
+
+                @Override
+                public ZombiesScene next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    return sceneIterator.next();
+                }
+            };
+        }
 
         @Override
-        public boolean containsKey(Object key) {
-            if (!(key instanceof UUID uuid)) {
-                return false;
+        public int size() {
+            int size = 0;
+            for (SceneProvider<ZombiesScene, ZombiesJoinRequest> sceneProvider : sceneProviders.values()) {
+                size += sceneProvider.getScenes().size();
             }
 
-            return playerSceneMap.containsKey(uuid);
+            return size;
+        }
+    };
+
+    private final Map<UUID, PlayerView> unmodifiablePlayers = new AbstractMap<>() {
+        private final Set<Entry<UUID, PlayerView>> entrySet = new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<UUID, PlayerView>> iterator() {
+                return new Iterator<>() {
+                    private final Iterator<ZombiesScene> sceneIterator = scenes.iterator();
+                    private Iterator<Entry<UUID, PlayerView>> playerIterator = Collections.emptyIterator();
+
+                    @Override
+                    public boolean hasNext() {
+                        while (!playerIterator.hasNext()) {
+                            if (!sceneIterator.hasNext()) {
+                                return false;
+                            }
+
+                            playerIterator = sceneIterator.next().getPlayers().entrySet().iterator();
+                        }
+
+                        return true;
+                    }
+
+                    @Override
+                    public Entry<UUID, PlayerView> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+
+                        return playerIterator.next();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return getIngamePlayerCount();
+            }
+        };
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
         }
 
         @Override
@@ -40,40 +123,126 @@ public class ZombiesSceneRouter implements Scene<ZombiesRouteRequest>, SceneCont
             return scene.getPlayers().get(uuid);
         }
 
+        @Override
+        public int size() {
+            return getIngamePlayerCount();
+        }
+
         @NotNull
         @Override
         public Set<Entry<UUID, PlayerView>> entrySet() {
-            Set<Entry<UUID, PlayerView>> entrySet = new HashSet<>();
-            for (ZombiesScene scene : playerSceneMap.values()) {
-                entrySet.addAll(scene.getPlayers().entrySet());
-            }
-
-            return Collections.unmodifiableSet(entrySet);
+            return entrySet;
         }
-
     };
 
+    private final SceneTicker sceneTicker;
+    private final AtomicInteger ingamePlayers;
+    private final Lock tickLock = new ReentrantLock();
+    private final Queue<Runnable> deferredOperations = new ConcurrentLinkedQueue<>();
+
     private boolean shutdown = false;
     private boolean joinable = true;
 
+    /**
+     * Creates a new router.
+     *
+     * @param sceneProviders the providers of each map, keyed by map
+     * @param sceneTicker    the ticker shared by every provider in {@code sceneProviders}; this router acts as the
+     *                       tick barrier for it, and shuts it down alongside itself
+     * @param ingamePlayers  the number of players in the scenes of every provider in {@code sceneProviders}, kept up
+     *                       to date by the scenes as players join and leave them, or as they shut down
+     */
     public ZombiesSceneRouter(
-            @NotNull Map<Key, ? extends SceneProvider<ZombiesScene, ZombiesJoinRequest>> sceneProviders) {
+            @NotNull Map<Key, ? extends SceneProvider<ZombiesScene, ZombiesJoinRequest>> sceneProviders,
+            @NotNull SceneTicker sceneTicker, @NotNull AtomicInteger ingamePlayers) {
         this.sceneProviders = Objects.requireNonNull(sceneProviders, "sceneProviders");
+        this.sceneTicker = Objects.requireNonNull(sceneTicker, "sceneTicker");
+        this.ingamePlayers = Objects.requireNonNull(ingamePlayers, "ingamePlayers");
+    }
+
+    public ZombiesSceneRouter(
+            @NotNull Map<Key, ? extends SceneProvider<ZombiesScene, ZombiesJoinRequest>> sceneProviders,
+            @NotNull SceneTicker sceneTicker) {
+        this(sceneProviders, sceneTicker, new AtomicInteger());
+    }
+
+    public ZombiesSceneRouter(
+            @NotNull Map<Key, ? extends SceneProvider<ZombiesScene, ZombiesJoinRequest>> sceneProviders) {
+        this(sceneProviders, SceneTicker.IMMEDIATE);
     }
 
+    /**
+     * Gets the scene a player is currently in.
+     *
+     * @param uuid the UUID of the player
+     * @return the player's scene, or an empty Optional if they are not in any scene of this router
+     */
     public @NotNull Optional<ZombiesScene> getScene(@NotNull UUID uuid) {
-        return Optional.ofNullable(playerSceneMap.get(uuid));
+        ZombiesScene scene = playerSceneMap.get(uuid);
+        if (scene == null || scene.isShutdown()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(scene);
+    }
+
+    /**
+     * Gets a scene of this router by its {@link ZombiesScene#getUuid()}.
+     *
+     * @param gameUuid the UUID of the scene
+     * @return the scene, or an empty Optional if no scene with this UUID was ever joined through this router, or it
+     * has shut down
+     */
+    public @NotNull Optional<ZombiesScene> getGameScene(@NotNull UUID gameUuid) {
+        ZombiesScene scene = gameSceneMap.get(gameUuid);
+        if (scene == null || scene.isShutdown()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(scene);
+    }
+
+    /**
+     * Runs an operation which touches more than one scene, or the router itself. If scenes are currently being ticked
+     * on other threads, the operation is deferred until every scene has finished ticking; otherwise, it runs
+     * immediately. Code running inside a scene tick must use this rather than calling {@link ZombiesSceneRouter#join}
+     * or {@link ZombiesSceneRouter#leave} directly.
+     *
+     * @param operation the operation to run
+     */
+    public void runAfterTick(@NotNull Runnable operation) {
+        Objects.requireNonNull(operation, "operation");
+        if (sceneTicker.isTicking()) {
+            deferredOperations.add(operation);
+            return;
+        }
+
+        operation.run();
     }
 
     @Override
     public void tick(long time) {
-        for (SceneProvider<ZombiesScene, ZombiesJoinRequest> sceneProvider : sceneProviders.values()) {
-            sceneProvider.tick(time);
+        LockUtils.lock(tickLock, () -> {
+            for (SceneProvider<ZombiesScene, ZombiesJoinRequest> sceneProvider : sceneProviders.values()) {
+                sceneProvider.tick(time);
+            }
+
+            sceneTicker.awaitTicks();
+            forgetShutdownScenes();
+        });
+
+        Runnable operation;
+        while ((operation = deferredOperations.poll()) != null) {
+            operation.run();
         }
     }
 
     @Override
     public @NotNull RouteResult join(@NotNull ZombiesRouteRequest routeRequest) {
+        return LockUtils.lock(tickLock, () -> joinLocked(routeRequest));
+    }
+
+    private RouteResult joinLocked(ZombiesRouteRequest routeRequest) {
         if (isShutdown()) {
             return new RouteResult(false, Component.text("The router is shutdown."));
         }
@@ -100,14 +269,7 @@ public class ZombiesSceneRouter implements Scene<ZombiesRouteRequest>, SceneCont
             ZombiesScene scene = sceneOptional.get();
             RouteResult result = scene.join(joinRequest);
             if (result.success()) {
-                for (PlayerView playerView : routeRequest.joinRequest().getPlayers()) {
-                    ZombiesScene oldScene = playerSceneMap.get(playerView.getUUID());
-                    if (oldScene != null && oldScene != scene) {
-                        oldScene.leave(Collections.singleton(playerView.getUUID()));
-                    }
-
-                    playerSceneMap.put(playerView.getUUID(), scene);
-                }
+                onJoin(scene, joinRequest);
             }
 
             return result;
@@ -116,27 +278,54 @@ public class ZombiesSceneRouter implements Scene<ZombiesRouteRequest>, SceneCont
         return new RouteResult(false, Component.text("No games are joinable."));
     }
 
-    // TODO: optimize
     private RouteResult rejoinGame(ZombiesRouteRequest routeRequest) {
-        for (ZombiesScene scene : getScenes()) {
-            if (!scene.getUuid().equals(routeRequest.targetGame())) {
-                return scene.join(routeRequest.joinRequest());
+        ZombiesScene scene = gameSceneMap.get(routeRequest.targetGame());
+        if (scene == null || scene.isShutdown()) {
+            return new RouteResult(false, Component.text("Not a valid game."));
+        }
+
+        RouteResult result = scene.join(routeRequest.joinRequest());
+        if (result.success()) {
+            onJoin(scene, routeRequest.joinRequest());
+        }
+
+        return result;
+    }
+
+    private void onJoin(ZombiesScene scene, ZombiesJoinRequest joinRequest) {
+        gameSceneMap.putIfAbsent(scene.getUuid(), scene);
+        for (PlayerView playerView : joinRequest.getPlayers()) {
+            UUID uuid = playerView.getUUID();
+            ZombiesScene oldScene = playerSceneMap.put(uuid, scene);
+            if (oldScene != null && oldScene != scene) {
+                oldScene.leave(Collections.singleton(uuid));
             }
         }
+    }
 
-        return new RouteResult(false, Component.text("Not a valid game."));
+    private void forgetShutdownScenes() {
+        if (gameSceneMap.values().removeIf(ZombiesScene::isShutdown)) {
+            playerSceneMap.values().removeIf(ZombiesScene::isShutdown);
+        }
     }
 
     @Override
     public @NotNull RouteResult leave(@NotNull Iterable<UUID> leavers) {
+        return LockUtils.lock(tickLock, () -> leaveLocked(leavers));
+    }
+
+    private RouteResult leaveLocked(Iterable<UUID> leavers) {
         for (UUID uuid : leavers) {
-            if (!playerSceneMap.containsKey(uuid)) {
+            if (getScene(uuid).isEmpty()) {
                 return new RouteResult(false, Component.text(uuid + " is not part of a game in the Zombies router."));
             }
         }
 
         for (UUID uuid : leavers) {
-            playerSceneMap.get(uuid).leave(Collections.singleton(uuid));
+            ZombiesScene scene = playerSceneMap.remove(uuid);
+            if (scene != null) {
+                scene.leave(Collections.singleton(uuid));
+            }
         }
 
         return RouteResult.SUCCESSFUL;
@@ -149,25 +338,12 @@ public class ZombiesSceneRouter implements Scene<ZombiesRouteRequest>, SceneCont
 
     @Override
     public int getIngamePlayerCount() {
-        int playerCount = 0;
-
-        for (SceneProvider<ZombiesScene, ZombiesJoinRequest> sceneProvider : sceneProviders.values()) {
-            for (ZombiesScene scene : sceneProvider.getScenes()) {
-                playerCount += scene.getPlayers().size();
-            }
-        }
-
-        return playerCount;
+        return ingamePlayers.get();
     }
 
     @Override
     public int getJoinWeight(@NotNull ZombiesRouteRequest request) {
-        int count = 0;
-        for (SceneProvider<ZombiesScene, ZombiesJoinRequest> sceneProvider : sceneProviders.values()) {
-            count += sceneProvider.getScenes().size();
-        }
-
-        return -count;
+        return -scenes.size();
     }
 
     @Override
@@ -178,6 +354,7 @@ public class ZombiesSceneRouter implements Scene<ZombiesRouteRequest>, SceneCont
     @Override
     public void shutdown() {
         this.shutdown = true;
+        sceneTicker.shutdown();
     }
 
     @Override
@@ -191,12 +368,7 @@ public class ZombiesSceneRouter implements Scene<ZombiesRouteRequest>, SceneCont
     }
 
     @Override
-    public @NotNull Collection<ZombiesScene> getScenes() {
-        Collection<ZombiesScene> scenes = new ArrayList<>();
-        for (SceneProvider<ZombiesScene, ZombiesJoinRequest> sceneProvider : sceneProviders.values()) {
-            scenes.addAll(sceneProvider.getScenes());
-        }
-
+    public @UnmodifiableView @NotNull Collection<ZombiesScene> getScenes() {
         return scenes;
     }
 }
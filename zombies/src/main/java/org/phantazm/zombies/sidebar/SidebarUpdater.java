@@ -7,6 +7,7 @@ import org.jetbrains.annotations.NotNull;
 import org.phantazm.commons.Activable;
 import org.phantazm.zombies.sidebar.section.SidebarSection;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -15,10 +16,19 @@ import java.util.Optional;
 @Model("zombies.sidebar.updater")
 public class SidebarUpdater implements Activable {
     public static final int MAX_SIDEBAR_ROWS = 15;
+    private static final String[] LINE_IDS = new String[MAX_SIDEBAR_ROWS];
+
+    static {
+        for (int i = 0; i < MAX_SIDEBAR_ROWS; i++) {
+            LINE_IDS[i] = "line" + i;
+        }
+    }
 
     private final Sidebar sidebar;
     private final List<SidebarSection> sections;
     private final int[] sizes;
+    private final Component[] sentLines;
+    private final Component[] pendingLines;
     private int totalSize = 0;
 
     @FactoryMethod
@@ -26,6 +36,8 @@ public class SidebarUpdater implements Activable {
         this.sidebar = Objects.requireNonNull(sidebar, "sidebar");
         this.sections = List.copyOf(sections);
         this.sizes = new int[sections.size()];
+        this.sentLines = new Component[MAX_SIDEBAR_ROWS];
+        this.pendingLines = new Component[MAX_SIDEBAR_ROWS];
     }
 
     @Override
@@ -39,6 +51,7 @@ public class SidebarUpdater implements Activable {
         for (SidebarSection section : sections) {
             section.invalidateCache();
         }
+        Arrays.fill(sentLines, null);
 
         int clampedSize = Math.min(totalSize, MAX_SIDEBAR_ROWS);
         for (int i = 0; i < clampedSize; i++) {
@@ -49,6 +62,25 @@ public class SidebarUpdater implements Activable {
     @Override
     public void tick(long time) {
         refreshSections();
+        collectLines(time);
+
+        for (int i = 0; i < MAX_SIDEBAR_ROWS; i++) {
+            Component line = pendingLines[i];
+            if (line == null) {
+                continue;
+            }
+
+            pendingLines[i] = null;
+            if (line.equals(sentLines[i])) {
+                continue;
+            }
+
+            sentLines[i] = line;
+            sidebar.updateLineContent(lineId(i), line);
+        }
+    }
+
+    private void collectLines(long time) {
         int index = 0;
         for (SidebarSection section : sections) {
             List<Optional<Component>> newLines = section.update(time);
@@ -58,11 +90,9 @@ public class SidebarUpdater implements Activable {
                     return;
                 }
 
-                int finalIndex = index;
-                line.ifPresent(newLine -> {
-                    String lineId = lineId(finalIndex);
-                    sidebar.updateLineContent(lineId, newLine);
-                });
+                if (line.isPresent()) {
+                    pendingLines[index] = line.get();
+                }
 
                 ++index;
             }
@@ -92,6 +122,7 @@ public class SidebarUpdater implements Activable {
             for (SidebarSection section : sections) {
                 section.invalidateCache();
             }
+            Arrays.fill(sentLines, null);
 
             int oldClampedSize = Math.min(totalSize, MAX_SIDEBAR_ROWS);
             int newClampedSize = Math.min(newTotalSize, MAX_SIDEBAR_ROWS);
@@ -114,7 +145,7 @@ public class SidebarUpdater implements Activable {
     }
 
     private @NotNull String lineId(int index) {
-        return "line" + index;
+        return LINE_IDS[index];
     }
 
     @DataObject
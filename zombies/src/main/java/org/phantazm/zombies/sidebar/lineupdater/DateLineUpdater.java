@@ -36,9 +36,10 @@ public class DateLineUpdater implements SidebarLineUpdater {
     public @NotNull Optional<Component> tick(long time) {
         if (cached == null) {
             cached = Component.text(formatter.format(LocalDateTime.now())).style(data.dateStyle);
+            return Optional.of(cached);
         }
 
-        return Optional.of(cached);
+        return Optional.empty();
     }
 
     @DataObject
@@ -7,26 +7,20 @@ import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.core.player.PlayerView;
 import org.phantazm.zombies.player.state.PlayerStateSwitcher;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.phantazm.zombies.player.state.ZombiesPlayerState;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 
 @Model("zombies.sidebar.line_updater.player_state")
 @Cache(false)
 public class PlayerStateSidebarLineUpdater implements SidebarLineUpdater {
-    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerStateSidebarLineUpdater.class);
-    private static final int DISPLAY_REFRESH_INTERVAL = 2000;
-
     private final PlayerView playerView;
 
     private final PlayerStateSwitcher stateSwitcher;
 
-    private CompletableFuture<? extends Component> playerNameFuture;
-
-    private long lastDisplayRefresh;
+    private Component lastPlayerName;
+    private ZombiesPlayerState lastState;
 
     @FactoryMethod
     public PlayerStateSidebarLineUpdater(@NotNull PlayerView playerView, @NotNull PlayerStateSwitcher stateSwitcher) {
@@ -36,34 +30,20 @@ public class PlayerStateSidebarLineUpdater implements SidebarLineUpdater {
 
     @Override
     public void invalidateCache() {
-
+        lastPlayerName = null;
+        lastState = null;
     }
 
     @Override
     public @NotNull Optional<Component> tick(long time) {
-        if (time - lastDisplayRefresh >= DISPLAY_REFRESH_INTERVAL) {
-            playerNameFuture = null;
-            lastDisplayRefresh = time;
-        }
-
-        if (playerNameFuture == null) {
-            playerNameFuture = playerView.getDisplayName();
-        }
-
-        try {
-            Component playerName = playerNameFuture.getNow(null);
-            if (playerName == null) {
-                return Optional.empty();
-            }
-
-            return Optional.of(Component.textOfChildren(playerName, Component.text(": "),
-                    stateSwitcher.getState().getDisplayName()));
-        }
-        catch (Throwable e) {
-            LOGGER.warn("Error resolving player name", e);
-            playerNameFuture = null;
+        Component playerName = playerView.getDisplayNameNow();
+        ZombiesPlayerState state = stateSwitcher.getState();
+        if (state == lastState && playerName.equals(lastPlayerName)) {
+            return Optional.empty();
         }
 
-        return Optional.empty();
+        lastPlayerName = playerName;
+        lastState = state;
+        return Optional.of(Component.textOfChildren(playerName, Component.text(": "), state.getDisplayName()));
     }
 }
@@ -15,7 +15,6 @@ import org.phantazm.zombies.sidebar.lineupdater.SidebarLineUpdater;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 
 @Model("zombies.sidebar.line_updater.creator.coins")
 @Cache(false)
@@ -38,7 +37,7 @@ public class CoinsUpdaterCreator implements PlayerUpdaterCreator {
         private final PlayerView playerView;
         private final PlayerCoins coins;
 
-        private CompletableFuture<String> playerNameFuture;
+        private String lastPlayerName;
         private int lastCoins;
         private boolean cacheInvalidated;
 
@@ -52,27 +51,15 @@ public class CoinsUpdaterCreator implements PlayerUpdaterCreator {
         @Override
         public void invalidateCache() {
             cacheInvalidated = true;
-            playerNameFuture = null;
         }
 
         @Override
         public @NotNull Optional<Component> tick(long time) {
-            if (playerNameFuture == null) {
-                playerNameFuture = playerView.getUsername();
-            }
-
-            if (!playerNameFuture.isDone()) {
-                return Optional.empty();
-            }
-
-            String playerName = playerNameFuture.getNow(null);
-            if (playerName == null) {
-                return Optional.empty();
-            }
-
+            String playerName = playerView.getUsernameNow();
             int newCoins = coins.getCoins();
-            if (cacheInvalidated || lastCoins != newCoins) {
+            if (cacheInvalidated || lastCoins != newCoins || !playerName.equals(lastPlayerName)) {
                 lastCoins = newCoins;
+                lastPlayerName = playerName;
                 cacheInvalidated = false;
 
                 return Optional.of(
@@ -16,7 +16,6 @@ import org.phantazm.zombies.sidebar.lineupdater.SidebarLineUpdater;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 
 @Model("zombies.sidebar.line_updater.creator.state")
 @Cache(false)
@@ -38,7 +37,7 @@ public class StateUpdaterCreator implements PlayerUpdaterCreator {
         private final PlayerView playerView;
         private final PlayerStateSwitcher stateSwitcher;
 
-        private CompletableFuture<? extends String> playerNameFuture;
+        private String lastPlayerName;
         private ZombiesPlayerState lastState;
         private boolean cacheInvalidated;
 
@@ -53,27 +52,15 @@ public class StateUpdaterCreator implements PlayerUpdaterCreator {
         @Override
         public void invalidateCache() {
             cacheInvalidated = true;
-            playerNameFuture = null;
         }
 
         @Override
         public @NotNull Optional<Component> tick(long time) {
-            if (playerNameFuture == null) {
-                playerNameFuture = playerView.getUsername();
-            }
-
-            if (!playerNameFuture.isDone()) {
-                return Optional.empty();
-            }
-
-            String playerName = playerNameFuture.getNow(null);
-            if (playerName == null) {
-                return Optional.empty();
-            }
-
+            String playerName = playerView.getUsernameNow();
             ZombiesPlayerState currentState = stateSwitcher.getState();
-            if (cacheInvalidated || currentState != lastState) {
+            if (cacheInvalidated || currentState != lastState || !playerName.equals(lastPlayerName)) {
                 this.lastState = currentState;
+                this.lastPlayerName = playerName;
                 this.cacheInvalidated = false;
 
                 Component first = MiniMessage.miniMessage().deserialize(String.format(data.formatString, playerName));
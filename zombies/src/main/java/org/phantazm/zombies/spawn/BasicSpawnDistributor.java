@@ -2,8 +2,9 @@ package org.phantazm.zombies.spawn;
 
 import it.unimi.dsi.fastutil.Pair;
 import net.kyori.adventure.key.Key;
-import net.minestom.server.entity.Player;
+import net.minestom.server.MinecraftServer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.phantazm.mob.MobModel;
 import org.phantazm.mob.PhantazmMob;
 import org.phantazm.zombies.map.SpawnInfo;
@@ -23,6 +24,9 @@ public class BasicSpawnDistributor implements SpawnDistributor {
 
     private final Collection<? extends ZombiesPlayer> zombiesPlayers;
 
+    private List<? extends Spawnpoint> indexedSpawnpoints;
+    private SpawnpointIndex spawnpointIndex;
+
     public BasicSpawnDistributor(@NotNull Function<? super Key, ? extends MobModel> modelFunction,
             @NotNull Random random, @NotNull Collection<? extends ZombiesPlayer> zombiesPlayers) {
         this.modelFunction = Objects.requireNonNull(modelFunction, "modelFunction");
@@ -33,8 +37,24 @@ public class BasicSpawnDistributor implements SpawnDistributor {
     @Override
     public @NotNull List<PhantazmMob> distributeSpawns(@NotNull List<? extends Spawnpoint> spawnpoints,
             @NotNull Collection<? extends SpawnInfo> spawns) {
+        SpawnPlan plan = planSpawns(spawnpoints, spawns);
+
+        List<PhantazmMob> spawnedMobs = new ArrayList<>(plan.remaining());
+        while (plan.remaining() > 0) {
+            PhantazmMob mob = plan.spawnNext();
+            if (mob != null) {
+                spawnedMobs.add(mob);
+            }
+        }
+
+        return spawnedMobs;
+    }
+
+    @Override
+    public @NotNull SpawnPlan planSpawns(@NotNull List<? extends Spawnpoint> spawnpoints,
+            @NotNull Collection<? extends SpawnInfo> spawns) {
         if (spawnpoints.isEmpty()) {
-            return new ArrayList<>(0);
+            return new Plan(spawnpoints, List.of(), List.of());
         }
 
         List<Pair<MobModel, Key>> spawnList = new ArrayList<>(spawns.size());
@@ -53,66 +73,93 @@ public class BasicSpawnDistributor implements SpawnDistributor {
 
         if (spawnList.isEmpty()) {
             LOGGER.warn("Received empty spawn list");
-            return List.of();
+            return new Plan(spawnpoints, List.of(), List.of());
         }
 
-        List<Spawnpoint> sortedSpawnpoints = new ArrayList<>(spawnpoints.size());
-        for (Spawnpoint spawnpoint : spawnpoints) {
-            if (spawnpoint.canSpawnAny(zombiesPlayers)) {
-                sortedSpawnpoints.add(spawnpoint);
-            }
-        }
+        List<Spawnpoint> sortedSpawnpoints = indexFor(spawnpoints).findCandidates(zombiesPlayers);
 
-        sortedSpawnpoints.sort((first, second) -> {
-            double firstClosest = Double.POSITIVE_INFINITY;
-            double secondClosest = Double.POSITIVE_INFINITY;
-            for (ZombiesPlayer zombiesPlayer : zombiesPlayers) {
-                Optional<Player> playerOptional = zombiesPlayer.getPlayer();
-                if (playerOptional.isPresent()) {
-                    Player player = playerOptional.get();
+        Collections.shuffle(spawnList, random);
+        return new Plan(spawnpoints, spawnList, sortedSpawnpoints);
+    }
 
-                    double firstDistance = player.getDistance(first.spawnPoint());
-                    double secondDistance = player.getDistance(second.spawnPoint());
+    private SpawnpointIndex indexFor(List<? extends Spawnpoint> spawnpoints) {
+        //rounds always pass the same list of spawnpoints, so the index only needs to be built once per map
+        if (spawnpointIndex == null || indexedSpawnpoints != spawnpoints) {
+            spawnpointIndex = new SpawnpointIndex(spawnpoints);
+            indexedSpawnpoints = spawnpoints;
+        }
 
-                    if (firstDistance < firstClosest) {
-                        firstClosest = firstDistance;
-                    }
+        return spawnpointIndex;
+    }
 
-                    if (secondDistance < secondClosest) {
-                        secondClosest = secondDistance;
-                    }
-                }
-            }
+    private class Plan implements SpawnPlan {
+        private final List<? extends Spawnpoint> spawnpoints;
+        private final List<Pair<MobModel, Key>> spawnList;
+        private List<Spawnpoint> sortedSpawnpoints;
+
+        private int spawnIndex;
+        private int candidateIndex;
+        private long lastRefreshTime;
+
+        private Plan(List<? extends Spawnpoint> spawnpoints, List<Pair<MobModel, Key>> spawnList,
+                List<Spawnpoint> sortedSpawnpoints) {
+            this.spawnpoints = spawnpoints;
+            this.spawnList = spawnList;
+            this.sortedSpawnpoints = sortedSpawnpoints;
+            this.spawnIndex = spawnList.size() - 1;
+        }
 
-            return Double.compare(firstClosest, secondClosest);
-        });
+        @Override
+        public int remaining() {
+            return spawnIndex + 1;
+        }
 
-        Collections.shuffle(spawnList, random);
+        @Override
+        public @Nullable PhantazmMob spawnNext() {
+            if (spawnIndex < 0) {
+                return null;
+            }
 
-        List<PhantazmMob> spawnedMobs = new ArrayList<>(spawnList.size());
-        int candidateIndex = 0;
-        for (int i = spawnList.size() - 1; i >= 0; i--) {
-            Pair<MobModel, Key> spawnEntry = spawnList.get(i);
+            Pair<MobModel, Key> spawnEntry = spawnList.get(spawnIndex--);
             MobModel model = spawnEntry.first();
             Key spawnType = spawnEntry.second();
 
-            boolean spawned = false;
+            PhantazmMob mob = spawnAtCandidate(model, spawnType);
+            if (mob != null) {
+                return mob;
+            }
+
+            //queued spawns may run several ticks after planning, so players may have moved since the candidates were
+            //found; re-resolving them runs the player range checks again, so do it at most once per tick
+            long time = System.currentTimeMillis();
+            if (time - lastRefreshTime >= MinecraftServer.TICK_MS) {
+                lastRefreshTime = time;
+                sortedSpawnpoints = indexFor(spawnpoints).findCandidates(zombiesPlayers);
+                candidateIndex = 0;
+
+                mob = spawnAtCandidate(model, spawnType);
+                if (mob != null) {
+                    return mob;
+                }
+            }
+
+            LOGGER.warn("Found no suitable spawnpoint for mob {} using spawn type {}", model.key(), spawnType);
+            return null;
+        }
+
+        private PhantazmMob spawnAtCandidate(MobModel model, Key spawnType) {
             for (int j = 0; j < sortedSpawnpoints.size(); j++) {
                 Spawnpoint candidate = sortedSpawnpoints.get(candidateIndex++);
                 candidateIndex %= sortedSpawnpoints.size();
 
-                if (candidate.canSpawn(model, spawnType, zombiesPlayers)) {
-                    spawnedMobs.add(candidate.spawn(model));
-                    spawned = true;
-                    break;
+                //rooms and windows may have changed since the candidates were found; player range is only re-checked
+                //when the candidates are re-resolved
+                if (candidate.isOpen() && candidate.accepts(model, spawnType)) {
+                    return candidate.spawn(model);
                 }
             }
 
-            if (!spawned) {
-                LOGGER.warn("Found no suitable spawnpoint for mob {} using spawn type {}", model.key(), spawnType);
-            }
+            return null;
         }
-
-        return spawnedMobs;
     }
 }
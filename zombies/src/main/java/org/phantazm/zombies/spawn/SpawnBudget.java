@@ -0,0 +1,31 @@
+package org.phantazm.zombies.spawn;
+
+/**
+ * Limits how many queued mobs a {@link SpawnQueue} may spawn in a single tick.
+ *
+ * @param maxSpawnsPerTick the maximum number of mobs spawned per tick
+ * @param maxNanosPerTick  the maximum number of nanoseconds spent spawning mobs per tick; at least one mob is always
+ *                         spawned when any are queued
+ */
+public record SpawnBudget(int maxSpawnsPerTick, long maxNanosPerTick) {
+    /**
+     * A budget which spawns every queued mob in the tick it was queued.
+     */
+    public static final SpawnBudget UNLIMITED = new SpawnBudget(Integer.MAX_VALUE, Long.MAX_VALUE);
+
+    /**
+     * Creates a new spawn budget.
+     *
+     * @param maxSpawnsPerTick the maximum number of mobs spawned per tick
+     * @param maxNanosPerTick  the maximum number of nanoseconds spent spawning mobs per tick
+     */
+    public SpawnBudget {
+        if (maxSpawnsPerTick < 1) {
+            throw new IllegalArgumentException("maxSpawnsPerTick must be positive");
+        }
+
+        if (maxNanosPerTick < 1) {
+            throw new IllegalArgumentException("maxNanosPerTick must be positive");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.phantazm.zombies.spawn;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.phantazm.mob.PhantazmMob;
 import org.phantazm.zombies.map.SpawnInfo;
 import org.phantazm.zombies.map.Spawnpoint;
@@ -12,4 +13,30 @@ import java.util.List;
 public interface SpawnDistributor {
     @NotNull List<PhantazmMob> distributeSpawns(@NotNull List<? extends Spawnpoint> spawnpoints,
             @NotNull Collection<? extends SpawnInfo> spawns);
+
+    /**
+     * Chooses which mobs to spawn, without necessarily spawning them yet. By default, every mob is spawned immediately
+     * using {@link SpawnDistributor#distributeSpawns(List, Collection)}, and the returned plan only hands them out.
+     *
+     * @param spawnpoints the spawnpoints to spawn mobs at
+     * @param spawns      the mobs to spawn
+     * @return a {@link SpawnPlan} which spawns the mobs
+     */
+    default @NotNull SpawnPlan planSpawns(@NotNull List<? extends Spawnpoint> spawnpoints,
+            @NotNull Collection<? extends SpawnInfo> spawns) {
+        List<PhantazmMob> mobs = distributeSpawns(spawnpoints, spawns);
+        return new SpawnPlan() {
+            private int index;
+
+            @Override
+            public int remaining() {
+                return mobs.size() - index;
+            }
+
+            @Override
+            public @Nullable PhantazmMob spawnNext() {
+                return index < mobs.size() ? mobs.get(index++) : null;
+            }
+        };
+    }
 }
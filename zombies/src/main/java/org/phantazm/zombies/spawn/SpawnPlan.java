@@ -0,0 +1,24 @@
+package org.phantazm.zombies.spawn;
+
+import org.jetbrains.annotations.Nullable;
+import org.phantazm.mob.PhantazmMob;
+
+/**
+ * A set of mobs which have been chosen to spawn, but which have not all spawned yet. Mobs are spawned one at a time,
+ * allowing large spawns to be spread out over several ticks.
+ */
+public interface SpawnPlan {
+    /**
+     * Gets the number of mobs that have not yet been spawned by this plan.
+     *
+     * @return the number of remaining mobs
+     */
+    int remaining();
+
+    /**
+     * Attempts to spawn the next mob in this plan. Does nothing if there are no remaining mobs.
+     *
+     * @return the newly spawned mob, or null if it could not be spawned
+     */
+    @Nullable PhantazmMob spawnNext();
+}
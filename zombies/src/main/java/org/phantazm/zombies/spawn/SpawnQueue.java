@@ -0,0 +1,119 @@
+package org.phantazm.zombies.spawn;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.phantazm.commons.Tickable;
+import org.phantazm.mob.PhantazmMob;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * <p>Spreads the spawning of queued {@link SpawnPlan}s over multiple ticks, according to a {@link SpawnBudget}. Plans
+ * are spawned in the order they were queued. A single queue is shared by everything that spawns mobs in a scene, so
+ * that the budget applies to the scene as a whole.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public class SpawnQueue implements Tickable {
+    /**
+     * Receives the results of a queued {@link SpawnPlan}.
+     */
+    public interface Listener {
+        /**
+         * Called after each attempt to spawn a mob.
+         *
+         * @param mob the mob that was spawned, or null if it could not be spawned
+         */
+        void onSpawn(@Nullable PhantazmMob mob);
+
+        /**
+         * Called once every mob in the plan has been spawned.
+         */
+        void onComplete();
+    }
+
+    private record Entry(SpawnPlan plan, Listener listener) {
+    }
+
+    private final SpawnBudget budget;
+    private final Deque<Entry> entries;
+
+    /**
+     * Creates a new, empty queue.
+     *
+     * @param budget the budget which limits how many mobs are spawned per tick
+     */
+    public SpawnQueue(@NotNull SpawnBudget budget) {
+        this.budget = Objects.requireNonNull(budget, "budget");
+        this.entries = new ArrayDeque<>();
+    }
+
+    /**
+     * Queues a plan. Its mobs will start spawning the next time this queue is ticked.
+     *
+     * @param plan     the plan to spawn
+     * @param listener the listener to notify as mobs are spawned
+     */
+    public void enqueue(@NotNull SpawnPlan plan, @NotNull Listener listener) {
+        Objects.requireNonNull(plan, "plan");
+        Objects.requireNonNull(listener, "listener");
+        entries.addLast(new Entry(plan, listener));
+    }
+
+    /**
+     * Gets the number of mobs which are queued, but have not yet been spawned.
+     *
+     * @return the number of queued mobs
+     */
+    public int queuedMobCount() {
+        int count = 0;
+        for (Entry entry : entries) {
+            count += entry.plan.remaining();
+        }
+
+        return count;
+    }
+
+    /**
+     * Whether this queue has no plans left to spawn.
+     *
+     * @return true if no plans are queued, false otherwise
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Discards every queued plan without spawning any more of their mobs. Listeners are not notified.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public void tick(long time) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        int spawned = 0;
+        while (!entries.isEmpty()) {
+            Entry entry = entries.peekFirst();
+            if (entry.plan.remaining() == 0) {
+                entries.removeFirst();
+                entry.listener.onComplete();
+                continue;
+            }
+
+            if (spawned >= budget.maxSpawnsPerTick() || System.nanoTime() - start >= budget.maxNanosPerTick()) {
+                return;
+            }
+
+            entry.listener.onSpawn(entry.plan.spawnNext());
+            spawned++;
+        }
+    }
+}
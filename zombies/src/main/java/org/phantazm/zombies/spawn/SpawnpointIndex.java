@@ -0,0 +1,175 @@
+package org.phantazm.zombies.spawn;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.zombies.map.Room;
+import org.phantazm.zombies.map.SpawnruleInfo;
+import org.phantazm.zombies.map.Spawnpoint;
+import org.phantazm.zombies.player.ZombiesPlayer;
+import org.phantazm.zombies.player.ZombiesPlayerModule;
+
+import java.util.*;
+
+/**
+ * <p>Indexes a fixed list of {@link Spawnpoint}s by the {@link Room} that controls them, so that spawnpoints in closed
+ * rooms can be skipped as a group. Spawnpoints that can never spawn anything are left out of the index entirely.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public class SpawnpointIndex {
+    private record Group(Room room, Spawnpoint[] spawnpoints, double[] x, double[] y, double[] z,
+                         double[] slaSquared) {
+    }
+
+    private final List<Group> groups;
+    private final int size;
+
+    /**
+     * Creates a new index.
+     *
+     * @param spawnpoints the spawnpoints to index
+     */
+    public SpawnpointIndex(@NotNull Collection<? extends Spawnpoint> spawnpoints) {
+        Map<Room, List<Spawnpoint>> byRoom = new LinkedHashMap<>();
+        List<Spawnpoint> roomless = new ArrayList<>();
+        int size = 0;
+        for (Spawnpoint spawnpoint : spawnpoints) {
+            if (!spawnpoint.isUsable()) {
+                continue;
+            }
+
+            Room room = spawnpoint.room();
+            if (room == null) {
+                roomless.add(spawnpoint);
+            }
+            else {
+                byRoom.computeIfAbsent(room, ignored -> new ArrayList<>()).add(spawnpoint);
+            }
+
+            size++;
+        }
+
+        List<Group> groups = new ArrayList<>(byRoom.size() + 1);
+        if (!roomless.isEmpty()) {
+            groups.add(group(null, roomless));
+        }
+
+        for (Map.Entry<Room, List<Spawnpoint>> entry : byRoom.entrySet()) {
+            groups.add(group(entry.getKey(), entry.getValue()));
+        }
+
+        this.groups = List.copyOf(groups);
+        this.size = size;
+    }
+
+    private static Group group(Room room, List<Spawnpoint> spawnpoints) {
+        int count = spawnpoints.size();
+        Spawnpoint[] array = spawnpoints.toArray(Spawnpoint[]::new);
+        double[] x = new double[count];
+        double[] y = new double[count];
+        double[] z = new double[count];
+        double[] slaSquared = new double[count];
+        for (int i = 0; i < count; i++) {
+            Point point = array[i].spawnPoint();
+            x[i] = point.x();
+            y[i] = point.y();
+            z[i] = point.z();
+
+            SpawnruleInfo spawnrule = Objects.requireNonNull(array[i].spawnrule(), "spawnrule");
+            slaSquared[i] = spawnrule.slaSquared();
+        }
+
+        return new Group(room, array, x, y, z, slaSquared);
+    }
+
+    /**
+     * Gets the number of usable spawnpoints in this index.
+     *
+     * @return the number of indexed spawnpoints
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds every open spawnpoint that is within SLA range of at least one player able to trigger it, ordered by the
+     * distance to the closest player. Player positions are read once, and squared distances are computed once per
+     * spawnpoint and player.
+     *
+     * @param zombiesPlayers the players in the map
+     * @return a new list of spawnpoints that may spawn mobs, closest first
+     */
+    public @NotNull List<Spawnpoint> findCandidates(@NotNull Collection<? extends ZombiesPlayer> zombiesPlayers) {
+        DoubleArrayList positions = new DoubleArrayList(zombiesPlayers.size() * 3);
+        BitSet triggersSLA = new BitSet(zombiesPlayers.size());
+        int playerCount = 0;
+        for (ZombiesPlayer zombiesPlayer : zombiesPlayers) {
+            ZombiesPlayerModule module = zombiesPlayer.module();
+            Optional<Player> playerOptional = module.getPlayerView().getPlayer();
+            if (playerOptional.isEmpty()) {
+                continue;
+            }
+
+            Point position = playerOptional.get().getPosition();
+            positions.add(position.x());
+            positions.add(position.y());
+            positions.add(position.z());
+            triggersSLA.set(playerCount++, module.getMeta().canTriggerSLA());
+        }
+
+        if (triggersSLA.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+
+        double[] playerPositions = positions.elements();
+        List<Spawnpoint> candidates = new ArrayList<>();
+        DoubleArrayList closestDistances = new DoubleArrayList();
+        for (Group group : groups) {
+            if (group.room != null && !group.room.isOpen()) {
+                continue;
+            }
+
+            for (int i = 0; i < group.spawnpoints.length; i++) {
+                double closest = Double.POSITIVE_INFINITY;
+                boolean inRange = false;
+                for (int j = 0; j < playerCount; j++) {
+                    double dx = playerPositions[j * 3] - group.x[i];
+                    double dy = playerPositions[j * 3 + 1] - group.y[i];
+                    double dz = playerPositions[j * 3 + 2] - group.z[i];
+                    double distanceSquared = dx * dx + dy * dy + dz * dz;
+
+                    if (distanceSquared < closest) {
+                        closest = distanceSquared;
+                    }
+
+                    if (!inRange && triggersSLA.get(j) && distanceSquared < group.slaSquared[i]) {
+                        inRange = true;
+                    }
+                }
+
+                if (inRange) {
+                    candidates.add(group.spawnpoints[i]);
+                    closestDistances.add(closest);
+                }
+            }
+        }
+
+        int[] order = new int[candidates.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        double[] distances = closestDistances.elements();
+        IntArrays.mergeSort(order, (first, second) -> Double.compare(distances[first], distances[second]));
+
+        List<Spawnpoint> sorted = new ArrayList<>(order.length);
+        for (int index : order) {
+            sorted.add(candidates.get(index));
+        }
+
+        return sorted;
+    }
+}
@@ -0,0 +1,50 @@
+package org.phantazm.zombies.equipment.gun.shoot;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConeTraceTest {
+
+    @Test
+    public void testBlockLookedUpOncePerCell() {
+        Instance instance = mock(Instance.class);
+        when(instance.getBlock(1, 2, 3, Block.Getter.Condition.NONE)).thenReturn(Block.STONE);
+        ConeTrace trace = new ConeTrace(instance, new Pos(0, 0, 0), List.of(new Vec(1, 0, 0)));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Block.STONE, trace.getBlock(new Vec(1.5, 2.5, 3.5)));
+        }
+
+        verify(instance, times(1)).getBlock(1, 2, 3, Block.Getter.Condition.NONE);
+    }
+
+    @Test
+    public void testCandidatesGatheredOnceForCone() {
+        Instance instance = mock(Instance.class);
+        when(instance.getNearbyEntities(any(), anyDouble())).thenReturn(List.of());
+        Pos origin = new Pos(0, 0, 0);
+        List<Vec> directions =
+                List.of(new Vec(1, 0, 0), new Vec(1, 0, 0.1).normalize(), new Vec(1, 0.1, 0).normalize());
+        ConeTrace trace = new ConeTrace(instance, origin, directions);
+
+        for (Vec direction : directions) {
+            assertTrue(trace.findCandidates(origin.withDirection(direction), direction.mul(10)).isEmpty());
+        }
+
+        verify(instance, times(1)).getNearbyEntities(any(), anyDouble());
+    }
+}
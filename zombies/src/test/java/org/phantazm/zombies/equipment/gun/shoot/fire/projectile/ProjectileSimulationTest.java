@@ -0,0 +1,79 @@
+package org.phantazm.zombies.equipment.gun.shoot.fire.projectile;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ProjectileSimulationTest {
+
+    private static Instance mockInstance() {
+        Instance instance = mock(Instance.class);
+        when(instance.isRegistered()).thenReturn(true);
+        return instance;
+    }
+
+    private static ProjectileCollisionHandler recordingHandler(List<Point> collisions) {
+        return new ProjectileCollisionHandler() {
+            @Override
+            public boolean canCollide(@NotNull Entity entity) {
+                return true;
+            }
+
+            @Override
+            public void onCollision(@NotNull Point position) {
+                collisions.add(position);
+            }
+        };
+    }
+
+    @Test
+    public void testExpiredProjectileCollidesInPlace() {
+        Instance instance = mockInstance();
+        List<Point> collisions = new ArrayList<>();
+        ProjectileSimulation simulation = new ProjectileSimulation();
+
+        simulation.launch(instance, mock(Entity.class), new Pos(0, 0, 0), new Vec(1, 0, 0), false, 2, null,
+                recordingHandler(collisions));
+        for (int i = 0; i < 3; i++) {
+            simulation.tick();
+        }
+
+        assertEquals(List.of(new Vec(2, 0, 0)), collisions);
+        assertEquals(0, simulation.size());
+    }
+
+    @Test
+    public void testProjectileCollidesWithSolidBlock() {
+        Instance instance = mockInstance();
+        when(instance.getBlock(eq(5), anyInt(), anyInt(), any())).thenReturn(Block.STONE);
+
+        List<Point> collisions = new ArrayList<>();
+        ProjectileSimulation simulation = new ProjectileSimulation();
+
+        simulation.launch(instance, mock(Entity.class), new Pos(0, 0.5, 0.5), new Vec(1, 0, 0), false, 100, null,
+                recordingHandler(collisions));
+        for (int i = 0; i < 10; i++) {
+            simulation.tick();
+        }
+
+        assertEquals(1, collisions.size());
+        assertTrue(collisions.get(0).x() <= 5);
+        assertEquals(0, simulation.size());
+    }
+}
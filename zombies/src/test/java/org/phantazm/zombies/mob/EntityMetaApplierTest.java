@@ -0,0 +1,31 @@
+package org.phantazm.zombies.mob;
+
+import com.github.steanky.ethylene.core.collection.ConfigNode;
+import com.github.steanky.ethylene.core.processor.ConfigProcessor;
+import it.unimi.dsi.fastutil.booleans.BooleanObjectPair;
+import net.minestom.server.entity.metadata.monster.zombie.ZombieMeta;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class EntityMetaApplierTest {
+    private static final Map<BooleanObjectPair<String>, ConfigProcessor<?>> PROCESSORS =
+            Map.of(BooleanObjectPair.of(false, "boolean"), ConfigProcessor.BOOLEAN);
+
+    @Test
+    public void testCompiledSetterAppliedToEveryMeta() {
+        EntityMetaApplier applier =
+                EntityMetaApplier.compile(ZombieMeta.class, ConfigNode.of("baby", true), PROCESSORS);
+
+        ZombieMeta first = mock(ZombieMeta.class);
+        ZombieMeta second = mock(ZombieMeta.class);
+        applier.apply(first);
+        applier.apply(second);
+
+        verify(first).setBaby(true);
+        verify(second).setBaby(true);
+    }
+}
@@ -0,0 +1,40 @@
+package org.phantazm.zombies.mob;
+
+import org.junit.jupiter.api.Test;
+import org.phantazm.mob.PhantazmMob;
+import org.phantazm.mob.goal.CollectionGoalApplier;
+import org.phantazm.mob.goal.UseSkillGoal;
+import org.phantazm.mob.skill.Skill;
+import org.phantazm.mob.skill.SkillState;
+import org.phantazm.mob.skill.TimerSkill;
+import org.phantazm.proxima.bindings.minestom.goal.ProximaGoal;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.*;
+
+public class MobBlueprintTest {
+    @Test
+    public void testStateDeclaredForSkillsOnlyReachableThroughGoals() {
+        Skill delegate = mock(Skill.class);
+        TimerSkill timer = new TimerSkill(new TimerSkill.Data(-1, 1, true, false, "delegate"), delegate);
+        UseSkillGoal useSkillGoal = new UseSkillGoal(new UseSkillGoal.Data("skill", 1), timer);
+        CollectionGoalApplier applier = new CollectionGoalApplier(List.of(useSkillGoal));
+
+        SkillState state = MobBlueprint.declareState(Map.of(), List.of(applier)).newState();
+        PhantazmMob mob = mock(PhantazmMob.class);
+        when(mob.skillState()).thenReturn(state);
+
+        ProximaGoal goal = useSkillGoal.create(mob);
+        assertDoesNotThrow(() -> {
+            goal.tick(0);
+            goal.tick(100);
+        });
+
+        timer.tick(200, mob);
+        timer.tick(300, mob);
+        verify(delegate).use(mob);
+    }
+}
@@ -0,0 +1,95 @@
+package org.phantazm.zombies.scene;
+
+import net.kyori.adventure.key.Key;
+import org.junit.jupiter.api.Test;
+import org.phantazm.core.game.scene.RouteResult;
+import org.phantazm.core.game.scene.SceneProvider;
+import org.phantazm.core.game.scene.SceneTicker;
+import org.phantazm.core.player.PlayerView;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ZombiesSceneRouterTest {
+    private static final Key MAP = Key.key("phantazm", "test_map");
+
+    private static ZombiesScene scene() {
+        ZombiesScene scene = mock(ZombiesScene.class);
+        when(scene.getUuid()).thenReturn(UUID.randomUUID());
+        when(scene.join(any())).thenReturn(RouteResult.SUCCESSFUL);
+        when(scene.leave(any())).thenReturn(RouteResult.SUCCESSFUL);
+        when(scene.getPlayers()).thenReturn(Map.of());
+        return scene;
+    }
+
+    private static ZombiesJoinRequest request(UUID player) {
+        PlayerView view = mock(PlayerView.class);
+        when(view.getUUID()).thenReturn(player);
+        return () -> List.of(view);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testRejoinRoutesToTargetGame() {
+        ZombiesScene first = scene();
+        ZombiesScene second = scene();
+        SceneProvider<ZombiesScene, ZombiesJoinRequest> provider = mock(SceneProvider.class);
+        when(provider.provideScene(any())).thenReturn(Optional.of(first), Optional.of(second));
+        when(provider.getScenes()).thenReturn(List.of(first, second));
+        ZombiesSceneRouter router = new ZombiesSceneRouter(Map.of(MAP, provider));
+
+        UUID firstPlayer = UUID.randomUUID();
+        UUID secondPlayer = UUID.randomUUID();
+        assertTrue(router.join(ZombiesRouteRequest.joinGame(MAP, request(firstPlayer))).success());
+        assertTrue(router.join(ZombiesRouteRequest.joinGame(MAP, request(secondPlayer))).success());
+
+        UUID rejoiner = UUID.randomUUID();
+        ZombiesJoinRequest rejoinRequest = request(rejoiner);
+        assertTrue(router.join(ZombiesRouteRequest.rejoinGame(second.getUuid(), rejoinRequest)).success());
+
+        verify(second).join(rejoinRequest);
+        verify(first, never()).join(rejoinRequest);
+        assertEquals(Optional.of(second), router.getScene(rejoiner));
+        assertEquals(Optional.of(first), router.getGameScene(first.getUuid()));
+        assertEquals(List.of(first, second), List.copyOf(router.getScenes()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testLeaveForgetsPlayer() {
+        ZombiesScene scene = scene();
+        SceneProvider<ZombiesScene, ZombiesJoinRequest> provider = mock(SceneProvider.class);
+        when(provider.provideScene(any())).thenReturn(Optional.of(scene));
+        ZombiesSceneRouter router = new ZombiesSceneRouter(Map.of(MAP, provider));
+
+        UUID player = UUID.randomUUID();
+        router.join(ZombiesRouteRequest.joinGame(MAP, request(player)));
+        assertTrue(router.leave(List.of(player)).success());
+
+        assertTrue(router.getScene(player).isEmpty());
+        assertFalse(router.leave(List.of(player)).success());
+        verify(scene, times(1)).leave(any());
+    }
+
+    @Test
+    public void testRejoinUnknownGameFails() {
+        ZombiesSceneRouter router = new ZombiesSceneRouter(Map.of());
+
+        assertFalse(router.join(ZombiesRouteRequest.rejoinGame(UUID.randomUUID(), request(UUID.randomUUID())))
+                .success());
+    }
+
+    @Test
+    public void testShutdownStopsTicker() {
+        SceneTicker ticker = mock(SceneTicker.class);
+        ZombiesSceneRouter router = new ZombiesSceneRouter(Map.of(), ticker);
+
+        router.shutdown();
+
+        assertTrue(router.isShutdown());
+        verify(ticker).shutdown();
+    }
+}
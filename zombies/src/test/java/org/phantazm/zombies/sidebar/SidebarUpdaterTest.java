@@ -15,6 +15,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
 
 public class SidebarUpdaterTest {
 
@@ -306,6 +307,26 @@ public class SidebarUpdaterTest {
         assertEquals(thirdMessage, lines.get(1).getContent());
     }
 
+    @Test
+    public void testUnchangedLineIsNotResent() {
+        Sidebar mockSidebar = mock(Sidebar.class);
+        SidebarSection section = mock(SidebarSection.class);
+        when(section.getSize()).thenReturn(1);
+        when(section.update(anyLong())).thenReturn(List.of(Optional.of(Component.text("Round 1"))),
+                List.of(Optional.of(Component.text("Round 1"))), List.of(Optional.empty()),
+                List.of(Optional.of(Component.text("Round 2"))));
+        updater = new SidebarUpdater(mockSidebar, Collections.singleton(section));
+
+        updater.start();
+        for (int i = 0; i < 4; i++) {
+            updater.tick(i);
+        }
+
+        verify(mockSidebar, times(2)).updateLineContent(any(), any());
+        verify(mockSidebar).updateLineContent("line0", Component.text("Round 1"));
+        verify(mockSidebar).updateLineContent("line0", Component.text("Round 2"));
+    }
+
     @AfterEach
     public void tearDown() {
         if (updater != null) {
@@ -0,0 +1,82 @@
+package org.phantazm.zombies.spawn;
+
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.phantazm.mob.PhantazmMob;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class SpawnQueueTest {
+    private static SpawnPlan plan(int count) {
+        return new SpawnPlan() {
+            private int remaining = count;
+
+            @Override
+            public int remaining() {
+                return remaining;
+            }
+
+            @Override
+            public @Nullable PhantazmMob spawnNext() {
+                if (remaining == 0) {
+                    return null;
+                }
+
+                remaining--;
+                return mock(PhantazmMob.class);
+            }
+        };
+    }
+
+    private static class RecordingListener implements SpawnQueue.Listener {
+        private final List<PhantazmMob> spawned = new ArrayList<>();
+        private int completions;
+
+        @Override
+        public void onSpawn(@Nullable PhantazmMob mob) {
+            spawned.add(mob);
+        }
+
+        @Override
+        public void onComplete() {
+            completions++;
+        }
+    }
+
+    @Test
+    public void testSpawnsLimitedPerTick() {
+        SpawnQueue queue = new SpawnQueue(new SpawnBudget(4, Long.MAX_VALUE));
+        RecordingListener listener = new RecordingListener();
+        queue.enqueue(plan(10), listener);
+
+        queue.tick(0);
+        assertEquals(4, listener.spawned.size());
+        assertEquals(6, queue.queuedMobCount());
+
+        queue.tick(0);
+        queue.tick(0);
+        assertEquals(10, listener.spawned.size());
+        assertEquals(1, listener.completions);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testEmptyPlanCompletes() {
+        SpawnQueue queue = new SpawnQueue(new SpawnBudget(1, Long.MAX_VALUE));
+        RecordingListener first = new RecordingListener();
+        RecordingListener second = new RecordingListener();
+        queue.enqueue(plan(0), first);
+        queue.enqueue(plan(1), second);
+
+        queue.tick(0);
+        assertEquals(1, first.completions);
+        assertEquals(1, second.spawned.size());
+        assertEquals(1, second.completions);
+        assertTrue(queue.isEmpty());
+    }
+}
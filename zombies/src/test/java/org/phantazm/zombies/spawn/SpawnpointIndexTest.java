@@ -0,0 +1,104 @@
+package org.phantazm.zombies.spawn;
+
+import net.kyori.adventure.key.Key;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Player;
+import org.junit.jupiter.api.Test;
+import org.phantazm.core.player.PlayerView;
+import org.phantazm.zombies.map.Room;
+import org.phantazm.zombies.map.SpawnruleInfo;
+import org.phantazm.zombies.map.Spawnpoint;
+import org.phantazm.zombies.player.ZombiesPlayer;
+import org.phantazm.zombies.player.ZombiesPlayerMeta;
+import org.phantazm.zombies.player.ZombiesPlayerModule;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SpawnpointIndexTest {
+    private static final int SLA = 30;
+
+    private static Spawnpoint spawnpoint(double x, Room room, boolean usable) {
+        Spawnpoint spawnpoint = mock(Spawnpoint.class);
+        when(spawnpoint.isUsable()).thenReturn(usable);
+        when(spawnpoint.room()).thenReturn(room);
+        when(spawnpoint.spawnPoint()).thenReturn(new Vec(x, 0, 0));
+        when(spawnpoint.spawnrule()).thenReturn(
+                new SpawnruleInfo(Key.key("phantazm:rule"), Key.key("phantazm:type"), Set.of(), true, SLA));
+        return spawnpoint;
+    }
+
+    private static Spawnpoint spawnpoint(double x) {
+        return spawnpoint(x, null, true);
+    }
+
+    private static ZombiesPlayer player(double x, boolean canTriggerSLA) {
+        Player player = mock(Player.class);
+        when(player.getPosition()).thenReturn(new Pos(x, 0, 0));
+
+        PlayerView view = mock(PlayerView.class);
+        when(view.getPlayer()).thenReturn(Optional.of(player));
+
+        ZombiesPlayerMeta meta = new ZombiesPlayerMeta();
+        meta.setCanTriggerSLA(canTriggerSLA);
+
+        ZombiesPlayerModule module = mock(ZombiesPlayerModule.class);
+        when(module.getPlayerView()).thenReturn(view);
+        when(module.getMeta()).thenReturn(meta);
+
+        ZombiesPlayer zombiesPlayer = mock(ZombiesPlayer.class);
+        when(zombiesPlayer.module()).thenReturn(module);
+        return zombiesPlayer;
+    }
+
+    @Test
+    public void testUnusableSpawnpointsAreNotIndexed() {
+        Spawnpoint usable = spawnpoint(5);
+        SpawnpointIndex index = new SpawnpointIndex(List.of(usable, spawnpoint(5, null, false)));
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(usable), index.findCandidates(List.of(player(0, true))));
+    }
+
+    @Test
+    public void testCandidatesAreInRangeAndClosestFirst() {
+        Spawnpoint near = spawnpoint(5);
+        Spawnpoint middle = spawnpoint(10);
+        Spawnpoint far = spawnpoint(20);
+        Spawnpoint outOfRange = spawnpoint(100);
+        SpawnpointIndex index = new SpawnpointIndex(List.of(middle, outOfRange, far, near));
+
+        assertEquals(List.of(near, middle, far), index.findCandidates(List.of(player(0, true))));
+    }
+
+    @Test
+    public void testClosedRoomsAreSkipped() {
+        Room room = mock(Room.class);
+        Spawnpoint inRoom = spawnpoint(5, room, true);
+        Spawnpoint roomless = spawnpoint(10);
+        SpawnpointIndex index = new SpawnpointIndex(List.of(inRoom, roomless));
+        List<ZombiesPlayer> players = List.of(player(0, true));
+
+        when(room.isOpen()).thenReturn(false);
+        assertEquals(List.of(roomless), index.findCandidates(players));
+
+        when(room.isOpen()).thenReturn(true);
+        assertEquals(List.of(inRoom, roomless), index.findCandidates(players));
+    }
+
+    @Test
+    public void testOnlyTriggeringPlayersBringSpawnpointsInRange() {
+        Spawnpoint nearBystander = spawnpoint(5);
+        Spawnpoint nearTrigger = spawnpoint(90);
+        SpawnpointIndex index = new SpawnpointIndex(List.of(nearBystander, nearTrigger));
+
+        assertEquals(List.of(nearTrigger), index.findCandidates(List.of(player(0, false), player(100, true))));
+        assertEquals(List.of(), index.findCandidates(List.of(player(0, false))));
+    }
+}